@@ -0,0 +1,82 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COLOUR;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DRESSCODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SIZE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.garment.AttributesContainsKeywordsPredicate;
+import seedu.address.model.garment.Garment;
+import seedu.address.model.util.BenchmarkDataUtil;
+
+/**
+ * Compares {@link MatchCommand} against the previous implementation,
+ * which built a {@code find} command string from the match lists and tokenized it again.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MatchCommandBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private Model model;
+    private Garment garmentToMatch;
+
+    @Setup
+    public void setUp() {
+        model = new ModelManager(BenchmarkDataUtil.getGeneratedWardrobe(size), new UserPrefs());
+        garmentToMatch = model.getFilteredGarmentList().get(0);
+    }
+
+    /**
+     * Matches the first garment of the full list.
+     */
+    @Benchmark
+    public int match() throws CommandException {
+        model.updateFilteredGarmentList(Model.PREDICATE_SHOW_ALL_GARMENTS);
+        new MatchCommand(Index.fromZeroBased(0)).execute(model);
+        return model.getFilteredGarmentList().size();
+    }
+
+    /**
+     * Matches the first garment of the full list through a generated {@code find} command.
+     */
+    @Benchmark
+    public int matchByKeywords() {
+        model.updateFilteredGarmentList(Model.PREDICATE_SHOW_ALL_GARMENTS);
+        String keywordArgs = " c/" + String.join(" ", garmentToMatch.getColour().getMatches())
+                + " r/" + String.join(" ", garmentToMatch.getDressCode().getMatches())
+                + " t/" + String.join(" ", garmentToMatch.getType().getMatches());
+        model.updateFilteredGarmentList(new AttributesContainsKeywordsPredicate(ArgumentTokenizer.tokenize(
+                keywordArgs, PREFIX_NAME, PREFIX_SIZE, PREFIX_COLOUR, PREFIX_DRESSCODE, PREFIX_DESCRIPTION,
+                PREFIX_TYPE)));
+        return model.getFilteredGarmentList().size();
+    }
+}
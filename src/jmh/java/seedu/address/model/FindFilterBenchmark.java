@@ -0,0 +1,74 @@
+package seedu.address.model;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COLOUR;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DRESSCODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SIZE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.model.garment.AttributesContainsKeywordsPredicate;
+import seedu.address.model.util.BenchmarkDataUtil;
+
+/**
+ * Measures filtering the garment list shown to the user by a {@code find} query, through
+ * {@link ModelManager#updateFilteredGarmentList}, which queries the {@link GarmentIndex} and then refilters
+ * the {@code FilteredList} over every garment.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FindFilterBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    @Param({" c/blue red r/formal", " n/Garment s/30"})
+    private String query;
+
+    private Model model;
+    private AttributesContainsKeywordsPredicate predicate;
+
+    @Setup
+    public void setUp() {
+        model = new ModelManager(BenchmarkDataUtil.getGeneratedWardrobe(size), new UserPrefs());
+        predicate = new AttributesContainsKeywordsPredicate(ArgumentTokenizer.tokenize(query, PREFIX_NAME,
+                PREFIX_SIZE, PREFIX_COLOUR, PREFIX_DRESSCODE, PREFIX_DESCRIPTION, PREFIX_TYPE));
+    }
+
+    /**
+     * Filters the list by the query, answered from the garment index.
+     */
+    @Benchmark
+    public int find() {
+        model.updateFilteredGarmentList(predicate);
+        return model.getFilteredGarmentList().size();
+    }
+
+    /**
+     * Filters the list by the query, tested on every garment without the index.
+     */
+    @Benchmark
+    public int findByScan() {
+        model.updateFilteredGarmentList(predicate::test);
+        return model.getFilteredGarmentList().size();
+    }
+}
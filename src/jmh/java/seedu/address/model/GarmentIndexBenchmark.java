@@ -0,0 +1,64 @@
+package seedu.address.model;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COLOUR;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DRESSCODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SIZE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.model.garment.AttributesContainsKeywordsPredicate;
+import seedu.address.model.util.BenchmarkDataUtil;
+
+/**
+ * Measures answering {@code find} queries from the {@link GarmentIndex}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GarmentIndexBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    @Param({" c/blue red r/formal", " d/home t/upper lower", " n/Garment s/30"})
+    private String query;
+
+    private GarmentIndex index;
+    private AttributesContainsKeywordsPredicate predicate;
+
+    @Setup
+    public void setUp() {
+        index = new GarmentIndex();
+        index.reset(BenchmarkDataUtil.getGeneratedGarments(size));
+        predicate = new AttributesContainsKeywordsPredicate(ArgumentTokenizer.tokenize(query, PREFIX_NAME,
+                PREFIX_SIZE, PREFIX_COLOUR, PREFIX_DRESSCODE, PREFIX_DESCRIPTION, PREFIX_TYPE));
+    }
+
+    /**
+     * Computes the slots of the garments matching the query.
+     */
+    @Benchmark
+    public BitSet query() {
+        return predicate.getMatchingSlots(index);
+    }
+}
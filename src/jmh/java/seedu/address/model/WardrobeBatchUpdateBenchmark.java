@@ -0,0 +1,95 @@
+package seedu.address.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.collections.transformation.FilteredList;
+import seedu.address.model.garment.Garment;
+import seedu.address.model.garment.LastUse;
+import seedu.address.model.util.BenchmarkDataUtil;
+
+/**
+ * Measures editing many garments of a wardrobe observed by a filtered list, as the model's is, with each edit
+ * reported to the filtered list on its own against the edits reported together by
+ * {@link Wardrobe#batchUpdate(Runnable)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class WardrobeBatchUpdateBenchmark {
+
+    /** Number of garments edited, then reverted, by each benchmark. */
+    private static final int EDIT_COUNT = 1000;
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private Wardrobe wardrobe;
+    private FilteredList<Garment> filteredGarments;
+    private final List<Garment> originalGarments = new ArrayList<>();
+    private final List<Garment> editedGarments = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        List<Garment> garments = BenchmarkDataUtil.getGeneratedGarments(size);
+        wardrobe = new Wardrobe();
+        wardrobe.setGarments(garments);
+        filteredGarments = new FilteredList<>(wardrobe.getGarmentList(), garment -> true);
+        for (int i = 0; i < EDIT_COUNT; i++) {
+            Garment garment = garments.get(i * (size / EDIT_COUNT));
+            originalGarments.add(garment);
+            editedGarments.add(new Garment(garment.getName(), garment.getSize(), garment.getColour(),
+                    garment.getDressCode(), garment.getType(), garment.getDescriptions(),
+                    new LastUse(LocalDate.of(2021, 4, 1))));
+        }
+    }
+
+    /**
+     * Edits the garments one change at a time, then reverts them.
+     */
+    @Benchmark
+    public int editEach() {
+        edit();
+        revert();
+        return filteredGarments.size();
+    }
+
+    /**
+     * Edits the garments in one batch, then reverts them in another.
+     */
+    @Benchmark
+    public int editInBatch() {
+        wardrobe.batchUpdate(this::edit);
+        wardrobe.batchUpdate(this::revert);
+        return filteredGarments.size();
+    }
+
+    private void edit() {
+        for (int i = 0; i < EDIT_COUNT; i++) {
+            wardrobe.setGarment(originalGarments.get(i), editedGarments.get(i));
+        }
+    }
+
+    private void revert() {
+        for (int i = 0; i < EDIT_COUNT; i++) {
+            wardrobe.setGarment(editedGarments.get(i), originalGarments.get(i));
+        }
+    }
+}
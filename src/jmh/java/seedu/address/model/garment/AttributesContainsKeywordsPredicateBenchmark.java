@@ -0,0 +1,68 @@
+package seedu.address.model.garment;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COLOUR;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DRESSCODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SIZE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.model.util.BenchmarkDataUtil;
+
+/**
+ * Measures filtering a whole wardrobe with the predicate built by the {@code find} command.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AttributesContainsKeywordsPredicateBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    @Param({" c/blue red r/formal", " d/home t/upper lower", " n/Garment s/30"})
+    private String query;
+
+    private List<Garment> garments;
+    private AttributesContainsKeywordsPredicate predicate;
+
+    @Setup
+    public void setUp() {
+        garments = BenchmarkDataUtil.getGeneratedGarments(size);
+        predicate = new AttributesContainsKeywordsPredicate(ArgumentTokenizer.tokenize(query, PREFIX_NAME,
+                PREFIX_SIZE, PREFIX_COLOUR, PREFIX_DRESSCODE, PREFIX_DESCRIPTION, PREFIX_TYPE));
+    }
+
+    /**
+     * Counts the garments accepted by the predicate.
+     */
+    @Benchmark
+    public int filter() {
+        int matches = 0;
+        for (Garment garment : garments) {
+            if (predicate.test(garment)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.model.garment;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.BenchmarkDataUtil;
+
+/**
+ * Compares sorting a large garment list with {@link GarmentComparator} against the previous comparator,
+ * which parsed both {@code LastUse} strings on every comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GarmentSortBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    private List<Garment> garments;
+
+    @Setup
+    public void setUp() {
+        garments = BenchmarkDataUtil.getGeneratedGarments(size);
+    }
+
+    /**
+     * Sorts a copy of the garments, parsing both dates on every comparison.
+     */
+    @Benchmark
+    public List<Garment> sortByParsedDate() {
+        List<Garment> copy = new ArrayList<>(garments);
+        copy.sort(new ParsingGarmentComparator());
+        return copy;
+    }
+
+    /**
+     * Sorts a copy of the garments by their precomputed epoch days.
+     */
+    @Benchmark
+    public List<Garment> sortByEpochDay() {
+        List<Garment> copy = new ArrayList<>(garments);
+        copy.sort(new GarmentComparator());
+        return copy;
+    }
+
+    /**
+     * The comparator as it was before {@code LastUse} held a precomputed epoch day.
+     */
+    private static class ParsingGarmentComparator implements Comparator<Garment> {
+        @Override
+        public int compare(Garment o1, Garment o2) {
+            if (o1.getLastUse().value.equals("Never") && !o2.getLastUse().value.equals("Never")) {
+                return -1;
+            } else if (o2.getLastUse().value.equals("Never") && !o1.getLastUse().value.equals("Never")) {
+                return 1;
+            } else if (o1.getLastUse().value.equals("Never") && o2.getLastUse().value.equals("Never")) {
+                return 0;
+            }
+
+            LocalDate d1 = LocalDate.parse(o1.getLastUse().value);
+            LocalDate d2 = LocalDate.parse(o2.getLastUse().value);
+
+            return d1.compareTo(d2);
+        }
+    }
+}
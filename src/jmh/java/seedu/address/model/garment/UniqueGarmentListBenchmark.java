@@ -0,0 +1,108 @@
+package seedu.address.model.garment;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.collections.transformation.FilteredList;
+import seedu.address.model.util.BenchmarkDataUtil;
+
+/**
+ * Measures the identity check and single garment write paths of {@link UniqueGarmentList}, and what shifting the
+ * elements of an array-backed list costs within them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class UniqueGarmentListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private UniqueGarmentList uniqueGarmentList;
+    private UniqueGarmentList filteredGarmentList;
+    private FilteredList<Garment> filteredGarments;
+    private ArrayList<Garment> arrayList;
+    private Garment existingGarment;
+    private Garment selectedGarment;
+    private Garment newGarment;
+
+    @Setup
+    public void setUp() {
+        List<Garment> garments = BenchmarkDataUtil.getGeneratedGarments(size);
+        uniqueGarmentList = new UniqueGarmentList();
+        uniqueGarmentList.setGarments(garments);
+        filteredGarmentList = new UniqueGarmentList();
+        filteredGarmentList.setGarments(garments);
+        // held in a field, as the list only holds its listeners weakly
+        filteredGarments = new FilteredList<>(filteredGarmentList.asUnmodifiableObservableList());
+        arrayList = new ArrayList<>(garments);
+        existingGarment = garments.get(size / 2);
+        selectedGarment = new Garment(existingGarment.getName(), existingGarment.getSize(),
+                existingGarment.getColour(), existingGarment.getDressCode(), existingGarment.getType(),
+                existingGarment.getDescriptions(), new LastUse(LocalDate.of(2021, 4, 1)));
+        newGarment = BenchmarkDataUtil.getGeneratedGarment(size, new Random(BenchmarkDataUtil.SEED));
+    }
+
+    /**
+     * Checks whether a garment with the same identity is in the list.
+     */
+    @Benchmark
+    public boolean contains() {
+        return uniqueGarmentList.contains(existingGarment);
+    }
+
+    /**
+     * Adds a garment and removes it again, leaving the list unchanged.
+     */
+    @Benchmark
+    public void addThenRemove() {
+        uniqueGarmentList.add(newGarment);
+        uniqueGarmentList.remove(newGarment);
+    }
+
+    /**
+     * Adds a garment and removes it again while a filtered list, like the one shown to the user, listens.
+     */
+    @Benchmark
+    public void addThenRemoveFiltered() {
+        filteredGarmentList.add(newGarment);
+        filteredGarmentList.remove(newGarment);
+    }
+
+    /**
+     * Inserts a garment in the middle of a plain array-backed list and removes it again,
+     * which is the shifting an insertion and removal in the middle of {@link UniqueGarmentList} do.
+     */
+    @Benchmark
+    public void shiftThenUnshift() {
+        arrayList.add(size / 2, newGarment);
+        arrayList.remove(size / 2);
+    }
+
+    /**
+     * Updates the last use date of a garment and reverts it, as two consecutive selects would.
+     */
+    @Benchmark
+    public void selectThenRevert() {
+        uniqueGarmentList.setGarment(existingGarment, selectedGarment);
+        uniqueGarmentList.setGarment(selectedGarment, existingGarment);
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.model.outfit;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.garment.Garment;
+import seedu.address.model.util.BenchmarkDataUtil;
+
+/**
+ * Measures putting together the best ranked outfits of a large wardrobe, with the search split across
+ * {@code parallelism} threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class OutfitGeneratorBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    @Param({"5", "100"})
+    private int count;
+
+    @Param({"1", "8"})
+    private int parallelism;
+
+    private List<Garment> garments;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        garments = BenchmarkDataUtil.getGeneratedWardrobe(size).getGarmentList();
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Shuts down the pool the search ran on.
+     */
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Buckets the garments and searches them for the best outfits.
+     */
+    @Benchmark
+    public List<Outfit> generate() {
+        return new OutfitGenerator(garments, pool).generate(count);
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.model.util;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.Wardrobe;
+import seedu.address.model.garment.Colour;
+import seedu.address.model.garment.DressCode;
+import seedu.address.model.garment.Garment;
+import seedu.address.model.garment.LastUse;
+import seedu.address.model.garment.Name;
+import seedu.address.model.garment.Size;
+import seedu.address.model.garment.Type;
+
+/**
+ * Contains utility methods for generating large, reproducible wardrobes for benchmarks.
+ */
+public class BenchmarkDataUtil {
+
+    public static final long SEED = 42;
+
+    private static final String[] DRESSCODES = {"formal", "casual", "active"};
+    private static final String[] TYPES = {"upper", "lower", "footwear"};
+    private static final String[] DESCRIPTIONS = {"home", "school", "work", "gym", "torn", "stained", "loose",
+        "wrinkled", "new", "favourite", "missing button", "needs polishing"};
+    private static final long FIRST_EPOCH_DAY = LocalDate.of(2019, 1, 1).toEpochDay();
+
+    /**
+     * Returns {@code count} garments with unique names and randomly chosen attributes.
+     * The same {@code count} always produces the same garments.
+     */
+    public static List<Garment> getGeneratedGarments(int count) {
+        Random random = new Random(SEED);
+        List<Garment> garments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            garments.add(getGeneratedGarment(i, random));
+        }
+        return garments;
+    }
+
+    /**
+     * Returns a wardrobe containing {@link #getGeneratedGarments(int)}.
+     */
+    public static Wardrobe getGeneratedWardrobe(int count) {
+        Wardrobe wardrobe = new Wardrobe();
+        wardrobe.setGarments(getGeneratedGarments(count));
+        return wardrobe;
+    }
+
+    /**
+     * Returns a garment named after {@code id} with attributes drawn from {@code random}.
+     */
+    public static Garment getGeneratedGarment(int id, Random random) {
+        String lastUse = random.nextInt(10) == 0
+                ? LastUse.NEVER
+                : LocalDate.ofEpochDay(FIRST_EPOCH_DAY + random.nextInt(800)).toString();
+        return new Garment(new Name("Garment " + id),
+                new Size(String.valueOf(20 + random.nextInt(30))),
+                new Colour(Colour.COLOURARRAY[random.nextInt(Colour.COLOURARRAY.length)]),
+                new DressCode(DRESSCODES[random.nextInt(DRESSCODES.length)]),
+                new Type(TYPES[random.nextInt(TYPES.length)]),
+                SampleDataUtil.getDescriptionSet(DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)],
+                        DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)]),
+                new LastUse(lastUse));
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.ReadOnlyWardrobe;
+import seedu.address.model.Wardrobe;
+import seedu.address.model.util.BenchmarkDataUtil;
+
+/**
+ * Compares loading and saving a large wardrobe file in the binary format of {@link BinaryWardrobeStorage}
+ * against the json format of {@link JsonWardrobeStorage}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BinaryWardrobeStorageBenchmark {
+
+    @Param({"100000"})
+    private int size;
+
+    private Path folder;
+    private JsonWardrobeStorage jsonStorage;
+    private BinaryWardrobeStorage binaryStorage;
+    private Wardrobe wardrobe;
+
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("wardrobe-benchmark");
+        jsonStorage = new JsonWardrobeStorage(folder.resolve("wardrobe.json"));
+        binaryStorage = new BinaryWardrobeStorage(folder.resolve("wardrobe" + BinaryWardrobeStorage.FILE_EXTENSION));
+        wardrobe = BenchmarkDataUtil.getGeneratedWardrobe(size);
+        jsonStorage.saveWardrobe(wardrobe);
+        binaryStorage.saveWardrobe(wardrobe);
+    }
+
+    /**
+     * Deletes the files written by the benchmarks.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(jsonStorage.getWardrobeFilePath());
+        Files.deleteIfExists(binaryStorage.getWardrobeFilePath());
+        Files.deleteIfExists(folder);
+    }
+
+    /**
+     * Streams the json file, converting one garment at a time.
+     */
+    @Benchmark
+    public ReadOnlyWardrobe readJson() throws Exception {
+        return jsonStorage.readWardrobe().get();
+    }
+
+    /**
+     * Verifies the checksum of the binary file and decodes it.
+     */
+    @Benchmark
+    public ReadOnlyWardrobe readBinary() throws Exception {
+        return binaryStorage.readWardrobe().get();
+    }
+
+    /**
+     * Streams the garments to the json file.
+     */
+    @Benchmark
+    public void saveJson() throws IOException {
+        jsonStorage.saveWardrobe(wardrobe);
+    }
+
+    /**
+     * Encodes the garments into the binary file.
+     */
+    @Benchmark
+    public void saveBinary() throws IOException {
+        binaryStorage.saveWardrobe(wardrobe);
+    }
+}
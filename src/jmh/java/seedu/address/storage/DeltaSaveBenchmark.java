@@ -0,0 +1,107 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.Wardrobe;
+import seedu.address.model.garment.Garment;
+import seedu.address.model.garment.LastUse;
+import seedu.address.model.util.BenchmarkDataUtil;
+
+/**
+ * Compares saving a single edited garment of a large wardrobe by appending it to the journal of a
+ * {@link JournalWardrobeStorage} against saving the whole wardrobe again in the binary format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DeltaSaveBenchmark {
+
+    @Param({"100000"})
+    private int size;
+
+    private Path folder;
+    private BinaryWardrobeStorage fullStorage;
+    private JournalWardrobeStorage journalStorage;
+    private Wardrobe wardrobe;
+    private final Random random = new Random(BenchmarkDataUtil.SEED);
+
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("wardrobe-benchmark");
+        fullStorage = new BinaryWardrobeStorage(folder.resolve("full" + BinaryWardrobeStorage.FILE_EXTENSION));
+        Path journalFilePath = folder.resolve("journal" + BinaryWardrobeStorage.FILE_EXTENSION);
+        // never compacts, so that only appends are measured
+        journalStorage = new JournalWardrobeStorage(journalFilePath, new BinaryWardrobeStorage(journalFilePath),
+                Long.MAX_VALUE, Runnable::run);
+        wardrobe = BenchmarkDataUtil.getGeneratedWardrobe(size);
+        fullStorage.saveWardrobe(wardrobe);
+        journalStorage.saveWardrobe(wardrobe);
+        wardrobe.takeChanges();
+    }
+
+    /**
+     * Deletes the files written by the benchmarks.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+        Files.deleteIfExists(folder);
+    }
+
+    /**
+     * Edits a garment and appends the change to the journal.
+     */
+    @Benchmark
+    public void saveChange() throws IOException {
+        editRandomGarment();
+        journalStorage.saveWardrobeChanges(wardrobe.takeChanges().toChanges());
+    }
+
+    /**
+     * Edits a garment and saves the whole wardrobe.
+     */
+    @Benchmark
+    public void saveFull() throws IOException {
+        editRandomGarment();
+        wardrobe.takeChanges();
+        fullStorage.saveWardrobe(wardrobe);
+    }
+
+    /**
+     * Marks a random garment as last used on a random day, as selecting an outfit does.
+     */
+    private void editRandomGarment() {
+        Garment target = wardrobe.getGarmentList().get(random.nextInt(size));
+        LastUse lastUse = new LastUse(LocalDate.ofEpochDay(LocalDate.of(2021, 1, 1).toEpochDay()
+                + random.nextInt(365)).toString());
+        wardrobe.setGarment(target, new Garment(target.getName(), target.getSize(), target.getColour(),
+                target.getDressCode(), target.getType(), target.getDescriptions(), lastUse));
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyWardrobe;
+import seedu.address.model.Wardrobe;
+import seedu.address.model.util.BenchmarkDataUtil;
+
+/**
+ * Compares loading and saving a large wardrobe file by streaming it through {@link JsonWardrobeStorage}
+ * against binding the whole document to a {@link JsonSerializableWardrobe} held in a string.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JsonWardrobeStorageBenchmark {
+
+    @Param({"100000"})
+    private int size;
+
+    private Path folder;
+    private Path filePath;
+    private JsonWardrobeStorage storage;
+    private Wardrobe wardrobe;
+
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("wardrobe-benchmark");
+        filePath = folder.resolve("wardrobe.json");
+        storage = new JsonWardrobeStorage(filePath);
+        wardrobe = BenchmarkDataUtil.getGeneratedWardrobe(size);
+        storage.saveWardrobe(wardrobe);
+    }
+
+    /**
+     * Deletes the files written by the benchmarks.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(folder.resolve("bound.json"));
+        Files.deleteIfExists(filePath);
+        Files.deleteIfExists(folder);
+    }
+
+    /**
+     * Reads the whole file into a string and binds it to a {@code JsonSerializableWardrobe} before converting it.
+     */
+    @Benchmark
+    public Wardrobe readBound() throws Exception {
+        return JsonUtil.readJsonFile(filePath, JsonSerializableWardrobe.class).get().toModelType();
+    }
+
+    /**
+     * Streams the file, converting one garment at a time.
+     */
+    @Benchmark
+    public ReadOnlyWardrobe readStreamed() throws Exception {
+        return storage.readWardrobe().get();
+    }
+
+    /**
+     * Builds a {@code JsonSerializableWardrobe} and writes it out as a single string.
+     */
+    @Benchmark
+    public void saveBound() throws IOException {
+        JsonUtil.saveJsonFile(new JsonSerializableWardrobe(wardrobe), folder.resolve("bound.json"));
+    }
+
+    /**
+     * Streams the garments straight from the wardrobe to the file.
+     */
+    @Benchmark
+    public void saveStreamed() throws IOException {
+        storage.saveWardrobe(wardrobe);
+    }
+}
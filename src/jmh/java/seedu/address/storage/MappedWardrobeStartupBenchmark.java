@@ -0,0 +1,130 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.Wardrobe;
+import seedu.address.model.garment.Garment;
+import seedu.address.model.garment.LastUse;
+import seedu.address.model.util.BenchmarkDataUtil;
+
+/**
+ * Measures the time from reading a binary wardrobe file to having a {@code ModelManager} whose first screen of
+ * garments has been read, as at startup, with the file read in full against mapped into memory, and mapped
+ * with a journal of changes to replay, as the app reads it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MappedWardrobeStartupBenchmark {
+
+    /** Number of garments a list view shows on its first screen. */
+    private static final int FIRST_SCREEN_SIZE = 20;
+    /** Number of garments changed in the journal. */
+    private static final int JOURNAL_CHANGE_COUNT = 1000;
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private Path folder;
+    private BinaryWardrobeStorage fullStorage;
+    private BinaryWardrobeStorage mappedStorage;
+    private JournalWardrobeStorage journalStorage;
+
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("wardrobe-benchmark");
+        Path filePath = folder.resolve("wardrobe" + BinaryWardrobeStorage.FILE_EXTENSION);
+        fullStorage = new BinaryWardrobeStorage(filePath);
+        mappedStorage = new BinaryWardrobeStorage(filePath, true);
+        Wardrobe wardrobe = BenchmarkDataUtil.getGeneratedWardrobe(size);
+        fullStorage.saveWardrobe(wardrobe);
+
+        Path journalFilePath = folder.resolve("journal" + BinaryWardrobeStorage.FILE_EXTENSION);
+        // never compacts, so that the journal is replayed on every read
+        journalStorage = new JournalWardrobeStorage(journalFilePath, new BinaryWardrobeStorage(journalFilePath, true),
+                Long.MAX_VALUE, Runnable::run);
+        journalStorage.saveWardrobe(wardrobe);
+        wardrobe.takeChanges();
+        Random random = new Random(BenchmarkDataUtil.SEED);
+        for (int i = 0; i < JOURNAL_CHANGE_COUNT; i++) {
+            Garment target = wardrobe.getGarmentList().get(random.nextInt(size));
+            LastUse lastUse = new LastUse(LocalDate.ofEpochDay(LocalDate.of(2021, 1, 1).toEpochDay()
+                    + random.nextInt(365)).toString());
+            wardrobe.setGarment(target, new Garment(target.getName(), target.getSize(), target.getColour(),
+                    target.getDressCode(), target.getType(), target.getDescriptions(), lastUse));
+        }
+        journalStorage.saveWardrobeChanges(wardrobe.takeChanges().toChanges());
+    }
+
+    /**
+     * Deletes the files written by the benchmarks.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+        Files.deleteIfExists(folder);
+    }
+
+    /**
+     * Decodes and validates every garment before building the model.
+     */
+    @Benchmark
+    public Model startFull() throws Exception {
+        return showFirstScreen(new ModelManager(fullStorage.readWardrobe().get(), new UserPrefs()));
+    }
+
+    /**
+     * Maps the file and decodes only the garments on the first screen.
+     */
+    @Benchmark
+    public Model startMapped() throws Exception {
+        return showFirstScreen(new ModelManager(mappedStorage.readWardrobe().get(), new UserPrefs()));
+    }
+
+    /**
+     * Maps the snapshot, replays a journal of {@value #JOURNAL_CHANGE_COUNT} changes over it and decodes only
+     * the garments on the first screen.
+     */
+    @Benchmark
+    public Model startMappedWithJournal() throws Exception {
+        return showFirstScreen(new ModelManager(journalStorage.readWardrobe().get(), new UserPrefs()));
+    }
+
+    private static Model showFirstScreen(Model model) {
+        int shown = Math.min(FIRST_SCREEN_SIZE, model.getFilteredGarmentList().size());
+        for (int i = 0; i < shown; i++) {
+            model.getFilteredGarmentList().get(i);
+        }
+        return model;
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.ui;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.layout.Region;
+import seedu.address.model.garment.Garment;
+import seedu.address.model.util.BenchmarkDataUtil;
+
+/**
+ * Measures creating the garment cards of the first screen of the garment list, as at startup, with the cards built
+ * in code against loaded from the FXML they used to be loaded from, kept as {@code LegacyGarmentListCard.fxml}
+ * in the benchmark resources.
+ * {@link #showGarmentListPanel()} measures the part of startup the cards are made in: creating the garment list
+ * panel and laying out its first screen in a window of the default size.
+ *
+ * Needs a display, as nodes can only be created once the JavaFX toolkit has started. Run with {@code -prof gc}
+ * to compare the memory allocated per screen as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GarmentCardBenchmark {
+
+    /** Number of garments a list view shows on its first screen. */
+    private static final int FIRST_SCREEN_SIZE = 20;
+    /** Number of garments in the wardrobe shown by the garment list panel. */
+    private static final int WARDROBE_SIZE = 10_000;
+    private static final double WINDOW_WIDTH = 740;
+    private static final double WINDOW_HEIGHT = 600;
+
+    private final URL cardFxmlUrl = GarmentCardBenchmark.class.getResource("/view/LegacyGarmentListCard.fxml");
+    private List<Garment> garments;
+
+    @Setup
+    public void setUp() {
+        Platform.startup(() -> {});
+        Garment.initialiseSamples();
+        SampleImageCache.preloadAll();
+        garments = BenchmarkDataUtil.getGeneratedGarments(WARDROBE_SIZE);
+    }
+
+    /**
+     * Loads a card from FXML for each garment on the first screen.
+     */
+    @Benchmark
+    public List<Node> loadFirstScreenFromFxml() throws IOException {
+        List<Node> cards = new ArrayList<>(FIRST_SCREEN_SIZE);
+        for (int i = 0; i < FIRST_SCREEN_SIZE; i++) {
+            cards.add(FXMLLoader.load(cardFxmlUrl));
+        }
+        return cards;
+    }
+
+    /**
+     * Builds a card showing each garment on the first screen.
+     */
+    @Benchmark
+    public List<Node> buildFirstScreen() {
+        List<Node> cards = new ArrayList<>(FIRST_SCREEN_SIZE);
+        for (int i = 0; i < FIRST_SCREEN_SIZE; i++) {
+            cards.add(new GarmentCard(garments.get(i), i + 1).getRoot());
+        }
+        return cards;
+    }
+
+    /**
+     * Creates the garment list panel and lays out its first screen, which creates the cards shown on it.
+     */
+    @Benchmark
+    public Region showGarmentListPanel() {
+        GarmentListPanel panel = new GarmentListPanel(FXCollections.observableList(garments));
+        Scene scene = new Scene(panel.getRoot(), WINDOW_WIDTH, WINDOW_HEIGHT);
+        scene.getStylesheets().add("view/DarkTheme.css");
+        panel.getRoot().applyCss();
+        panel.getRoot().layout();
+        return panel.getRoot();
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.scene.Scene;
+import javafx.scene.control.ListView;
+import javafx.scene.image.Image;
+import seedu.address.model.garment.Garment;
+import seedu.address.model.util.BenchmarkDataUtil;
+
+/**
+ * Compares the sample image work done for each {@code GarmentCard} built, decoding the full-size image as cards
+ * used to against looking it up in {@link SampleImageCache}. {@link #scrollOneScreen()} measures the frame time
+ * this goes into: scrolling the garment list one screen and laying it out, which shows a new garment on each card.
+ *
+ * Run with {@code -prof gc} to compare heap use as well: {@code gc.alloc.rate.norm} is the memory allocated per
+ * card, which for {@link #decodeFullSize()} is the pixels each card used to hold on to.
+ * Needs a display, as images can only be decoded once the JavaFX toolkit has started.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SampleImageBenchmark {
+
+    /** Number of garments in the list scrolled through. */
+    private static final int WARDROBE_SIZE = 10_000;
+    /** Number of garments a list view shows on one screen. */
+    private static final int SCREEN_SIZE = 20;
+    private static final double WINDOW_WIDTH = 740;
+    private static final double WINDOW_HEIGHT = 600;
+
+    private final List<String> samplePaths = new ArrayList<>();
+    private int next;
+    private ListView<?> garmentListView;
+    private int firstShown;
+
+    @Setup
+    public void setUp() {
+        Platform.startup(() -> {});
+        Garment.initialiseSamples();
+        Garment.SAMPLES.values().forEach(samplesByType -> samplePaths.addAll(samplesByType.values()));
+        SampleImageCache.preloadAll();
+
+        GarmentListPanel panel = new GarmentListPanel(
+                FXCollections.observableList(BenchmarkDataUtil.getGeneratedGarments(WARDROBE_SIZE)));
+        new Scene(panel.getRoot(), WINDOW_WIDTH, WINDOW_HEIGHT).getStylesheets().add("view/DarkTheme.css");
+        garmentListView = (ListView<?>) panel.getRoot().lookup(".list-view");
+        panel.getRoot().applyCss();
+        panel.getRoot().layout();
+    }
+
+    /**
+     * Decodes the next sample image at full size.
+     */
+    @Benchmark
+    public Image decodeFullSize() {
+        return new Image(nextSamplePath());
+    }
+
+    /**
+     * Looks up the next sample image in the cache.
+     */
+    @Benchmark
+    public Image getCached() {
+        return SampleImageCache.getImage(nextSamplePath());
+    }
+
+    /**
+     * Scrolls the garment list down one screen, to the start once it reaches the end, and lays it out.
+     */
+    @Benchmark
+    public ListView<?> scrollOneScreen() {
+        firstShown = (firstShown + SCREEN_SIZE) % (WARDROBE_SIZE - SCREEN_SIZE);
+        garmentListView.scrollTo(firstShown);
+        garmentListView.layout();
+        return garmentListView;
+    }
+
+    private String nextSamplePath() {
+        next = (next + 1) % samplePaths.size();
+        return samplePaths.get(next);
+    }
+}
@@ -6,13 +6,16 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandRunner;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.Model;
@@ -21,17 +24,15 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.ReadOnlyWardrobe;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.Wardrobe;
-import seedu.address.model.garment.Colour;
-import seedu.address.model.garment.DressCode;
 import seedu.address.model.garment.Garment;
-import seedu.address.model.garment.Type;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.JsonUserPrefsStorage;
-import seedu.address.storage.JsonWardrobeStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WardrobeFileWatcher;
 import seedu.address.storage.WardrobeStorage;
+import seedu.address.storage.WriteBehindWardrobeSaver;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -46,7 +47,10 @@ public class MainApp extends Application {
 
     protected Ui ui;
     protected Logic logic;
+    protected CommandRunner commandRunner;
     protected Storage storage;
+    protected WriteBehindWardrobeSaver wardrobeSaver;
+    protected WardrobeFileWatcher wardrobeWatcher;
     protected Model model;
     protected Config config;
 
@@ -60,16 +64,20 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        WardrobeStorage wardrobeStorage = new JsonWardrobeStorage(userPrefs.getWardrobeFilePath());
+        WardrobeStorage wardrobeStorage = StorageManager.createWardrobeStorage(userPrefs.getWardrobeFilePath(),
+                userPrefs.getWardrobeShardCount());
         storage = new StorageManager(wardrobeStorage, userPrefsStorage);
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        wardrobeSaver = new WriteBehindWardrobeSaver(storage);
+        logic = new LogicManager(model, wardrobeSaver);
+        commandRunner = new CommandRunner(logic, Platform::runLater);
+        wardrobeWatcher = initWardrobeWatcher(storage, wardrobeSaver, commandRunner);
 
-        ui = new UiManager(logic);
+        ui = new UiManager(logic, commandRunner);
     }
 
     /**
@@ -87,8 +95,7 @@ public class MainApp extends Application {
             }
             initialData = wardrobeOptional.orElseGet(SampleDataUtil::getSampleWardrobe);
         } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty Wardrobe");
-            initialData = new Wardrobe();
+            initialData = readBackupWardrobe(storage);
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty Wardrobe");
             initialData = new Wardrobe();
@@ -97,6 +104,42 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Returns the wardrobe in the backup of {@code storage}'s wardrobe file, kept by its last save. <br>
+     * An empty wardrobe will be used instead if there is no backup, or errors occur when reading it.
+     */
+    private ReadOnlyWardrobe readBackupWardrobe(Storage storage) {
+        Path backupFilePath = FileUtil.getBackupFilePath(storage.getWardrobeFilePath());
+        try {
+            Optional<ReadOnlyWardrobe> backupOptional = storage.readWardrobe(backupFilePath);
+            if (backupOptional.isPresent()) {
+                logger.warning("Data file not in the correct format. Will be starting with the backup at "
+                        + backupFilePath);
+                return backupOptional.get();
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Problem while reading from the backup file " + backupFilePath + ": " + e);
+        }
+        logger.warning("Data file not in the correct format. Will be starting with an empty Wardrobe");
+        return new Wardrobe();
+    }
+
+    /**
+     * Returns a {@code WardrobeFileWatcher} that reloads {@code storage}'s wardrobe on {@code commandRunner}'s
+     * command thread, in order with the commands, or null if the wardrobe file's folder cannot be watched.
+     */
+    private WardrobeFileWatcher initWardrobeWatcher(Storage storage, WriteBehindWardrobeSaver wardrobeSaver,
+            CommandRunner commandRunner) {
+        try {
+            return new WardrobeFileWatcher(storage, wardrobeSaver, commandRunner::reloadWardrobe,
+                    commandRunner::runInOrder);
+        } catch (IOException e) {
+            logger.warning("Could not watch the data file for changes. Changes made by other programs will only "
+                    + "be picked up on restart: " + StringUtil.getDetails(e));
+            return null;
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -172,20 +215,33 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting nufash " + MainApp.VERSION);
-        Colour.initialiseMatches(); //INITIALISE MATCHING HASHMAP
-        Type.initialiseMatches();
-        DressCode.initialiseMatches();
         Garment.initialiseSamples(); //INITIALISE SAMPLE HASHMAP
         ui.start(primaryStage);
+        if (wardrobeWatcher != null) {
+            wardrobeWatcher.start();
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Wardrobe ] =============================");
+        try {
+            if (wardrobeWatcher != null) {
+                wardrobeWatcher.close();
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to stop watching the data file " + StringUtil.getDetails(e));
+        }
+        commandRunner.close();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            wardrobeSaver.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save wardrobe " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -9,5 +9,7 @@ public class Messages {
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_GARMENT_DISPLAYED_INDEX = "The garment index provided is invalid";
     public static final String MESSAGE_GARMENTS_LISTED_OVERVIEW = "%1$d garments listed!";
+    public static final String MESSAGE_UNEXPECTED_ERROR = "The command could not be completed because of an "
+            + "unexpected error. See the log for details.";
 
 }
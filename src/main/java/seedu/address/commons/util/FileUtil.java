@@ -1,18 +1,34 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+
     private static final String CHARSET = "UTF-8";
 
+    /**
+     * Writes the contents of a file to a channel opened on it.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(FileChannel channel) throws IOException;
+    }
+
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
     }
@@ -73,11 +89,92 @@ public class FileUtil {
     }
 
     /**
-     * Writes given string to a file.
+     * Writes given string to a file, as in {@link #writeAtomically(Path, ContentWriter)}.
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        ByteBuffer bytes = ByteBuffer.wrap(content.getBytes(CHARSET));
+        writeAtomically(file, channel -> {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        });
+    }
+
+    /**
+     * Writes a file through {@code writer} so that a crash leaves either the old or the new contents in place.
+     * The contents are written to a temporary file in the same directory, forced to the disk, and then renamed
+     * over {@code file}. Creates the file and its missing parent directories if they do not exist yet.
+     */
+    public static void writeAtomically(Path file, ContentWriter writer) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = getTempFilePath(file);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            writer.write(channel);
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        moveAtomically(tempFile, file);
+    }
+
+    /**
+     * Renames {@code source} over {@code target}, atomically where the file system allows, and forces the rename
+     * to the disk. {@code source} must be in the same directory as {@code target}.
+     */
+    public static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        forceDirectory(target.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Keeps the current contents of {@code file}, if it exists, as its backup, replacing any earlier backup.
+     * The backup is a hard link where the file system allows, so it costs no copying.
+     */
+    public static void backUp(Path file) throws IOException {
+        if (!isFileExists(file)) {
+            return;
+        }
+
+        Path backupFile = getBackupFilePath(file);
+        Files.deleteIfExists(backupFile);
+        try {
+            Files.createLink(backupFile, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file, backupFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns the path of the temporary file that {@code file} is written to before being renamed into place.
+     */
+    public static Path getTempFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the backup of {@code file} kept by {@link #backUp(Path)}.
+     */
+    public static Path getBackupFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Forces a rename within {@code directory} to the disk, on platforms that allow directories to be opened.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ioe) {
+            // Windows does not allow directories to be opened, so the rename is left to the file system to persist
+        }
     }
 
 }
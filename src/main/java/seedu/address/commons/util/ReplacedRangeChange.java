@@ -0,0 +1,81 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A change to an observable list that replaced the elements of one range with others.
+ *
+ * Unlike the changes {@code ObservableListBase} builds, which copy every removed element when the change is made,
+ * the removed elements are given as a list that is only read when a listener reads it. A list whose elements are
+ * costly to create can thus report their removal without creating those that no listener reads.
+ */
+public class ReplacedRangeChange<E> extends ListChangeListener.Change<E> {
+
+    private final int from;
+    private final List<E> removed;
+    private final int addedSize;
+    /** Whether {@link #next()} has moved onto the only sub-change, and not past it. */
+    private boolean isOnChange;
+    private boolean isDone;
+
+    /**
+     * Creates a change of {@code list} that replaced {@code removed} from {@code from} with {@code addedSize}
+     * elements. {@code removed} must not change from then on.
+     */
+    public ReplacedRangeChange(ObservableList<E> list, int from, List<E> removed, int addedSize) {
+        super(list);
+        requireNonNull(removed);
+        this.from = from;
+        this.removed = Collections.unmodifiableList(removed);
+        this.addedSize = addedSize;
+    }
+
+    @Override
+    public boolean next() {
+        isOnChange = !isDone;
+        isDone = true;
+        return isOnChange;
+    }
+
+    @Override
+    public void reset() {
+        isOnChange = false;
+        isDone = false;
+    }
+
+    @Override
+    public int getFrom() {
+        checkState();
+        return from;
+    }
+
+    @Override
+    public int getTo() {
+        checkState();
+        return from + addedSize;
+    }
+
+    @Override
+    public List<E> getRemoved() {
+        checkState();
+        return removed;
+    }
+
+    @Override
+    protected int[] getPermutation() {
+        checkState();
+        return new int[0];
+    }
+
+    private void checkState() {
+        if (!isOnChange) {
+            throw new IllegalStateException("next() must be called before inspecting the change");
+        }
+    }
+}
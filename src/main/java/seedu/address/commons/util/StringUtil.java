@@ -6,12 +6,15 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.regex.Pattern;
 
 /**
  * Helper functions for handling strings.
  */
 public class StringUtil {
 
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -29,15 +32,24 @@ public class StringUtil {
 
         String preppedWord = word.trim();
         checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        checkArgument(WHITESPACE.split(preppedWord).length == 1, "Word parameter should be a single word");
 
         String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+        String[] wordsInPreppedSentence = WHITESPACE.split(preppedSentence);
 
         return Arrays.stream(wordsInPreppedSentence)
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the whitespace separated words of {@code sentence} in lower case.
+     * Intended for precomputing the words that {@link #containsWordIgnoreCase(String, String)} would compare.
+     */
+    public static String[] toLowerCaseWords(String sentence) {
+        requireNonNull(sentence);
+        return WHITESPACE.split(sentence.trim().toLowerCase());
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
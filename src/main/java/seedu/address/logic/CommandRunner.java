@@ -0,0 +1,221 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ReadOnlyWardrobe;
+import seedu.address.model.Wardrobe;
+import seedu.address.model.garment.Garment;
+
+/**
+ * Runs commands one at a time on a background thread, so that long commands do not hold up the UI, and hands
+ * their results to the UI on {@code uiExecutor}.
+ *
+ * Commands run in the order they are given, and only the command thread changes the model. The UI shows
+ * {@link #getGarmentList()} instead of the model's filtered list, as that list changes on the command thread.
+ * The changes the filtered list reports are collected on the command thread and forwarded to it on
+ * {@code uiExecutor} once the command that made them has finished. Only the garments a change added are copied,
+ * so a command that changes a few garments copies just those, while one that shows a new list, such as
+ * {@code find}, copies the garments it shows.
+ */
+public class CommandRunner {
+
+    private static final Logger logger = LogsCenter.getLogger(CommandRunner.class);
+
+    private final Logic logic;
+    private final Executor commandExecutor;
+    private final Executor uiExecutor;
+    private final boolean ownsExecutor;
+
+    private final ForwardedGarmentList garments;
+    private final ReadOnlyBooleanWrapper busy = new ReadOnlyBooleanWrapper();
+
+    /** The number of commands given and not finished yet. Only used on {@code uiExecutor}. */
+    private int unfinishedCount;
+    /** The changes to the filtered list not yet forwarded to the UI. Only used on the command thread. */
+    private List<ForwardedGarmentList.Edit> garmentListEdits = new ArrayList<>();
+
+    /**
+     * Creates a runner that runs commands on a dedicated background thread and hands their results to the UI on
+     * {@code uiExecutor}. Must be created on the thread that runs {@code uiExecutor}'s tasks, or before the UI
+     * starts.
+     */
+    public CommandRunner(Logic logic, Executor uiExecutor) {
+        this(logic, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-runner");
+            thread.setDaemon(true);
+            return thread;
+        }), uiExecutor, true);
+    }
+
+    /**
+     * Creates a runner that runs commands on {@code commandExecutor} and hands their results to the UI on
+     * {@code uiExecutor}. {@code commandExecutor} must run its tasks one at a time, in the order they are given.
+     */
+    public CommandRunner(Logic logic, Executor commandExecutor, Executor uiExecutor) {
+        this(logic, commandExecutor, uiExecutor, false);
+    }
+
+    private CommandRunner(Logic logic, Executor commandExecutor, Executor uiExecutor, boolean ownsExecutor) {
+        requireAllNonNull(logic, commandExecutor, uiExecutor);
+        this.logic = logic;
+        this.commandExecutor = commandExecutor;
+        this.uiExecutor = uiExecutor;
+        this.ownsExecutor = ownsExecutor;
+
+        garments = new ForwardedGarmentList(getInitialGarmentList(logic));
+        logic.getFilteredGarmentList().addListener((ListChangeListener<Garment>) change ->
+                garmentListEdits.addAll(ForwardedGarmentList.toEdits(change)));
+    }
+
+    /**
+     * Returns a list holding the garments of the filtered list that stays as it is when the model changes.
+     * While the filtered list shows every garment, as it does at startup, the list is a copy of the wardrobe that
+     * shares the garments it has yet to create, so none are created before they are shown.
+     */
+    private static List<Garment> getInitialGarmentList(Logic logic) {
+        ObservableList<Garment> filteredGarments = logic.getFilteredGarmentList();
+        if (filteredGarments.size() == logic.getWardrobe().getGarmentList().size()) {
+            return new Wardrobe(logic.getWardrobe()).getGarmentList();
+        }
+        return new ArrayList<>(filteredGarments);
+    }
+
+    /**
+     * Returns an unmodifiable list that follows the filtered list of garments, only changed on {@code uiExecutor}.
+     */
+    public ObservableList<Garment> getGarmentList() {
+        return garments;
+    }
+
+    /**
+     * Returns a property that is true while a command given to this runner has not finished.
+     * Only changed on {@code uiExecutor}.
+     */
+    public ReadOnlyBooleanProperty busyProperty() {
+        return busy.getReadOnlyProperty();
+    }
+
+    /**
+     * Runs the command in the background, after the commands given before it.
+     * Must be called on the thread that runs {@code uiExecutor}'s tasks.
+     *
+     * @return the result of the command, completed on {@code uiExecutor}, or completed exceptionally with the
+     *     {@code CommandException} or {@code ParseException} thrown by the command. Any other exception is
+     *     completed as a {@code CommandException} with {@link Messages#MESSAGE_UNEXPECTED_ERROR}, caused by it.
+     * @see Logic#execute(String)
+     */
+    public CompletableFuture<CommandResult> execute(String commandText) {
+        requireNonNull(commandText);
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        setUnfinishedCount(unfinishedCount + 1);
+        commandExecutor.execute(() -> runCommand(commandText, result));
+        return result;
+    }
+
+    /**
+     * Runs {@code task} on the command thread, after the commands given before it.
+     */
+    public void runInOrder(Runnable task) {
+        requireNonNull(task);
+        commandExecutor.execute(task);
+    }
+
+    /**
+     * Changes the wardrobe to {@code wardrobe}, read from the wardrobe file after another program changed it,
+     * and shows the garments that changed.
+     * Must be called on the command thread, such as from a task given to {@link #runInOrder(Runnable)}.
+     *
+     * @see Logic#reloadWardrobe(ReadOnlyWardrobe)
+     */
+    public void reloadWardrobe(ReadOnlyWardrobe wardrobe) {
+        requireNonNull(wardrobe);
+        logic.reloadWardrobe(wardrobe);
+        List<ForwardedGarmentList.Edit> edits = takeGarmentListEdits();
+        if (!edits.isEmpty()) {
+            uiExecutor.execute(() -> garments.apply(edits));
+        }
+    }
+
+    /**
+     * Waits for the commands already given to finish, then stops the background thread if this runner created it.
+     */
+    public void close() {
+        if (!ownsExecutor) {
+            return;
+        }
+        ExecutorService ownExecutor = (ExecutorService) commandExecutor;
+        ownExecutor.shutdown();
+        try {
+            while (!ownExecutor.awaitTermination(1, TimeUnit.SECONDS)) {
+                logger.info("Waiting for commands to finish");
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runCommand(String commandText, CompletableFuture<CommandResult> result) {
+        CommandResult commandResult = null;
+        Exception failure = null;
+        try {
+            commandResult = logic.execute(commandText);
+        } catch (CommandException | ParseException e) {
+            failure = e;
+        } catch (RuntimeException e) {
+            logger.severe("Command failed unexpectedly: " + StringUtil.getDetails(e));
+            failure = new CommandException(Messages.MESSAGE_UNEXPECTED_ERROR, e);
+        }
+        finishCommand(result, commandResult, failure);
+    }
+
+    /**
+     * Hands the result of a command, and the changes it made to the filtered list, to the UI.
+     */
+    private void finishCommand(CompletableFuture<CommandResult> result, CommandResult commandResult,
+            Exception failure) {
+        List<ForwardedGarmentList.Edit> edits = takeGarmentListEdits();
+        uiExecutor.execute(() -> {
+            garments.apply(edits);
+            setUnfinishedCount(unfinishedCount - 1);
+            if (failure == null) {
+                result.complete(commandResult);
+            } else {
+                result.completeExceptionally(failure);
+            }
+        });
+    }
+
+    /**
+     * Returns the changes made to the filtered list since they were last taken.
+     */
+    private List<ForwardedGarmentList.Edit> takeGarmentListEdits() {
+        List<ForwardedGarmentList.Edit> edits = garmentListEdits;
+        garmentListEdits = new ArrayList<>();
+        return edits;
+    }
+
+    private void setUnfinishedCount(int unfinishedCount) {
+        this.unfinishedCount = unfinishedCount;
+        busy.set(unfinishedCount > 0);
+    }
+}
@@ -0,0 +1,304 @@
+package seedu.address.logic;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableListBase;
+import seedu.address.commons.util.ReplacedRangeChange;
+import seedu.address.model.garment.Garment;
+
+/**
+ * A read-only observable list of garments that follows another list by having its changes forwarded to it,
+ * such as the model's filtered list as seen from the UI thread.
+ *
+ * The list starts out as a view of an initial list, which is not copied, so garments that are created when read
+ * are still only created once shown. Each forwarded change replaces a range of the list. The garments it added
+ * are copied, as the list they were added to goes on changing, but the rest of the list is not: the change is kept
+ * as a piece pointing into its added garments, and the pieces either side of it are split around it.
+ *
+ * Adjacent pieces that continue one another are merged. Once there are more pieces than {@link #getMaxPieceCount()}
+ * allows, they are flattened into one, with garments of the initial list kept as their positions in it, so that
+ * flattening does not create them. Lookups and edits thus stay cheap however long the session.
+ */
+class ForwardedGarmentList extends ObservableListBase<Garment> {
+
+    /** The fewest pieces the list may be made of before it is flattened. */
+    private static final int MIN_MAX_PIECE_COUNT = 64;
+
+    private final List<Garment> initialGarments;
+    /** The pieces the list is made of, in order. */
+    private final List<Piece> pieces = new ArrayList<>();
+    /** The position of the first garment of each piece. */
+    private int[] pieceStarts = new int[0];
+    private int size;
+
+    /**
+     * Creates a list showing {@code initialGarments}, which must not change from then on.
+     */
+    ForwardedGarmentList(List<Garment> initialGarments) {
+        this.initialGarments = initialGarments;
+        if (!initialGarments.isEmpty()) {
+            pieces.add(new Piece(initialGarments, 0, initialGarments.size()));
+        }
+        updatePieceStarts();
+    }
+
+    /**
+     * Returns the edits that make a copy of the list {@code change} was reported for follow the change.
+     * The garments the change added, or moved when it permuted the list, are copied into the edits.
+     * Must be called from the listener that {@code change} was reported to, while it is being reported.
+     */
+    static List<Edit> toEdits(ListChangeListener.Change<? extends Garment> change) {
+        List<Edit> edits = new ArrayList<>();
+        while (change.next()) {
+            int removedCount = change.wasPermutated() ? change.getTo() - change.getFrom() : change.getRemovedSize();
+            List<Garment> added = change.wasPermutated()
+                    ? new ArrayList<>(change.getList().subList(change.getFrom(), change.getTo()))
+                    : new ArrayList<>(change.getAddedSubList());
+            if (removedCount > 0 || !added.isEmpty()) {
+                edits.add(new Edit(change.getFrom(), removedCount, added));
+            }
+        }
+        return edits;
+    }
+
+    /**
+     * Applies {@code edits} in order, telling listeners of each as a change of its own. The garments an edit
+     * removed are reported without being read, so garments of the initial list are not created to report them.
+     */
+    void apply(List<Edit> edits) {
+        for (Edit edit : edits) {
+            List<Garment> removed = getRange(edit.from, edit.from + edit.removedCount);
+            replaceRange(edit.from, edit.removedCount, edit.added);
+            fireChange(new ReplacedRangeChange<>(this, edit.from, removed, edit.added.size()));
+        }
+    }
+
+    @Override
+    public Garment get(int index) {
+        Objects.checkIndex(index, size);
+        int piece = Arrays.binarySearch(pieceStarts, index);
+        if (piece < 0) {
+            piece = -piece - 2;
+        }
+        return pieces.get(piece).get(index - pieceStarts[piece]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the garments from {@code from} to {@code to}, as a list that stays as it is when this list changes
+     * and that reads each garment only when asked for it, so reporting removed garments does not create them.
+     */
+    private List<Garment> getRange(int from, int to) {
+        List<Piece> rangePieces = new ArrayList<>();
+        int start = 0;
+        for (Piece piece : pieces) {
+            int end = start + piece.length;
+            if (end > from && start < to) {
+                int sliceStart = Math.max(start, from);
+                rangePieces.add(piece.slice(sliceStart - start, Math.min(end, to) - sliceStart));
+            }
+            start = end;
+        }
+        return new PieceList(rangePieces);
+    }
+
+    /**
+     * Replaces the {@code removedCount} garments from {@code from} with {@code added}, splitting the pieces
+     * either side of the range.
+     */
+    private void replaceRange(int from, int removedCount, List<Garment> added) {
+        int to = from + removedCount;
+        List<Piece> newPieces = new ArrayList<>(pieces.size() + 2);
+        int start = 0;
+        boolean isAddedPlaced = added.isEmpty();
+        for (Piece piece : pieces) {
+            int end = start + piece.length;
+            if (start < from) {
+                newPieces.add(piece.slice(0, Math.min(end, from) - start));
+            }
+            if (!isAddedPlaced && end >= from) {
+                newPieces.add(new Piece(added, 0, added.size()));
+                isAddedPlaced = true;
+            }
+            if (end > to) {
+                int keptStart = Math.max(start, to);
+                newPieces.add(piece.slice(keptStart - start, end - keptStart));
+            }
+            start = end;
+        }
+        if (!isAddedPlaced) {
+            newPieces.add(new Piece(added, 0, added.size()));
+        }
+
+        pieces.clear();
+        newPieces.forEach(this::addPiece);
+        updatePieceStarts();
+        if (pieces.size() > getMaxPieceCount()) {
+            flatten();
+        }
+    }
+
+    /**
+     * Appends {@code piece} to the pieces, merged with the last piece if it continues it.
+     */
+    private void addPiece(Piece piece) {
+        if (!pieces.isEmpty()) {
+            Piece last = pieces.get(pieces.size() - 1);
+            if (last.garments == piece.garments && last.offset + last.length == piece.offset) {
+                pieces.set(pieces.size() - 1, new Piece(last.garments, last.offset, last.length + piece.length));
+                return;
+            }
+        }
+        pieces.add(piece);
+    }
+
+    /**
+     * Returns the most pieces the list may be made of before it is flattened. It grows with the list, so that
+     * the cost of flattening, which is in proportion to the size, is spread over as many edits.
+     */
+    private int getMaxPieceCount() {
+        return Math.max(MIN_MAX_PIECE_COUNT, (int) Math.sqrt(size));
+    }
+
+    /**
+     * Replaces the pieces with one piece holding the whole list.
+     */
+    private void flatten() {
+        int[] initialPositions = new int[size];
+        Garment[] otherGarments = new Garment[size];
+        int position = 0;
+        for (Piece piece : pieces) {
+            for (int i = piece.offset; i < piece.offset + piece.length; i++) {
+                int initialPosition = -1;
+                if (piece.garments == initialGarments) {
+                    initialPosition = i;
+                } else if (piece.garments instanceof FlattenedGarments) {
+                    initialPosition = ((FlattenedGarments) piece.garments).initialPositions[i];
+                }
+                initialPositions[position] = initialPosition;
+                if (initialPosition < 0) {
+                    otherGarments[position] = piece.garments.get(i);
+                }
+                position++;
+            }
+        }
+
+        pieces.clear();
+        pieces.add(new Piece(new FlattenedGarments(initialPositions, otherGarments), 0, size));
+        updatePieceStarts();
+    }
+
+    private void updatePieceStarts() {
+        pieceStarts = new int[pieces.size()];
+        int start = 0;
+        for (int i = 0; i < pieces.size(); i++) {
+            pieceStarts[i] = start;
+            start += pieces.get(i).length;
+        }
+        size = start;
+    }
+
+    /**
+     * A change to a list, replacing {@code removedCount} garments from {@code from} with {@code added}.
+     */
+    static class Edit {
+        private final int from;
+        private final int removedCount;
+        private final List<Garment> added;
+
+        Edit(int from, int removedCount, List<Garment> added) {
+            this.from = from;
+            this.removedCount = removedCount;
+            this.added = added;
+        }
+    }
+
+    /**
+     * The garments of a flattened list. A garment of the initial list is held as its position in it, and is read
+     * from it when asked for, so that it is not created before then.
+     */
+    private class FlattenedGarments extends AbstractList<Garment> {
+        /** The position in the initial list of each garment, or -1 for one held in {@code otherGarments}. */
+        private final int[] initialPositions;
+        private final Garment[] otherGarments;
+
+        FlattenedGarments(int[] initialPositions, Garment[] otherGarments) {
+            this.initialPositions = initialPositions;
+            this.otherGarments = otherGarments;
+        }
+
+        @Override
+        public Garment get(int index) {
+            int initialPosition = initialPositions[index];
+            return initialPosition >= 0 ? initialGarments.get(initialPosition) : otherGarments[index];
+        }
+
+        @Override
+        public int size() {
+            return initialPositions.length;
+        }
+    }
+
+    /**
+     * The garments of some pieces, in order.
+     */
+    private static class PieceList extends AbstractList<Garment> {
+        private final List<Piece> pieces;
+        private final int[] pieceStarts;
+
+        PieceList(List<Piece> pieces) {
+            this.pieces = pieces;
+            pieceStarts = new int[pieces.size() + 1];
+            for (int i = 0; i < pieces.size(); i++) {
+                pieceStarts[i + 1] = pieceStarts[i] + pieces.get(i).length;
+            }
+        }
+
+        @Override
+        public Garment get(int index) {
+            Objects.checkIndex(index, size());
+            int piece = Arrays.binarySearch(pieceStarts, 0, pieces.size(), index);
+            if (piece < 0) {
+                piece = -piece - 2;
+            }
+            return pieces.get(piece).get(index - pieceStarts[piece]);
+        }
+
+        @Override
+        public int size() {
+            return pieceStarts[pieces.size()];
+        }
+    }
+
+    /**
+     * A run of {@code length} garments of {@code garments}, starting at {@code offset}.
+     */
+    private static class Piece {
+        private final List<Garment> garments;
+        private final int offset;
+        private final int length;
+
+        Piece(List<Garment> garments, int offset, int length) {
+            this.garments = garments;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        Garment get(int index) {
+            return garments.get(offset + index);
+        }
+
+        Piece slice(int sliceOffset, int sliceLength) {
+            return new Piece(garments, offset + sliceOffset, sliceLength);
+        }
+    }
+}
@@ -30,6 +30,12 @@ public interface Logic {
      */
     ReadOnlyWardrobe getWardrobe();
 
+    /**
+     * Changes the wardrobe to {@code wardrobe}, read from the wardrobe file after another program changed it.
+     * Only the garments that differ are changed, and the changes are not saved again.
+     */
+    void reloadWardrobe(ReadOnlyWardrobe wardrobe);
+
     /** Returns an unmodifiable view of the filtered list of garments */
     ObservableList<Garment> getFilteredGarmentList();
 
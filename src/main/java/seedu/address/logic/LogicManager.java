@@ -2,6 +2,7 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -12,10 +13,12 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.WardrobeParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.GarmentChangeSet;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyWardrobe;
 import seedu.address.model.garment.Garment;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindWardrobeSaver;
 
 /**
  * The main LogicManager of the app.
@@ -25,16 +28,25 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final WriteBehindWardrobeSaver wardrobeSaver;
     private final WardrobeParser wardrobeParser;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, new WriteBehindWardrobeSaver(storage));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} that saves changes with {@code wardrobeSaver}.
+     */
+    public LogicManager(Model model, WriteBehindWardrobeSaver wardrobeSaver) {
         this.model = model;
-        this.storage = storage;
+        this.wardrobeSaver = wardrobeSaver;
         wardrobeParser = new WardrobeParser();
+        // only changes made through this logic are saved
+        model.takeWardrobeChanges();
     }
 
     @Override
@@ -45,10 +57,17 @@ public class LogicManager implements Logic {
         Command command = wardrobeParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        try {
-            storage.saveWardrobe(model.getWardrobe());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        // only commands that changed the wardrobe are saved, and the save itself happens in the background
+        GarmentChangeSet wardrobeChanges = model.takeWardrobeChanges();
+        if (!wardrobeChanges.isEmpty()) {
+            wardrobeSaver.requestSave(model.getWardrobe(), wardrobeChanges);
+        }
+
+        // a failed background save belongs to an earlier command, so this command still succeeds
+        Optional<IOException> saveFailure = wardrobeSaver.getFailure();
+        if (saveFailure.isPresent()) {
+            return new CommandResult(commandResult.getFeedbackToUser() + "\n" + FILE_OPS_ERROR_MESSAGE
+                    + saveFailure.get(), commandResult.isShowHelp(), commandResult.isExit());
         }
 
         return commandResult;
@@ -59,6 +78,14 @@ public class LogicManager implements Logic {
         return model.getWardrobe();
     }
 
+    @Override
+    public void reloadWardrobe(ReadOnlyWardrobe wardrobe) {
+        model.updateWardrobe(wardrobe);
+        // the changes came from the wardrobe file, so there is nothing to save
+        GarmentChangeSet reloadedChanges = model.takeWardrobeChanges();
+        logger.info("Reloaded wardrobe file with changes: " + reloadedChanges);
+    }
+
     @Override
     public ObservableList<Garment> getFilteredGarmentList() {
         return model.getFilteredGarmentList();
@@ -1,27 +1,19 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_COLOUR;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_DRESSCODE;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_SIZE;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
-
-import java.util.ArrayList;
+
 import java.util.List;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.ArgumentMultimap;
-import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.model.Model;
-import seedu.address.model.garment.AttributesContainsKeywordsPredicate;
 import seedu.address.model.garment.Garment;
+import seedu.address.model.garment.GarmentMatchesPredicate;
 
 /**
  * Finds and lists all garments in wardrobe whose colour matches that of a specified garment.
+ * A matching garment also shares the dresscode of the specified garment and is of a complementary type.
  */
 public class MatchCommand extends Command {
 
@@ -60,35 +52,7 @@ public class MatchCommand extends Command {
         }
 
         Garment garmentToMatch = lastShownList.get(index.getZeroBased());
-        List<String> keywords = new ArrayList<>();
-
-
-        String keywordArgs = " c/";
-        keywords.addAll(garmentToMatch.getColour().getMatches());
-        for (String keyword : keywords) {
-            keywordArgs = keywordArgs + keyword + " ";
-        }
-
-        keywordArgs = keywordArgs + "r/";
-        keywords.clear();
-        keywords.addAll(garmentToMatch.getDressCode().getMatches());
-        for (String keyword : keywords) {
-            keywordArgs = keywordArgs + keyword + " ";
-        }
-
-        keywordArgs = keywordArgs + "t/";
-        keywords.clear();
-        keywords.addAll(garmentToMatch.getType().getMatches());
-        for (String keyword : keywords) {
-            keywordArgs = keywordArgs + keyword + " ";
-        }
-
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(keywordArgs, PREFIX_NAME, PREFIX_SIZE, PREFIX_COLOUR, PREFIX_DRESSCODE,
-                        PREFIX_DESCRIPTION, PREFIX_TYPE);
-
-        FindCommand findMatches = new FindCommand(new AttributesContainsKeywordsPredicate(argMultimap));
-        findMatches.execute(model);
+        model.updateFilteredGarmentList(new GarmentMatchesPredicate(garmentToMatch));
         return new CommandResult("Matching results for garment\nname: " + garmentToMatch.getName()
                 + "\nsize: " + garmentToMatch.getSize() + "\ncolour: " + garmentToMatch.getColour() + "\ndresscode: "
                 + garmentToMatch.getDressCode() + "\ntype: " + garmentToMatch.getType());
@@ -0,0 +1,63 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.model.Model;
+import seedu.address.model.outfit.Outfit;
+
+/**
+ * Suggests the outfits from the wardrobe whose garments have gone unworn the longest.
+ * An outfit is an upper, a lower and a footwear garment of the same dresscode with colours that match.
+ */
+public class OutfitCommand extends Command {
+
+    public static final String COMMAND_WORD = "outfit";
+
+    public static final int DEFAULT_COUNT = 5;
+    /** The most outfits one command suggests, so that a large count cannot enumerate every combination. */
+    public static final int MAX_COUNT = 50;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Suggests outfits made of an upper, a lower and "
+            + "a footwear garment\n"
+            + "of the same dresscode with matching colours, least recently worn first.\n"
+            + "Parameters: [COUNT] (must be a positive integer up to " + MAX_COUNT + ", "
+            + DEFAULT_COUNT + " if not given)\n"
+            + "Example: " + COMMAND_WORD + " 3";
+
+    public static final String MESSAGE_SUCCESS = "Suggested outfits:";
+    public static final String MESSAGE_NO_OUTFITS = "No outfits can be put together from the wardrobe";
+
+    private final int count;
+
+    /**
+     * @param count the maximum number of outfits to suggest, from 1 to {@link #MAX_COUNT}
+     */
+    public OutfitCommand(int count) {
+        assert count > 0 && count <= MAX_COUNT;
+        this.count = count;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Outfit> outfits = model.generateOutfits(count);
+        if (outfits.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_OUTFITS);
+        }
+
+        StringBuilder feedback = new StringBuilder(MESSAGE_SUCCESS);
+        for (int i = 0; i < outfits.size(); i++) {
+            feedback.append("\n").append(i + 1).append(". ").append(outfits.get(i));
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof OutfitCommand // instanceof handles nulls
+                && count == ((OutfitCommand) other).count);
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.OutfitCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new OutfitCommand object
+ */
+public class OutfitCommandParser implements Parser<OutfitCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the OutfitCommand
+     * and returns an OutfitCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public OutfitCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new OutfitCommand(OutfitCommand.DEFAULT_COUNT);
+        }
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedArgs)
+                || Integer.parseInt(trimmedArgs) > OutfitCommand.MAX_COUNT) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, OutfitCommand.MESSAGE_USAGE));
+        }
+        return new OutfitCommand(Integer.parseInt(trimmedArgs));
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.model.garment.Garment;
+
+/**
+ * Records a garment being added to or removed from a wardrobe.
+ * Replacing a garment is recorded as the old garment being removed, followed by the new garment being added.
+ */
+public class GarmentChange {
+
+    /**
+     * Whether the garment was added or removed.
+     */
+    public enum Kind {
+        ADDED, REMOVED
+    }
+
+    private final Kind kind;
+    private final Garment garment;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public GarmentChange(Kind kind, Garment garment) {
+        requireAllNonNull(kind, garment);
+        this.kind = kind;
+        this.garment = garment;
+    }
+
+    /**
+     * Returns a change recording {@code garment} being added.
+     */
+    public static GarmentChange added(Garment garment) {
+        return new GarmentChange(Kind.ADDED, garment);
+    }
+
+    /**
+     * Returns a change recording {@code garment} being removed.
+     */
+    public static GarmentChange removed(Garment garment) {
+        return new GarmentChange(Kind.REMOVED, garment);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public Garment getGarment() {
+        return garment;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof GarmentChange // instanceof handles nulls
+                && kind == ((GarmentChange) other).kind
+                && garment.equals(((GarmentChange) other).garment));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, garment);
+    }
+
+    @Override
+    public String toString() {
+        return kind + " " + garment.getName();
+    }
+}
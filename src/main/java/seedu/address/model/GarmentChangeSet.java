@@ -0,0 +1,148 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.garment.Garment;
+import seedu.address.model.garment.Name;
+
+/**
+ * The garments added, edited and removed in a wardrobe since a point in time, coalesced by name.
+ * Only the garment each name held at that point and the garment it holds now are kept, so a garment edited
+ * many times takes as much space as one edited once, and a garment added and then removed takes none.
+ * A wardrobe whose garments were all replaced at once is marked as replaced instead, and is to be saved in full.
+ */
+public class GarmentChangeSet {
+
+    /** The garments each changed name held before and after, in the order the names were first changed. */
+    private final Map<Name, Entry> entries = new LinkedHashMap<>();
+    private boolean isReplaced;
+
+    /**
+     * Records {@code garment} being added.
+     */
+    public void recordAdded(Garment garment) {
+        requireNonNull(garment);
+        record(garment.getName(), null, garment);
+    }
+
+    /**
+     * Records {@code garment} being removed.
+     */
+    public void recordRemoved(Garment garment) {
+        requireNonNull(garment);
+        record(garment.getName(), garment, null);
+    }
+
+    /**
+     * Records {@code target} being replaced by {@code editedGarment}, which may have a different name.
+     */
+    public void recordEdited(Garment target, Garment editedGarment) {
+        recordRemoved(target);
+        recordAdded(editedGarment);
+    }
+
+    /**
+     * Records every garment being replaced at once. Changes recorded before are dropped, as they are part of a
+     * wardrobe that has to be saved in full anyway.
+     */
+    public void markReplaced() {
+        isReplaced = true;
+        entries.clear();
+    }
+
+    /**
+     * Returns true if every garment was replaced at once, so that the changes do not describe the wardrobe.
+     */
+    public boolean isReplaced() {
+        return isReplaced;
+    }
+
+    /**
+     * Returns true if nothing has changed.
+     */
+    public boolean isEmpty() {
+        return !isReplaced && entries.isEmpty();
+    }
+
+    /**
+     * Adds the changes in {@code later}, which were made after those in this set.
+     */
+    public void addAll(GarmentChangeSet later) {
+        requireNonNull(later);
+        if (later.isReplaced) {
+            markReplaced();
+            return;
+        }
+        if (isReplaced) {
+            return;
+        }
+        later.entries.forEach((name, entry) -> record(name, entry.before, entry.after));
+    }
+
+    /**
+     * Returns the changes as the removal of the garment each name held before, followed by the addition of
+     * the garment it holds now, in the order the names were first changed.
+     *
+     * @throws IllegalStateException if every garment was replaced.
+     */
+    public List<GarmentChange> toChanges() {
+        if (isReplaced) {
+            throw new IllegalStateException("Every garment was replaced");
+        }
+
+        List<GarmentChange> changes = new ArrayList<>(entries.size() * 2);
+        for (Entry entry : entries.values()) {
+            if (entry.before != null) {
+                changes.add(GarmentChange.removed(entry.before));
+            }
+            if (entry.after != null) {
+                changes.add(GarmentChange.added(entry.after));
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Records {@code name} changing from {@code before} to {@code after}, either of which is null if the name
+     * held no garment.
+     */
+    private void record(Name name, Garment before, Garment after) {
+        if (isReplaced) {
+            return;
+        }
+
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            entries.put(name, new Entry(before, after));
+            return;
+        }
+        entry.after = after;
+        // garments compare equal regardless of their last use, so only the very same garment counts as unchanged
+        if (entry.before == entry.after) {
+            entries.remove(name);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return isReplaced ? "all garments replaced" : toChanges().toString();
+    }
+
+    /**
+     * The garments a name held before and after its changes.
+     */
+    private static class Entry {
+        private final Garment before;
+        private Garment after;
+
+        Entry(Garment before, Garment after) {
+            this.before = before;
+            this.after = after;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.description.Description;
+import seedu.address.model.garment.Garment;
+import seedu.address.model.garment.Name;
+
+/**
+ * An inverted index over the garments of a wardrobe.
+ * Every garment is given a slot, and each indexed attribute value maps to a bitmap of the slots holding it,
+ * so keyword queries can be answered with bitmap unions and intersections instead of a scan.
+ *
+ * Slots are not reused until the index is compacted. Every change to the index is counted, which lets
+ * predicates built from earlier query results tell whether garments may have been added since.
+ */
+public class GarmentIndex {
+
+    /**
+     * Garment attributes whose values are indexed. Values are held in lower case.
+     */
+    public enum Attribute {
+        COLOUR, DRESSCODE, TYPE, SIZE, DESCRIPTION
+    }
+
+    /** Minimum number of freed slots before the index considers compacting itself. */
+    private static final int MIN_FREED_SLOTS_TO_COMPACT = 1024;
+
+    private final List<Garment> slots = new ArrayList<>();
+    private final HashMap<Name, Integer> slotsByName = new HashMap<>();
+    private final BitSet occupiedSlots = new BitSet();
+    private final EnumMap<Attribute, HashMap<String, BitSet>> postings = new EnumMap<>(Attribute.class);
+    private int modificationCount;
+
+    /**
+     * Creates an empty index.
+     */
+    public GarmentIndex() {
+        for (Attribute attribute : Attribute.values()) {
+            postings.put(attribute, new HashMap<>());
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code garments}.
+     */
+    public void reset(Iterable<Garment> garments) {
+        requireNonNull(garments);
+        slots.clear();
+        slotsByName.clear();
+        occupiedSlots.clear();
+        postings.values().forEach(HashMap::clear);
+        modificationCount++;
+        for (Garment garment : garments) {
+            add(garment);
+        }
+    }
+
+    /**
+     * Adds {@code garment} to the index.
+     * No garment with the same name may already be indexed.
+     */
+    public void add(Garment garment) {
+        requireNonNull(garment);
+        assert !slotsByName.containsKey(garment.getName());
+
+        int slot = slots.size();
+        slots.add(garment);
+        slotsByName.put(garment.getName(), slot);
+        occupiedSlots.set(slot);
+        updatePostings(garment, slot, true);
+        modificationCount++;
+    }
+
+    /**
+     * Removes the garment with the same name as {@code garment} from the index.
+     */
+    public void remove(Garment garment) {
+        requireNonNull(garment);
+        Integer slot = slotsByName.remove(garment.getName());
+        if (slot == null) {
+            return;
+        }
+
+        updatePostings(slots.get(slot), slot, false);
+        slots.set(slot, null);
+        occupiedSlots.clear(slot);
+        modificationCount++;
+
+        int freedSlots = slots.size() - slotsByName.size();
+        if (freedSlots >= MIN_FREED_SLOTS_TO_COMPACT && freedSlots > slotsByName.size()) {
+            compact();
+        }
+    }
+
+    /**
+     * Returns the slots holding garments whose {@code attribute} has any of the given lower case values.
+     * The returned bitmap is a copy and may be modified by the caller.
+     */
+    public BitSet getSlots(Attribute attribute, Set<String> lowerCaseValues) {
+        BitSet result = new BitSet();
+        HashMap<String, BitSet> attributePostings = postings.get(attribute);
+        for (String value : lowerCaseValues) {
+            BitSet posting = attributePostings.get(value);
+            if (posting != null) {
+                result.or(posting);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a copy of the bitmap of slots that currently hold a garment.
+     */
+    public BitSet getOccupiedSlots() {
+        return (BitSet) occupiedSlots.clone();
+    }
+
+    /**
+     * Returns the garment in {@code slot}, or null if the slot is free.
+     */
+    public Garment getGarment(int slot) {
+        return slots.get(slot);
+    }
+
+    /**
+     * Returns a predicate that accepts the garments whose slots are set in {@code matchingSlots}.
+     * Once the index has changed, garments outside {@code matchingSlots} are tested with {@code fallback} instead,
+     * since they may have been added after {@code matchingSlots} was computed.
+     *
+     * The matching garments are collected up front, by identity, so testing a garment costs a lookup in a table
+     * the size of the result rather than a search of the whole index.
+     */
+    public Predicate<Garment> toPredicate(BitSet matchingSlots, Predicate<Garment> fallback) {
+        Set<Garment> matchingGarments = Collections.newSetFromMap(new IdentityHashMap<>(matchingSlots.cardinality()));
+        for (int slot = matchingSlots.nextSetBit(0); slot >= 0; slot = matchingSlots.nextSetBit(slot + 1)) {
+            Garment garment = slots.get(slot);
+            if (garment != null) {
+                matchingGarments.add(garment);
+            }
+        }
+
+        int queryModificationCount = modificationCount;
+        // garments are immutable, so one that matched still does
+        return garment -> matchingGarments.contains(garment)
+                || (queryModificationCount != modificationCount && fallback.test(garment));
+    }
+
+    /**
+     * Moves every garment into the lowest free slots.
+     */
+    private void compact() {
+        List<Garment> garments = new ArrayList<>(slotsByName.size());
+        for (Garment garment : slots) {
+            if (garment != null) {
+                garments.add(garment);
+            }
+        }
+        reset(garments);
+    }
+
+    private void updatePostings(Garment garment, int slot, boolean isIndexed) {
+        updatePosting(Attribute.COLOUR, garment.getColour().colour, slot, isIndexed);
+        updatePosting(Attribute.DRESSCODE, garment.getDressCode().getLowerCaseValue(), slot, isIndexed);
+        updatePosting(Attribute.TYPE, garment.getType().value, slot, isIndexed);
+        updatePosting(Attribute.SIZE, garment.getSize().value, slot, isIndexed);
+        for (Description description : garment.getDescriptions()) {
+            for (String word : description.getLowerCaseWords()) {
+                updatePosting(Attribute.DESCRIPTION, word, slot, isIndexed);
+            }
+        }
+    }
+
+    private void updatePosting(Attribute attribute, String value, int slot, boolean isIndexed) {
+        HashMap<String, BitSet> attributePostings = postings.get(attribute);
+        if (isIndexed) {
+            attributePostings.computeIfAbsent(value, unused -> new BitSet()).set(slot);
+            return;
+        }
+
+        BitSet posting = attributePostings.get(value);
+        if (posting != null) {
+            posting.clear(slot);
+            if (posting.isEmpty()) {
+                attributePostings.remove(value);
+            }
+        }
+    }
+}
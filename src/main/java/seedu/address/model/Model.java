@@ -1,11 +1,13 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.garment.Garment;
+import seedu.address.model.outfit.Outfit;
 
 /**
  * The API of the Model component.
@@ -49,9 +51,20 @@ public interface Model {
      */
     void setWardrobe(ReadOnlyWardrobe wardrobe);
 
+    /**
+     * Changes the wardrobe to hold the garments in {@code wardrobe}, adding, replacing and removing only those
+     * that differ.
+     */
+    void updateWardrobe(ReadOnlyWardrobe wardrobe);
+
     /** Returns the Wardrobe */
     ReadOnlyWardrobe getWardrobe();
 
+    /**
+     * Returns the changes made to the wardrobe since this method was last called, and starts tracking afresh.
+     */
+    GarmentChangeSet takeWardrobeChanges();
+
     /**
      * Returns true if a garment with the same identity as {@code garment} exists in the wardrobe.
      */
@@ -76,6 +89,12 @@ public interface Model {
      */
     void setGarment(Garment target, Garment editedGarment);
 
+    /**
+     * Returns up to {@code count} outfits put together from the garments in the wardrobe, best ranked first.
+     * {@code count} must be positive.
+     */
+    List<Outfit> generateOutfits(int count);
+
     /** Returns an unmodifiable view of the filtered garment list */
     ObservableList<Garment> getFilteredGarmentList();
 
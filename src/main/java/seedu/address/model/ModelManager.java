@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -12,6 +13,9 @@ import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.garment.Garment;
+import seedu.address.model.garment.IndexablePredicate;
+import seedu.address.model.outfit.Outfit;
+import seedu.address.model.outfit.OutfitGenerator;
 
 /**
  * Represents the in-memory model of the wardrobe data.
@@ -84,11 +88,21 @@ public class ModelManager implements Model {
         this.wardrobe.resetData(wardrobe);
     }
 
+    @Override
+    public void updateWardrobe(ReadOnlyWardrobe wardrobe) {
+        this.wardrobe.updateData(wardrobe);
+    }
+
     @Override
     public ReadOnlyWardrobe getWardrobe() {
         return wardrobe;
     }
 
+    @Override
+    public GarmentChangeSet takeWardrobeChanges() {
+        return wardrobe.takeChanges();
+    }
+
     @Override
     public boolean hasGarment(Garment garment) {
         requireNonNull(garment);
@@ -113,6 +127,13 @@ public class ModelManager implements Model {
         wardrobe.setGarment(target, editedGarment);
     }
 
+    //=========== Outfits ====================================================================================
+
+    @Override
+    public List<Outfit> generateOutfits(int count) {
+        return new OutfitGenerator(wardrobe.getGarmentList()).generate(count);
+    }
+
     //=========== Filtered Garment List Accessors =============================================================
 
     /**
@@ -127,6 +148,10 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredGarmentList(Predicate<Garment> predicate) {
         requireNonNull(predicate);
+        if (predicate instanceof IndexablePredicate) {
+            // keyword and match queries are answered from the garment index, so the filter only looks up each garment
+            predicate = wardrobe.getIndexedPredicate((IndexablePredicate) predicate);
+        }
         filteredGarments.setPredicate(predicate);
     }
 
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -15,6 +16,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path wardrobeFilePath = Paths.get("data" , "wardrobe.json");
+    private int wardrobeShardCount = 1;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +38,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setWardrobeFilePath(newUserPrefs.getWardrobeFilePath());
+        setWardrobeShardCount(newUserPrefs.getWardrobeShardCount());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +59,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.wardrobeFilePath = wardrobeFilePath;
     }
 
+    public int getWardrobeShardCount() {
+        return wardrobeShardCount;
+    }
+
+    /**
+     * Sets the number of files the wardrobe is split into. A count of 1 keeps the wardrobe in a single file.
+     */
+    public void setWardrobeShardCount(int wardrobeShardCount) {
+        checkArgument(wardrobeShardCount > 0, "Wardrobe shard count must be positive");
+        this.wardrobeShardCount = wardrobeShardCount;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +83,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && wardrobeFilePath.equals(o.wardrobeFilePath);
+                && wardrobeFilePath.equals(o.wardrobeFilePath)
+                && wardrobeShardCount == o.wardrobeShardCount;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, wardrobeFilePath);
+        return Objects.hash(guiSettings, wardrobeFilePath, wardrobeShardCount);
     }
 
     @Override
@@ -81,6 +97,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + wardrobeFilePath);
+        sb.append("\nLocal data file shards : " + wardrobeShardCount);
         return sb.toString();
     }
 
@@ -2,11 +2,21 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.garment.Garment;
+import seedu.address.model.garment.GarmentSource;
+import seedu.address.model.garment.IndexablePredicate;
+import seedu.address.model.garment.Name;
 import seedu.address.model.garment.UniqueGarmentList;
+import seedu.address.model.garment.exceptions.DuplicateGarmentException;
 
 /**
  * Wraps all data at the wardrobe level
@@ -15,6 +25,11 @@ import seedu.address.model.garment.UniqueGarmentList;
 public class Wardrobe implements ReadOnlyWardrobe {
 
     private final UniqueGarmentList garments;
+    private final GarmentIndex index = new GarmentIndex();
+    /** True if the index does not hold the current garments, and is to be rebuilt when next needed. */
+    private boolean isIndexStale;
+    /** The changes made since the last call to {@link #takeChanges()}. */
+    private GarmentChangeSet changes = new GarmentChangeSet();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -24,19 +39,19 @@ public class Wardrobe implements ReadOnlyWardrobe {
      *   among constructors.
      */
     {
-        UniqueGarmentList garmentList = new UniqueGarmentList();
-        garmentList.sort();
-        garments = garmentList;
+        garments = new UniqueGarmentList();
     }
 
     public Wardrobe() {}
 
     /**
-     * Creates an Wardrobe using the Garments in the {@code toBeCopied}
+     * Creates an Wardrobe using the Garments in the {@code toBeCopied}.
+     * Changes are tracked from the copy onwards.
      */
     public Wardrobe(ReadOnlyWardrobe toBeCopied) {
         this();
         resetData(toBeCopied);
+        changes = new GarmentChangeSet();
     }
 
     //// list overwrite operations
@@ -44,18 +59,89 @@ public class Wardrobe implements ReadOnlyWardrobe {
     /**
      * Replaces the contents of the garment list with {@code garments}.
      * {@code garments} must not contain duplicate garments.
+     * The garment index is rebuilt when it is next needed.
      */
     public void setGarments(List<Garment> garments) {
         this.garments.setGarments(garments);
+        index.reset(Collections.emptyList());
+        isIndexStale = true;
+        changes.markReplaced();
+    }
+
+    /**
+     * Replaces the contents of the garment list with the garments of {@code source}, without creating them.
+     * The garment index is rebuilt when it is next needed.
+     */
+    public void setGarments(GarmentSource source) {
+        garments.setGarments(source);
+        index.reset(Collections.emptyList());
+        isIndexStale = true;
+        changes.markReplaced();
     }
 
     /**
      * Resets the existing data of this {@code Wardrobe} with {@code newData}.
+     * Garments that {@code newData} has yet to create are not created by the copy either.
      */
     public void resetData(ReadOnlyWardrobe newData) {
         requireNonNull(newData);
 
-        setGarments(newData.getGarmentList());
+        if (newData instanceof Wardrobe) {
+            garments.setGarments(((Wardrobe) newData).garments);
+            index.reset(Collections.emptyList());
+            isIndexStale = true;
+            changes.markReplaced();
+        } else {
+            setGarments(newData.getGarmentList());
+        }
+    }
+
+    /**
+     * Changes the garments of this {@code Wardrobe} to those of {@code newData}, like
+     * {@link #resetData(ReadOnlyWardrobe)} does, but by adding, replacing and removing only the garments that differ,
+     * so that the garment list reports just those changes, together as one change.
+     * {@code newData} must not contain duplicate garments.
+     */
+    public void updateData(ReadOnlyWardrobe newData) {
+        requireNonNull(newData);
+
+        Map<Name, Garment> newGarments = new HashMap<>();
+        for (Garment garment : newData.getGarmentList()) {
+            if (newGarments.put(garment.getName(), garment) != null) {
+                throw new DuplicateGarmentException();
+            }
+        }
+
+        batchUpdate(() -> {
+            List<Garment> removedGarments = new ArrayList<>();
+            for (Garment garment : new ArrayList<>(garments.asUnmodifiableObservableList())) {
+                Garment newGarment = newGarments.remove(garment.getName());
+                if (newGarment == null) {
+                    removedGarments.add(garment);
+                } else if (!isSameIncludingLastUse(garment, newGarment)) {
+                    setGarment(garment, newGarment);
+                }
+            }
+            removedGarments.forEach(this::removeGarment);
+            newGarments.values().forEach(this::addGarment);
+        });
+    }
+
+    /**
+     * Returns true if both garments are equal and were last used on the same day,
+     * which {@link Garment#equals(Object)} does not compare.
+     */
+    private static boolean isSameIncludingLastUse(Garment garment, Garment otherGarment) {
+        return garment.equals(otherGarment) && garment.getLastUse().equals(otherGarment.getLastUse());
+    }
+
+    /**
+     * Runs {@code updates}, which add, replace and remove garments of this {@code Wardrobe}, as one batch.
+     * The garment list reports every change made by {@code updates} together, as a single change, so that its
+     * listeners, such as filtered lists and list views, handle the batch once.
+     */
+    public void batchUpdate(Runnable updates) {
+        garments.batchUpdate(updates);
     }
 
     //// garment-level operations
@@ -75,6 +161,10 @@ public class Wardrobe implements ReadOnlyWardrobe {
      */
     public void addGarment(Garment g) {
         garments.add(g);
+        if (!isIndexStale) {
+            index.add(g);
+        }
+        changes.recordAdded(g);
     }
 
     /**
@@ -86,6 +176,11 @@ public class Wardrobe implements ReadOnlyWardrobe {
         requireNonNull(editedGarment);
 
         garments.setGarment(target, editedGarment);
+        if (!isIndexStale) {
+            index.remove(target);
+            index.add(editedGarment);
+        }
+        changes.recordEdited(target, editedGarment);
     }
 
     /**
@@ -94,6 +189,37 @@ public class Wardrobe implements ReadOnlyWardrobe {
      */
     public void removeGarment(Garment key) {
         garments.remove(key);
+        if (!isIndexStale) {
+            index.remove(key);
+        }
+        changes.recordRemoved(key);
+    }
+
+    //// change tracking
+
+    /**
+     * Returns the garments added, edited and removed since this method was last called, or since the wardrobe
+     * was created, and starts tracking changes afresh.
+     */
+    public GarmentChangeSet takeChanges() {
+        GarmentChangeSet taken = changes;
+        changes = new GarmentChangeSet();
+        return taken;
+    }
+
+    //// query operations
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} whose matches are looked up in the garment index.
+     * Garments added to the wardrobe afterwards are tested with {@code predicate} itself.
+     */
+    public Predicate<Garment> getIndexedPredicate(IndexablePredicate predicate) {
+        requireNonNull(predicate);
+        if (isIndexStale) {
+            index.reset(garments);
+            isIndexStale = false;
+        }
+        return index.toPredicate(predicate.getMatchingSlots(index), predicate);
     }
 
     //// util methods
@@ -104,6 +230,14 @@ public class Wardrobe implements ReadOnlyWardrobe {
         // TODO: refine later
     }
 
+    /**
+     * Returns the source the garments were set from with {@link #setGarments(GarmentSource)}, if some of them
+     * are yet to be created and none has been added, replaced or removed since.
+     */
+    public Optional<GarmentSource> getGarmentSource() {
+        return garments.getGarmentSource();
+    }
+
     @Override
     public ObservableList<Garment> getGarmentList() {
         return garments.asUnmodifiableObservableList();
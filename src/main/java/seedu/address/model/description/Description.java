@@ -3,6 +3,14 @@ package seedu.address.model.description;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Description in the wardrobe.
  * Guarantees: immutable; name is valid as declared in {@link #isValidDescriptionName(String)}
@@ -12,8 +20,12 @@ public class Description {
     public static final String MESSAGE_CONSTRAINTS = "Description names should be alphanumeric";
     public static final String VALIDATION_REGEX = "^[a-zA-Z0-9 ]+$";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String descriptionName;
 
+    private final String[] lowerCaseWords;
+
     /**
      * Constructs a {@code Description}.
      *
@@ -23,13 +35,33 @@ public class Description {
         requireNonNull(descriptionName);
         checkArgument(isValidDescriptionName(descriptionName), MESSAGE_CONSTRAINTS);
         this.descriptionName = descriptionName;
+        lowerCaseWords = StringUtil.toLowerCaseWords(descriptionName);
     }
 
     /**
      * Returns true if a given string is a valid description name.
      */
     public static boolean isValidDescriptionName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns the words of the description in lower case.
+     */
+    public List<String> getLowerCaseWords() {
+        return Collections.unmodifiableList(Arrays.asList(lowerCaseWords));
+    }
+
+    /**
+     * Returns true if any word of the description, in lower case, is in {@code lowerCaseKeywords}.
+     */
+    public boolean containsAnyWord(Set<String> lowerCaseKeywords) {
+        for (String word : lowerCaseWords) {
+            if (lowerCaseKeywords.contains(word)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
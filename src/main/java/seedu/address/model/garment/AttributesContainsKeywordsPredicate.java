@@ -7,51 +7,90 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SIZE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Optional;
 
 import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.logic.parser.Prefix;
+import seedu.address.model.GarmentIndex;
 
-public class AttributesContainsKeywordsPredicate implements Predicate<Garment> {
+/**
+ * Tests that a {@code Garment} matches the keywords of every attribute given in a {@code find} query.
+ * The query is compiled into one keyword predicate per attribute when this predicate is created.
+ */
+public class AttributesContainsKeywordsPredicate implements IndexablePredicate {
 
     private final ArgumentMultimap argMultimap;
+    private final List<ContainsKeywordsPredicate> attributePredicates = new ArrayList<>();
 
+    /**
+     * Creates a predicate that requires a match for every attribute that has a value in {@code argMultimap}.
+     */
     public AttributesContainsKeywordsPredicate(ArgumentMultimap argMultimap) {
         this.argMultimap = argMultimap;
+
+        argMultimap.getValue(PREFIX_NAME).ifPresent(value ->
+                attributePredicates.add(new NameContainsKeywordsPredicate(toKeywords(value))));
+        argMultimap.getValue(PREFIX_DRESSCODE).ifPresent(value ->
+                attributePredicates.add(new DressCodeContainsKeywordsPredicate(toKeywords(value))));
+        argMultimap.getValue(PREFIX_COLOUR).ifPresent(value ->
+                attributePredicates.add(new ColourContainsKeywordsPredicate(toKeywords(value))));
+        argMultimap.getValue(PREFIX_SIZE).ifPresent(value ->
+                attributePredicates.add(new SizeContainsKeywordsPredicate(toKeywords(value))));
+        argMultimap.getValue(PREFIX_DESCRIPTION).ifPresent(value ->
+                attributePredicates.add(new DescriptionContainsKeywordsPredicate(toKeywords(value))));
+        argMultimap.getValue(PREFIX_TYPE).ifPresent(value ->
+                attributePredicates.add(new TypeContainsKeywordsPredicate(toKeywords(value))));
+    }
+
+    private static List<String> toKeywords(String value) {
+        return Arrays.asList(value.split("\\s+"));
     }
 
     @Override
     public boolean test(Garment garment) {
-        String[] keywords = {""};
-        boolean testResult = true;
-
-        if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
-            keywords = argMultimap.getValue(PREFIX_NAME).get().split("\\s+");
-            testResult = testResult && new NameContainsKeywordsPredicate(Arrays.asList(keywords)).test(garment);
-        }
-        if (argMultimap.getValue(PREFIX_DRESSCODE).isPresent()) {
-            keywords = argMultimap.getValue(PREFIX_DRESSCODE).get().split("\\s+");
-            testResult = testResult && new DressCodeContainsKeywordsPredicate(Arrays.asList(keywords)).test(garment);
+        for (ContainsKeywordsPredicate attributePredicate : attributePredicates) {
+            if (!attributePredicate.test(garment)) {
+                return false;
+            }
         }
-        if (argMultimap.getValue(PREFIX_COLOUR).isPresent()) {
-            keywords = argMultimap.getValue(PREFIX_COLOUR).get().split("\\s+");
-            testResult = testResult && new ColourContainsKeywordsPredicate(Arrays.asList(keywords)).test(garment);
-        }
-        if (argMultimap.getValue(PREFIX_SIZE).isPresent()) {
-            keywords = argMultimap.getValue(PREFIX_SIZE).get().split("\\s+");
-            testResult = testResult && new SizeContainsKeywordsPredicate(Arrays.asList(keywords)).test(garment);
+        return true;
+    }
+
+    /**
+     * Returns the slots of {@code index} holding garments that this predicate accepts.
+     * Indexed attributes are answered with bitmap unions and intersections,
+     * and only the remaining candidates are tested against the other attributes.
+     */
+    @Override
+    public BitSet getMatchingSlots(GarmentIndex index) {
+        BitSet matchingSlots = index.getOccupiedSlots();
+        List<ContainsKeywordsPredicate> unindexedPredicates = new ArrayList<>();
+        for (ContainsKeywordsPredicate attributePredicate : attributePredicates) {
+            Optional<BitSet> attributeSlots = attributePredicate.getMatchingSlots(index);
+            if (attributeSlots.isPresent()) {
+                matchingSlots.and(attributeSlots.get());
+            } else {
+                unindexedPredicates.add(attributePredicate);
+            }
         }
-        if (argMultimap.getValue(PREFIX_DESCRIPTION).isPresent()) {
-            keywords = argMultimap.getValue(PREFIX_DESCRIPTION).get().split("\\s+");
-            testResult = testResult && new DescriptionContainsKeywordsPredicate(Arrays.asList(keywords)).test(garment);
+
+        if (unindexedPredicates.isEmpty()) {
+            return matchingSlots;
         }
-        if (argMultimap.getValue(PREFIX_TYPE).isPresent()) {
-            keywords = argMultimap.getValue(PREFIX_TYPE).get().split("\\s+");
-            testResult = testResult && new TypeContainsKeywordsPredicate(Arrays.asList(keywords)).test(garment);
+        for (int slot = matchingSlots.nextSetBit(0); slot >= 0; slot = matchingSlots.nextSetBit(slot + 1)) {
+            Garment garment = index.getGarment(slot);
+            for (ContainsKeywordsPredicate unindexedPredicate : unindexedPredicates) {
+                if (!unindexedPredicate.test(garment)) {
+                    matchingSlots.clear(slot);
+                    break;
+                }
+            }
         }
-        return testResult;
+        return matchingSlots;
     }
 
     /**
@@ -6,9 +6,12 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.regex.Pattern;
 
 /**
  * Represents a Garment's colour in the wardrobe.
+ * Every colour is identified by its position in {@link #COLOURARRAY}, and the colours it matches are held
+ * as a bitmask over those positions, so checking whether two colours match does not compare any strings.
  */
 public class Colour {
     public static final String MESSAGE_CONSTRAINTS =
@@ -33,8 +36,6 @@ public class Colour {
 
     public static final HashSet<String> COLOURS = new HashSet<>(Arrays.asList(COLOURARRAY));
 
-    public static final HashMap<String, List<String>> MATCHES = new HashMap<>();
-
     public static final List<String> RED_MATCHES = Arrays.asList(
         "red",
         "blue",
@@ -167,48 +168,88 @@ public class Colour {
 
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    private static final HashMap<String, Integer> ORDINALS = new HashMap<>();
+
+    /** The matching colours of each colour, in the order of {@link #COLOURARRAY}. */
+    private static final List<List<String>> MATCH_LISTS = Arrays.asList(RED_MATCHES, ORANGE_MATCHES,
+            YELLOW_MATCHES, GREEN_MATCHES, BLUE_MATCHES, PINK_MATCHES, PURPLE_MATCHES, BROWN_MATCHES,
+            BLACK_MATCHES, WHITE_MATCHES, BEIGE_MATCHES, GREY_MATCHES);
+
+    private static final int[] MATCH_MASKS = new int[COLOURARRAY.length];
+
+    static {
+        for (int i = 0; i < COLOURARRAY.length; i++) {
+            ORDINALS.put(COLOURARRAY[i], i);
+        }
+        for (int i = 0; i < COLOURARRAY.length; i++) {
+            for (String match : MATCH_LISTS.get(i)) {
+                MATCH_MASKS[i] |= 1 << ORDINALS.get(match);
+            }
+        }
+    }
+
     public final String colour;
 
+    private final int ordinal;
+
     /**
      * Constructs a {@code Colour}.
      *
      * @param colour A valid colour.
      */
     public Colour(String colour) {
-        if (!COLOURS.contains(colour.toLowerCase())) {
+        requireNonNull(colour);
+        String lowerCaseColour = colour.toLowerCase();
+        if (!COLOURS.contains(lowerCaseColour)) {
             throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
         }
-        requireNonNull(colour);
-        this.colour = colour.toLowerCase();
+        ordinal = ORDINALS.get(lowerCaseColour);
+        this.colour = COLOURARRAY[ordinal];
     }
 
     /**
      * Returns true if a given string is a valid colour.
      */
     public static boolean isValidColour(String test) {
-        return test.matches(VALIDATION_REGEX) && COLOURS.contains(test.toLowerCase());
+        return VALIDATION_PATTERN.matcher(test).matches() && COLOURS.contains(test.toLowerCase());
     }
 
     /**
-     * Initialises the HashMap of colours and their respective matching colours.
+     * Returns the colours that match this colour.
      */
-    public static void initialiseMatches() {
-        MATCHES.put("red", RED_MATCHES);
-        MATCHES.put("orange", ORANGE_MATCHES);
-        MATCHES.put("yellow", YELLOW_MATCHES);
-        MATCHES.put("green", GREEN_MATCHES);
-        MATCHES.put("blue", BLUE_MATCHES);
-        MATCHES.put("pink", PINK_MATCHES);
-        MATCHES.put("purple", PURPLE_MATCHES);
-        MATCHES.put("brown", BROWN_MATCHES);
-        MATCHES.put("black", BLACK_MATCHES);
-        MATCHES.put("white", WHITE_MATCHES);
-        MATCHES.put("grey", GREY_MATCHES);
-        MATCHES.put("beige", BEIGE_MATCHES);
+    public List<String> getMatches() {
+        return MATCH_LISTS.get(ordinal);
     }
 
-    public List<String> getMatches() {
-        return MATCHES.get(colour);
+    /**
+     * Returns the position of this colour in {@link #COLOURARRAY}.
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    /**
+     * Returns the bitmask of the positions in {@link #COLOURARRAY} of the colours that match this colour.
+     */
+    public int getMatchMask() {
+        return MATCH_MASKS[ordinal];
+    }
+
+    /**
+     * Returns the bit of this colour within a match mask.
+     */
+    public int getBit() {
+        return 1 << ordinal;
+    }
+
+    /**
+     * Returns true if {@code other} is one of the colours that match this colour.
+     * Matching is not necessarily symmetric.
+     */
+    public boolean matches(Colour other) {
+        return (getMatchMask() & other.getBit()) != 0;
     }
 
     @Override
@@ -220,7 +261,7 @@ public class Colour {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Colour // instanceof handles nulls
-                && colour.equals(((Colour) other).colour)); // state check
+                && ordinal == ((Colour) other).ordinal); // state check
     }
 
     @Override
@@ -1,21 +1,43 @@
 package seedu.address.model.garment;
 
+import java.util.BitSet;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
+import seedu.address.model.GarmentIndex;
+
 /**
  * Abstract class that tests that a {@code Garment}'s attribute matches any of the keywords given.
+ * The keywords are lower cased once on construction so that testing a garment does no string processing.
  */
 public abstract class ContainsKeywordsPredicate implements Predicate<Garment> {
     protected final List<String> keywords;
+    protected final Set<String> lowerCaseKeywords = new HashSet<>();
 
+    /**
+     * Every keyword must be non-null.
+     */
     public ContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        for (String keyword : keywords) {
+            lowerCaseKeywords.add(keyword.trim().toLowerCase());
+        }
     }
 
     @Override
     public abstract boolean test(Garment garment);
 
+    /**
+     * Returns the slots of {@code index} holding garments that this predicate accepts,
+     * or an empty {@code Optional} if the attribute is not indexed.
+     */
+    public Optional<BitSet> getMatchingSlots(GarmentIndex index) {
+        return Optional.empty();
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
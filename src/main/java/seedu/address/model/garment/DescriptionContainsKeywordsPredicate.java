@@ -1,11 +1,10 @@
 package seedu.address.model.garment;
 
-import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Set;
+import java.util.Optional;
 
-import seedu.address.commons.util.StringUtil;
-import seedu.address.model.description.Description;
+import seedu.address.model.GarmentIndex;
 
 /**
  * Tests that a {@code Garment}'s {@code Description} matches any of the keywords given.
@@ -18,15 +17,11 @@ public class DescriptionContainsKeywordsPredicate extends ContainsKeywordsPredic
 
     @Override
     public boolean test(Garment garment) {
-        Set<Description> descriptions = garment.getDescriptions();
-        ArrayList<Description> descriptionList = new ArrayList<>(descriptions);
-        String descriptionString = "";
-        for (Description d : descriptionList) {
-            descriptionString += d.descriptionName + " ";
-        }
-        String s = descriptionString;
-        return this.keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(
-                        s, keyword));
+        return garment.hasDescriptionWordIn(lowerCaseKeywords);
+    }
+
+    @Override
+    public Optional<BitSet> getMatchingSlots(GarmentIndex index) {
+        return Optional.of(index.getSlots(GarmentIndex.Attribute.DESCRIPTION, lowerCaseKeywords));
     }
 }
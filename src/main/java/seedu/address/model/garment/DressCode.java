@@ -4,12 +4,14 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
+import java.util.regex.Pattern;
 
 /**
  * Represents a Garment's DressCode in the wardrobe.
  * Guarantees: immutable; is valid as declared in {@link #isValidDressCode(String)}
+ * Every dresscode is identified by its position in {@link #DRESSCODES}, regardless of the case it was entered in,
+ * and the dresscodes it matches are held as a bitmask.
  */
 public class DressCode {
 
@@ -21,7 +23,11 @@ public class DressCode {
      */
     public static final String VALIDATION_REGEX = "FORMAL|ACTIVE|CASUAL|formal|active|casual";
 
-    public static final HashMap<String, List<String>> MATCHES = new HashMap<>();
+    public static final List<String> DRESSCODES = Arrays.asList(
+            "formal",
+            "active",
+            "casual"
+    );
 
     public static final List<String> FORMAL_MATCHES = Arrays.asList(
             "formal",
@@ -38,9 +44,32 @@ public class DressCode {
             "CASUAL"
     );
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    /** The matching dresscodes of each dresscode, in the order of {@link #DRESSCODES}. */
+    private static final List<List<String>> MATCH_LISTS = Arrays.asList(FORMAL_MATCHES, ACTIVE_MATCHES,
+            CASUAL_MATCHES);
+
+    private static final List<String> UPPER_CASE_DRESSCODES = Arrays.asList(
+            "FORMAL",
+            "ACTIVE",
+            "CASUAL"
+    );
+
+    private static final int[] MATCH_MASKS = new int[DRESSCODES.size()];
+
+    static {
+        for (int i = 0; i < DRESSCODES.size(); i++) {
+            for (String match : MATCH_LISTS.get(i)) {
+                MATCH_MASKS[i] |= 1 << DRESSCODES.indexOf(match.toLowerCase());
+            }
+        }
+    }
 
     public final String value;
 
+    private final int ordinal;
+
     /**
      * Constructs an {@code dresscode}.
      *
@@ -49,31 +78,58 @@ public class DressCode {
     public DressCode(String dresscode) {
         requireNonNull(dresscode);
         checkArgument(isValidDressCode(dresscode), MESSAGE_CONSTRAINTS);
-        value = dresscode;
+        int lowerCaseOrdinal = DRESSCODES.indexOf(dresscode);
+        ordinal = lowerCaseOrdinal >= 0 ? lowerCaseOrdinal : UPPER_CASE_DRESSCODES.indexOf(dresscode);
+        value = lowerCaseOrdinal >= 0 ? DRESSCODES.get(ordinal) : UPPER_CASE_DRESSCODES.get(ordinal);
     }
 
     /**
      * Returns true if a given string is a valid DressCode.
      */
     public static boolean isValidDressCode(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
-     * Initialises the HashMap of dresscodes and their respective matching dresscodes.
+     * Returns the dresscode in lower case.
      */
-    public static void initialiseMatches() {
-        MATCHES.put("formal", FORMAL_MATCHES);
-        MATCHES.put("active", ACTIVE_MATCHES);
-        MATCHES.put("casual", CASUAL_MATCHES);
-        MATCHES.put("FORMAL", FORMAL_MATCHES);
-        MATCHES.put("ACTIVE", ACTIVE_MATCHES);
-        MATCHES.put("CASUAL", CASUAL_MATCHES);
-
+    public String getLowerCaseValue() {
+        return DRESSCODES.get(ordinal);
     }
 
+    /**
+     * Returns the dresscodes that match this dresscode.
+     */
     public List<String> getMatches() {
-        return MATCHES.get(value);
+        return MATCH_LISTS.get(ordinal);
+    }
+
+    /**
+     * Returns the position of this dresscode in {@link #DRESSCODES}.
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    /**
+     * Returns the bitmask of the positions in {@link #DRESSCODES} of the dresscodes that match this dresscode.
+     */
+    public int getMatchMask() {
+        return MATCH_MASKS[ordinal];
+    }
+
+    /**
+     * Returns the bit of this dresscode within a match mask.
+     */
+    public int getBit() {
+        return 1 << ordinal;
+    }
+
+    /**
+     * Returns true if {@code other} is one of the dresscodes that match this dresscode, ignoring case.
+     */
+    public boolean matches(DressCode other) {
+        return (getMatchMask() & other.getBit()) != 0;
     }
 
     @Override
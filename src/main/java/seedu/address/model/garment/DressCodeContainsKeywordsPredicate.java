@@ -1,8 +1,10 @@
 package seedu.address.model.garment;
 
+import java.util.BitSet;
 import java.util.List;
+import java.util.Optional;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.model.GarmentIndex;
 
 /**
  * Tests that a {@code Garment}'s {@code DressCode} matches any of the keywords given.
@@ -15,7 +17,11 @@ public class DressCodeContainsKeywordsPredicate extends ContainsKeywordsPredicat
 
     @Override
     public boolean test(Garment garment) {
-        return this.keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(garment.getDressCode().value, keyword));
+        return lowerCaseKeywords.contains(garment.getDressCode().getLowerCaseValue());
+    }
+
+    @Override
+    public Optional<BitSet> getMatchingSlots(GarmentIndex index) {
+        return Optional.of(index.getSlots(GarmentIndex.Attribute.DRESSCODE, lowerCaseKeywords));
     }
 }
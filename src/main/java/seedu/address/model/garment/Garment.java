@@ -89,6 +89,18 @@ public class Garment {
         return Collections.unmodifiableSet(descriptions);
     }
 
+    /**
+     * Returns true if any word of any description, in lower case, is in {@code lowerCaseKeywords}.
+     */
+    public boolean hasDescriptionWordIn(Set<String> lowerCaseKeywords) {
+        for (Description description : descriptions) {
+            if (description.containsAnyWord(lowerCaseKeywords)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Returns true if both garments have the same name.
      * This defines a weaker notion of equality between two garments.
@@ -0,0 +1,51 @@
+package seedu.address.model.garment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+
+import seedu.address.model.GarmentIndex;
+
+/**
+ * Tests that a {@code Garment} matches a given garment in colour, dresscode and type.
+ * Each attribute is checked with the match masks of the given garment, so no keywords are involved.
+ */
+public class GarmentMatchesPredicate implements IndexablePredicate {
+
+    private final Garment garmentToMatch;
+
+    /**
+     * Creates a predicate that accepts the garments matching {@code garmentToMatch}.
+     */
+    public GarmentMatchesPredicate(Garment garmentToMatch) {
+        requireNonNull(garmentToMatch);
+        this.garmentToMatch = garmentToMatch;
+    }
+
+    @Override
+    public boolean test(Garment garment) {
+        return garmentToMatch.getColour().matches(garment.getColour())
+                && garmentToMatch.getDressCode().matches(garment.getDressCode())
+                && garmentToMatch.getType().matches(garment.getType());
+    }
+
+    @Override
+    public BitSet getMatchingSlots(GarmentIndex index) {
+        BitSet matchingSlots = index.getSlots(GarmentIndex.Attribute.TYPE,
+                new HashSet<>(garmentToMatch.getType().getMatches()));
+        matchingSlots.and(index.getSlots(GarmentIndex.Attribute.DRESSCODE,
+                Collections.singleton(garmentToMatch.getDressCode().getLowerCaseValue())));
+        matchingSlots.and(index.getSlots(GarmentIndex.Attribute.COLOUR,
+                new HashSet<>(garmentToMatch.getColour().getMatches())));
+        return matchingSlots;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof GarmentMatchesPredicate // instanceof handles nulls
+                && garmentToMatch.equals(((GarmentMatchesPredicate) other).garmentToMatch)); // state check
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.address.model.garment;
+
+/**
+ * A fixed sequence of garments that are only created when asked for, such as the garments of a wardrobe file
+ * that has not been read in full.
+ * The garments must have unique names and be in the order of {@link GarmentComparator}.
+ */
+public interface GarmentSource {
+
+    /**
+     * Returns the number of garments.
+     */
+    int size();
+
+    /**
+     * Returns the garment at {@code position}, creating it if needed.
+     * Must be safe to call from several threads at once, as copies of a wardrobe, which may be read on other
+     * threads, share its source.
+     */
+    Garment getGarment(int position);
+
+    /**
+     * Returns the epoch day the garment at {@code position} was last used on, as {@link LastUse#getEpochDay()}
+     * does, which is all {@link GarmentComparator} orders by. Creates the garment unless overridden.
+     */
+    default long getLastUseEpochDay(int position) {
+        return getGarment(position).getLastUse().getEpochDay();
+    }
+
+    /**
+     * Returns the position of the garment named {@code name}, or -1 if there is none.
+     * Creates every garment up to it unless overridden.
+     */
+    default int indexOf(Name name) {
+        for (int i = 0; i < size(); i++) {
+            if (getGarment(i).getName().equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
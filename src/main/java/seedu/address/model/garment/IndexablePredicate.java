@@ -0,0 +1,17 @@
+package seedu.address.model.garment;
+
+import java.util.BitSet;
+import java.util.function.Predicate;
+
+import seedu.address.model.GarmentIndex;
+
+/**
+ * A predicate on garments whose matches can also be looked up in a {@code GarmentIndex}.
+ */
+public interface IndexablePredicate extends Predicate<Garment> {
+
+    /**
+     * Returns the slots of {@code index} holding garments that this predicate accepts.
+     */
+    BitSet getMatchingSlots(GarmentIndex index);
+}
@@ -5,6 +5,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.DateTimeException;
 import java.time.LocalDate;
+import java.util.regex.Pattern;
 
 /**
  * Represents a Garment's last used date in the wardrobe.
@@ -16,8 +17,17 @@ public class LastUse {
 
     public static final String VALIDATION_REGEX = "Never|(\\d{4}-[01]\\d-[0-3]\\d)";
 
+    public static final String NEVER = "Never";
+
+    /** Epoch day used for garments that have never been used, ordered before every real date. */
+    public static final long NEVER_EPOCH_DAY = Long.MIN_VALUE;
+
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String value;
 
+    private final long epochDay;
+
     /**
      * Constructs a {@code LastUse}.
      *
@@ -25,8 +35,11 @@ public class LastUse {
      */
     public LastUse(String lastUseStr) {
         requireNonNull(lastUseStr);
-        checkArgument(isValidLastUse(lastUseStr), MESSAGE_CONSTRAINTS);
+        boolean isNever = lastUseStr.equals(NEVER);
+        LocalDate date = isNever ? null : toDate(lastUseStr);
+        checkArgument(isNever || date != null, MESSAGE_CONSTRAINTS);
         value = lastUseStr;
+        epochDay = isNever ? NEVER_EPOCH_DAY : date.toEpochDay();
     }
 
     /**
@@ -43,27 +56,37 @@ public class LastUse {
         requireNonNull(lastUseStr);
         checkArgument(isValidLastUse(lastUseStr), MESSAGE_CONSTRAINTS);
         value = lastUseStr;
+        epochDay = otherDate.toEpochDay();
     }
 
     /**
      * Returns true if a given LastUse input is a valid Date Object.
      */
     public static boolean isValidLastUse(String test) {
-        if (test.matches(VALIDATION_REGEX) == false) {
-            return false;
-        } else if (test.equals("Never")) {
-            return true;
-        } else {
-            try {
-                String[] date = test.split("-");
-                LocalDate dateTest = LocalDate.of(Integer.parseInt(date[0]),
-                        Integer.parseInt(date[1]),
-                        Integer.parseInt(date[2]));
-                return true;
-            } catch (DateTimeException e) {
-                return false;
-            }
+        return test.equals(NEVER) || toDate(test) != null;
+    }
+
+    /**
+     * Returns the date written as YYYY-MM-DD in {@code test}, or null if {@code test} is not such a date.
+     */
+    private static LocalDate toDate(String test) {
+        if (!VALIDATION_PATTERN.matcher(test).matches() || test.equals(NEVER)) {
+            return null;
         }
+        try {
+            return LocalDate.of(Integer.parseInt(test.substring(0, 4)),
+                    Integer.parseInt(test.substring(5, 7)),
+                    Integer.parseInt(test.substring(8, 10)));
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the date as a count of days from the epoch, or {@link #NEVER_EPOCH_DAY} if never used.
+     */
+    public long getEpochDay() {
+        return epochDay;
     }
 
     @Override
@@ -74,7 +97,7 @@ public class LastUse {
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
-                || (other instanceof Type // instanceof handles nulls
+                || (other instanceof LastUse // instanceof handles nulls
                 && value.equals(((LastUse) other).value)); // state check
     }
 
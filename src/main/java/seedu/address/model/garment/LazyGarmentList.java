@@ -0,0 +1,228 @@
+package seedu.address.model.garment;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import javafx.collections.ModifiableObservableListBase;
+import seedu.address.commons.util.ReplacedRangeChange;
+
+/**
+ * An observable list of garments that can hold the garments of a {@link GarmentSource} without creating them.
+ * Each garment of the source is created when it is first read, and kept from then on. Garments can be replaced
+ * in place without creating the rest, but adding or removing a garment first creates every remaining garment.
+ * Replacing the whole list reports the garments removed without creating them, unless a listener reads them.
+ */
+class LazyGarmentList extends ModifiableObservableListBase<Garment> {
+
+    /** The source of the garments that are not created yet, or null once every garment is created. */
+    private GarmentSource source;
+    /** The garments of {@code source} created so far, by position, while {@code source} is not null. */
+    private Garment[] sourceGarments;
+    private int createdCount;
+    /** Whether a garment of {@code source} has been replaced since the source was set. */
+    private boolean isSourceChanged;
+    /** The number of batches started and not ended yet. */
+    private int batchDepth;
+
+    /** The garments, once {@code source} is null. */
+    private List<Garment> garments = new ArrayList<>();
+
+    /**
+     * Returns true if some garments of the list are yet to be created.
+     */
+    public boolean isLazy() {
+        return source != null;
+    }
+
+    /**
+     * Returns the source the list was set to, if some of its garments are yet to be created and none of them
+     * has been replaced, added to or removed since.
+     */
+    public Optional<GarmentSource> getUnchangedSource() {
+        return source == null || isSourceChanged ? Optional.empty() : Optional.of(source);
+    }
+
+    /**
+     * Replaces the contents of the list with the garments of {@code source}, without creating them.
+     */
+    public void setSource(GarmentSource source) {
+        if (source.size() == 0) {
+            replace(null, null, 0, new ArrayList<>());
+            return;
+        }
+        replace(source, new Garment[source.size()], 0, null);
+    }
+
+    /**
+     * Replaces the contents of the list with those of {@code other}, sharing its source and the garments
+     * created from it so far.
+     */
+    public void copyFrom(LazyGarmentList other) {
+        if (other.isLazy()) {
+            replace(other.source, other.sourceGarments.clone(), other.createdCount, null);
+            isSourceChanged = other.isSourceChanged;
+        } else {
+            replace(null, null, 0, new ArrayList<>(other.garments));
+        }
+    }
+
+    /**
+     * Starts a batch of changes, which listeners are told of together, as one change, by the matching
+     * {@link #endBatch()}. Batches can be nested, in which case listeners are told when the outermost one ends.
+     */
+    void beginBatch() {
+        beginChange();
+        batchDepth++;
+    }
+
+    /**
+     * Ends the batch of changes started by the matching {@link #beginBatch()}.
+     */
+    void endBatch() {
+        batchDepth--;
+        endChange();
+    }
+
+    @Override
+    public Garment get(int index) {
+        if (source == null) {
+            return garments.get(index);
+        }
+
+        Garment garment = sourceGarments[index];
+        if (garment == null) {
+            garment = source.getGarment(index);
+            sourceGarments[index] = garment;
+            createdCount++;
+            if (createdCount == sourceGarments.length) {
+                // nothing is left to create, so the source can be let go of
+                createAll();
+            }
+        }
+        return garment;
+    }
+
+    @Override
+    public int size() {
+        return source == null ? garments.size() : sourceGarments.length;
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends Garment> garments) {
+        replace(null, null, 0, new ArrayList<>(garments));
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        if (!isEmpty()) {
+            replace(null, null, 0, new ArrayList<>());
+        }
+    }
+
+    @Override
+    protected void doAdd(int index, Garment garment) {
+        createAll();
+        garments.add(index, garment);
+    }
+
+    @Override
+    protected Garment doSet(int index, Garment garment) {
+        // reading the last garment not yet created creates every garment and lets go of the source
+        Garment replaced = get(index);
+        if (source == null) {
+            garments.set(index, garment);
+        } else {
+            sourceGarments[index] = garment;
+            isSourceChanged = true;
+        }
+        return replaced;
+    }
+
+    @Override
+    protected Garment doRemove(int index) {
+        createAll();
+        return garments.remove(index);
+    }
+
+    /**
+     * Creates every garment of the source that is not created yet, and lets go of the source.
+     */
+    private void createAll() {
+        if (source == null) {
+            return;
+        }
+
+        for (int i = 0; i < sourceGarments.length; i++) {
+            if (sourceGarments[i] == null) {
+                sourceGarments[i] = source.getGarment(i);
+            }
+        }
+        replaceContents(null, null, 0, new ArrayList<>(Arrays.asList(sourceGarments)));
+    }
+
+    private void replace(GarmentSource newSource, Garment[] newSourceGarments, int newCreatedCount,
+            List<Garment> newGarments) {
+        int removedCount = size();
+        List<Garment> removed = source == null ? garments : new SourceGarments(source, sourceGarments);
+        replaceContents(newSource, newSourceGarments, newCreatedCount, newGarments);
+        if (removedCount == 0 && isEmpty()) {
+            return;
+        }
+
+        if (batchDepth == 0) {
+            fireChange(new ReplacedRangeChange<>(this, 0, removed, size()));
+            return;
+        }
+        // a change within a batch is merged into the batch's change, which copies the garments removed
+        beginChange();
+        try {
+            if (removedCount > 0) {
+                nextRemove(0, removed);
+            }
+            if (!isEmpty()) {
+                nextAdd(0, size());
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    private void replaceContents(GarmentSource newSource, Garment[] newSourceGarments, int newCreatedCount,
+            List<Garment> newGarments) {
+        source = newSource;
+        sourceGarments = newSourceGarments;
+        createdCount = newCreatedCount;
+        garments = newGarments;
+        isSourceChanged = false;
+    }
+
+    /**
+     * The garments of a source the list has let go of, created from the source when read if they were not
+     * created while the list held it.
+     */
+    private static class SourceGarments extends AbstractList<Garment> {
+        private final GarmentSource source;
+        private final Garment[] createdGarments;
+
+        SourceGarments(GarmentSource source, Garment[] createdGarments) {
+            this.source = source;
+            this.createdGarments = createdGarments;
+        }
+
+        @Override
+        public Garment get(int index) {
+            Garment garment = createdGarments[index];
+            return garment != null ? garment : source.getGarment(index);
+        }
+
+        @Override
+        public int size() {
+            return createdGarments.length;
+        }
+    }
+}
@@ -3,6 +3,11 @@ package seedu.address.model.garment;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Garment's name in the wardrobe.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -18,8 +23,12 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String fullName;
 
+    private final String[] lowerCaseWords;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -29,15 +38,27 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        lowerCaseWords = StringUtil.toLowerCaseWords(name);
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
+    /**
+     * Returns true if any word of the name, in lower case, is in {@code lowerCaseKeywords}.
+     */
+    public boolean containsAnyWord(Set<String> lowerCaseKeywords) {
+        for (String word : lowerCaseWords) {
+            if (lowerCaseKeywords.contains(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
     @Override
     public String toString() {
@@ -2,8 +2,6 @@ package seedu.address.model.garment;
 
 import java.util.List;
 
-import seedu.address.commons.util.StringUtil;
-
 /**
  * Tests that a {@code Garment}'s {@code Name} matches any of the keywords given.
  */
@@ -15,8 +13,7 @@ public class NameContainsKeywordsPredicate extends ContainsKeywordsPredicate {
 
     @Override
     public boolean test(Garment garment) {
-        return this.keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(garment.getName().fullName, keyword));
+        return garment.getName().containsAnyWord(lowerCaseKeywords);
     }
 
     /*@Override
@@ -4,12 +4,13 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
+import java.util.regex.Pattern;
 
 /**
  * Represents a Garment's DressCode in the wardrobe.
  * Guarantees: immutable; is valid as declared in {@link #isValidType(String)}
+ * Every type is identified by its position in {@link #TYPES}, and the types it matches are held as a bitmask.
  */
 public class Type {
 
@@ -17,7 +18,11 @@ public class Type {
 
     public static final String VALIDATION_REGEX = "upper|lower|footwear";
 
-    public static final HashMap<String, List<String>> MATCHES = new HashMap<>();
+    public static final List<String> TYPES = Arrays.asList(
+            "upper",
+            "lower",
+            "footwear"
+    );
 
     public static final List<String> UPPER_MATCHES = Arrays.asList(
             "lower",
@@ -34,8 +39,26 @@ public class Type {
             "lower"
     );
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    /** The matching types of each type, in the order of {@link #TYPES}. */
+    private static final List<List<String>> MATCH_LISTS = Arrays.asList(UPPER_MATCHES, LOWER_MATCHES,
+            FOOTWEAR_MATCHES);
+
+    private static final int[] MATCH_MASKS = new int[TYPES.size()];
+
+    static {
+        for (int i = 0; i < TYPES.size(); i++) {
+            for (String match : MATCH_LISTS.get(i)) {
+                MATCH_MASKS[i] |= 1 << TYPES.indexOf(match);
+            }
+        }
+    }
+
     public final String value;
 
+    private final int ordinal;
+
     /**
      * Constructs an {@code type}.
      *
@@ -44,27 +67,50 @@ public class Type {
     public Type(String type) {
         requireNonNull(type);
         checkArgument(isValidType(type), MESSAGE_CONSTRAINTS);
-        value = type;
+        ordinal = TYPES.indexOf(type);
+        value = TYPES.get(ordinal);
     }
 
     /**
      * Returns true if a given string is a valid Type.
      */
     public static boolean isValidType(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
-     * Initialises the HashMap of types and their respective matching types.
+     * Returns the types that match this type.
      */
-    public static void initialiseMatches() {
-        MATCHES.put("upper", UPPER_MATCHES);
-        MATCHES.put("lower", LOWER_MATCHES);
-        MATCHES.put("footwear", FOOTWEAR_MATCHES);
+    public List<String> getMatches() {
+        return MATCH_LISTS.get(ordinal);
     }
 
-    public List<String> getMatches() {
-        return MATCHES.get(value);
+    /**
+     * Returns the position of this type in {@link #TYPES}.
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    /**
+     * Returns the bitmask of the positions in {@link #TYPES} of the types that match this type.
+     */
+    public int getMatchMask() {
+        return MATCH_MASKS[ordinal];
+    }
+
+    /**
+     * Returns the bit of this type within a match mask.
+     */
+    public int getBit() {
+        return 1 << ordinal;
+    }
+
+    /**
+     * Returns true if {@code other} is one of the types that match this type.
+     */
+    public boolean matches(Type other) {
+        return (getMatchMask() & other.getBit()) != 0;
     }
 
     @Override
@@ -76,7 +122,7 @@ public class Type {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Type // instanceof handles nulls
-                && value.equals(((Type) other).value)); // state check
+                && ordinal == ((Type) other).ordinal); // state check
     }
 
     @Override
@@ -85,5 +131,3 @@ public class Type {
     }
 
 }
-
-
@@ -3,8 +3,12 @@ package seedu.address.model.garment;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,27 +24,36 @@ import seedu.address.model.garment.exceptions.GarmentNotFoundException;
  * However, the removal of a garment uses Garment#equals(Object) so
  * as to ensure that the garment with exactly the same fields will be removed.
  *
+ * Garments are also indexed by {@code Name} so that identity checks do not need to scan the list.
+ * The list can also hold the garments of a {@link GarmentSource}, which are only created when read. The name
+ * index is then built, creating every garment, by the first identity check, which also fails with a
+ * {@code DuplicateGarmentException} if the source holds two garments with the same name.
+ *
+ * The list is kept ordered by {@link GarmentComparator} at all times. Single garment changes are placed
+ * by binary search, so listeners see one add, remove or replace change instead of a full permutation.
+ * Garments with the same last use date keep the order in which they were added.
+ * Changes made together in {@link #batchUpdate(Runnable)} are reported to listeners as one change.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Garment#isSameGarment(Garment)
  */
 public class UniqueGarmentList implements Iterable<Garment> {
 
-    private final ObservableList<Garment> internalList = FXCollections.observableArrayList();
+    private static final Comparator<Garment> LAST_USE_ORDER = new GarmentComparator();
+
+    private final LazyGarmentList internalList = new LazyGarmentList();
     private final ObservableList<Garment> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
-
-    public void sort() {
-        internalList.sort(new GarmentComparator());
-    }
+    /** The garments by name, or null if the index is yet to be built. */
+    private HashMap<Name, Garment> nameIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent garment as the given argument.
      */
     public boolean contains(Garment toCheck) {
         requireNonNull(toCheck);
-        this.sort();
-        return internalList.stream().anyMatch(toCheck::isSameGarment);
+        return getNameIndex().containsKey(toCheck.getName());
     }
 
     /**
@@ -52,8 +65,8 @@ public class UniqueGarmentList implements Iterable<Garment> {
         if (contains(toAdd)) {
             throw new DuplicateGarmentException();
         }
-        internalList.add(toAdd);
-        this.sort();
+        internalList.add(upperBound(toAdd), toAdd);
+        getNameIndex().put(toAdd.getName(), toAdd);
     }
 
     /**
@@ -64,8 +77,8 @@ public class UniqueGarmentList implements Iterable<Garment> {
     public void setGarment(Garment target, Garment editedGarment) {
         requireAllNonNull(target, editedGarment);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Garment existing = getNameIndex().get(target.getName());
+        if (existing == null || !existing.equals(target)) {
             throw new GarmentNotFoundException();
         }
 
@@ -73,8 +86,17 @@ public class UniqueGarmentList implements Iterable<Garment> {
             throw new DuplicateGarmentException();
         }
 
-        internalList.set(index, editedGarment);
-        this.sort();
+        int index = indexOf(existing);
+        if (LAST_USE_ORDER.compare(existing, editedGarment) == 0) {
+            internalList.set(index, editedGarment);
+        } else {
+            internalList.remove(index);
+            // Among garments with the same last use date, the edited garment keeps its original relative position
+            int newIndex = Math.max(lowerBound(editedGarment), Math.min(index, upperBound(editedGarment)));
+            internalList.add(newIndex, editedGarment);
+        }
+        nameIndex.remove(existing.getName());
+        nameIndex.put(editedGarment.getName(), editedGarment);
     }
 
     /**
@@ -83,16 +105,31 @@ public class UniqueGarmentList implements Iterable<Garment> {
      */
     public void remove(Garment toRemove) {
         requireNonNull(toRemove);
-        this.sort();
-        if (!internalList.remove(toRemove)) {
+        Garment existing = getNameIndex().get(toRemove.getName());
+        if (existing == null || !existing.equals(toRemove)) {
             throw new GarmentNotFoundException();
         }
+        internalList.remove(indexOf(existing));
+        nameIndex.remove(existing.getName());
     }
 
+    /**
+     * Replaces the contents of this list with those of {@code replacement}.
+     * Garments that {@code replacement} has yet to create are not created by the copy either.
+     */
     public void setGarments(UniqueGarmentList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
-        this.sort();
+        internalList.copyFrom(replacement.internalList);
+        nameIndex = replacement.nameIndex == null ? null : new HashMap<>(replacement.nameIndex);
+    }
+
+    /**
+     * Replaces the contents of this list with the garments of {@code source}, without creating them.
+     */
+    public void setGarments(GarmentSource source) {
+        requireNonNull(source);
+        internalList.setSource(source);
+        nameIndex = null;
     }
 
     /**
@@ -101,12 +138,41 @@ public class UniqueGarmentList implements Iterable<Garment> {
      */
     public void setGarments(List<Garment> garments) {
         requireAllNonNull(garments);
-        if (!garmentsAreUnique(garments)) {
-            throw new DuplicateGarmentException();
+        // the name index doubles as the duplicate check, so the garments are hashed once
+        HashMap<Name, Garment> newNameIndex = new HashMap<>();
+        for (Garment garment : garments) {
+            if (newNameIndex.put(garment.getName(), garment) != null) {
+                throw new DuplicateGarmentException();
+            }
         }
 
-        internalList.setAll(garments);
-        this.sort();
+        List<Garment> sortedGarments = new ArrayList<>(garments);
+        sortedGarments.sort(LAST_USE_ORDER);
+        internalList.setAll(sortedGarments);
+        nameIndex = newNameIndex;
+    }
+
+    /**
+     * Runs {@code updates}, which change this list, as one batch. Listeners are told of every change made by
+     * {@code updates} together, as a single change, once they have run, even if they fail part way.
+     * Batches can be nested.
+     */
+    public void batchUpdate(Runnable updates) {
+        requireNonNull(updates);
+        internalList.beginBatch();
+        try {
+            updates.run();
+        } finally {
+            internalList.endBatch();
+        }
+    }
+
+    /**
+     * Returns the source the list was set to with {@link #setGarments(GarmentSource)}, if some of its garments
+     * are yet to be created and the list has not changed since.
+     */
+    public Optional<GarmentSource> getGarmentSource() {
+        return internalList.getUnchangedSource();
     }
 
     /**
@@ -134,16 +200,67 @@ public class UniqueGarmentList implements Iterable<Garment> {
     }
 
     /**
-     * Returns true if {@code garments} contains only unique garments.
+     * Returns the garments by name, building the index first if needed.
+     *
+     * @throws DuplicateGarmentException if the garments of a source turn out to have duplicate names.
      */
-    private boolean garmentsAreUnique(List<Garment> garments) {
-        for (int i = 0; i < garments.size() - 1; i++) {
-            for (int j = i + 1; j < garments.size(); j++) {
-                if (garments.get(i).isSameGarment(garments.get(j))) {
-                    return false;
+    private HashMap<Name, Garment> getNameIndex() {
+        if (nameIndex == null) {
+            HashMap<Name, Garment> newNameIndex = new HashMap<>();
+            for (Garment garment : internalList) {
+                if (newNameIndex.put(garment.getName(), garment) != null) {
+                    throw new DuplicateGarmentException();
                 }
             }
+            nameIndex = newNameIndex;
+        }
+        return nameIndex;
+    }
+
+    /**
+     * Returns the position of {@code garment}, which must be an element of the list.
+     * Only the run of garments sharing its last use date is scanned.
+     */
+    private int indexOf(Garment garment) {
+        for (int i = lowerBound(garment); i < internalList.size(); i++) {
+            if (internalList.get(i) == garment) {
+                return i;
+            }
+        }
+        throw new GarmentNotFoundException();
+    }
+
+    /**
+     * Returns the index of the first garment that is not ordered before {@code garment}.
+     */
+    private int lowerBound(Garment garment) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (LAST_USE_ORDER.compare(internalList.get(mid), garment) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first garment that is ordered after {@code garment}.
+     */
+    private int upperBound(Garment garment) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (LAST_USE_ORDER.compare(internalList.get(mid), garment) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
         }
-        return true;
+        return low;
     }
 }
@@ -0,0 +1,90 @@
+package seedu.address.model.outfit;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.model.garment.Garment;
+
+/**
+ * Represents an outfit of one upper, one lower and one footwear garment.
+ * Guarantees: details are present and not null, field values are validated, immutable.
+ */
+public class Outfit {
+
+    private final Garment upper;
+    private final Garment lower;
+    private final Garment footwear;
+
+    // Last use epoch days of the three garments, from the most to the least recently used
+    private final long mostRecentUse;
+    private final long middleUse;
+    private final long leastRecentUse;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public Outfit(Garment upper, Garment lower, Garment footwear) {
+        requireAllNonNull(upper, lower, footwear);
+        this.upper = upper;
+        this.lower = lower;
+        this.footwear = footwear;
+
+        long upperUse = upper.getLastUse().getEpochDay();
+        long lowerUse = lower.getLastUse().getEpochDay();
+        long footwearUse = footwear.getLastUse().getEpochDay();
+        mostRecentUse = Math.max(upperUse, Math.max(lowerUse, footwearUse));
+        leastRecentUse = Math.min(upperUse, Math.min(lowerUse, footwearUse));
+        middleUse = Math.max(Math.min(upperUse, lowerUse), Math.min(Math.max(upperUse, lowerUse), footwearUse));
+    }
+
+    public Garment getUpper() {
+        return upper;
+    }
+
+    public Garment getLower() {
+        return lower;
+    }
+
+    public Garment getFootwear() {
+        return footwear;
+    }
+
+    public long getMostRecentUse() {
+        return mostRecentUse;
+    }
+
+    public long getMiddleUse() {
+        return middleUse;
+    }
+
+    public long getLeastRecentUse() {
+        return leastRecentUse;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof Outfit)) {
+            return false;
+        }
+
+        Outfit otherOutfit = (Outfit) other;
+        return otherOutfit.getUpper().equals(getUpper())
+                && otherOutfit.getLower().equals(getLower())
+                && otherOutfit.getFootwear().equals(getFootwear());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(upper, lower, footwear);
+    }
+
+    @Override
+    public String toString() {
+        return "upper: " + upper.getName() + ", lower: " + lower.getName() + ", footwear: " + footwear.getName();
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.model.outfit;
+
+import java.util.Comparator;
+
+/**
+ * Orders outfits so that outfits whose garments were worn longer ago come first.
+ * Outfits are compared by their most recently used garment, then by the next most recently used garment,
+ * then by the least recently used garment. Remaining ties are broken by the names of the upper, lower
+ * and footwear garments, so that no two different outfits of a wardrobe are ordered equally.
+ */
+public class OutfitComparator implements Comparator<Outfit> {
+
+    @Override
+    public int compare(Outfit o1, Outfit o2) {
+        int result = Long.compare(o1.getMostRecentUse(), o2.getMostRecentUse());
+        if (result == 0) {
+            result = Long.compare(o1.getMiddleUse(), o2.getMiddleUse());
+        }
+        if (result == 0) {
+            result = Long.compare(o1.getLeastRecentUse(), o2.getLeastRecentUse());
+        }
+        if (result == 0) {
+            result = o1.getUpper().getName().fullName.compareTo(o2.getUpper().getName().fullName);
+        }
+        if (result == 0) {
+            result = o1.getLower().getName().fullName.compareTo(o2.getLower().getName().fullName);
+        }
+        if (result == 0) {
+            result = o1.getFootwear().getName().fullName.compareTo(o2.getFootwear().getName().fullName);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,198 @@
+package seedu.address.model.outfit;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import seedu.address.model.garment.Colour;
+import seedu.address.model.garment.DressCode;
+import seedu.address.model.garment.Garment;
+import seedu.address.model.garment.Type;
+
+/**
+ * Puts together the best ranked outfits of a wardrobe.
+ *
+ * An outfit is made of an upper, a lower and a footwear garment of the same dresscode
+ * whose colours all match each other. Outfits are ranked by {@link OutfitComparator}.
+ *
+ * Garments are first split into buckets by type, dresscode and colour, so that only buckets of matching
+ * colours are ever combined. Each bucket is ordered by last use, which lets the search over a combination
+ * of buckets stop as soon as the next outfit it would build cannot rank among the best found so far.
+ *
+ * The search is split across a {@code ForkJoinPool} with one task per bucket of upper garments. Each task keeps
+ * its own best outfits, which are merged by {@link #RANKING} once all tasks are done. As the ranking orders
+ * any two different outfits, the result does not depend on the number of threads or the order tasks finish in.
+ */
+public class OutfitGenerator {
+
+    public static final Comparator<Outfit> RANKING = new OutfitComparator();
+
+    private static final Comparator<Garment> BUCKET_ORDER = Comparator
+            .comparingLong((Garment garment) -> garment.getLastUse().getEpochDay())
+            .thenComparing(garment -> garment.getName().fullName);
+
+    private static final int UPPER = Type.TYPES.indexOf("upper");
+    private static final int LOWER = Type.TYPES.indexOf("lower");
+    private static final int FOOTWEAR = Type.TYPES.indexOf("footwear");
+
+    private static final int NUMBER_OF_COLOURS = Colour.COLOURARRAY.length;
+    private static final int NUMBER_OF_DRESSCODES = DressCode.DRESSCODES.size();
+
+    /** Whether the colours at both positions of {@link Colour#COLOURARRAY} match each other. */
+    private static final boolean[][] COLOURS_MATCH = new boolean[NUMBER_OF_COLOURS][NUMBER_OF_COLOURS];
+
+    static {
+        for (int i = 0; i < NUMBER_OF_COLOURS; i++) {
+            Colour first = new Colour(Colour.COLOURARRAY[i]);
+            for (int j = 0; j < NUMBER_OF_COLOURS; j++) {
+                Colour second = new Colour(Colour.COLOURARRAY[j]);
+                COLOURS_MATCH[i][j] = first.matches(second) && second.matches(first);
+            }
+        }
+    }
+
+    /** Garments bucketed by type, dresscode and colour, as laid out by {@link #getBucket}. */
+    private final List<List<Garment>> buckets = new ArrayList<>();
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a generator for outfits made of {@code garments} that searches on the common {@code ForkJoinPool}.
+     */
+    public OutfitGenerator(Iterable<Garment> garments) {
+        this(garments, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a generator for outfits made of {@code garments} that searches on {@code pool}.
+     */
+    public OutfitGenerator(Iterable<Garment> garments, ForkJoinPool pool) {
+        requireAllNonNull(garments, pool);
+        this.pool = pool;
+        for (int i = 0; i < Type.TYPES.size() * NUMBER_OF_DRESSCODES * NUMBER_OF_COLOURS; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        for (Garment garment : garments) {
+            getBucket(garment.getType().getOrdinal(), garment.getDressCode().getOrdinal(),
+                    garment.getColour().getOrdinal()).add(garment);
+        }
+        List<ForkJoinTask<?>> sorts = new ArrayList<>();
+        for (List<Garment> bucket : buckets) {
+            if (bucket.size() > 1) {
+                sorts.add(pool.submit(() -> bucket.sort(BUCKET_ORDER)));
+            }
+        }
+        sorts.forEach(ForkJoinTask::join);
+    }
+
+    /**
+     * Returns up to {@code count} of the best ranked outfits, best first.
+     */
+    public List<Outfit> generate(int count) {
+        checkArgument(count > 0);
+        List<UpperBucketSearch> searches = new ArrayList<>();
+        for (int dresscode = 0; dresscode < NUMBER_OF_DRESSCODES; dresscode++) {
+            for (int upperColour = 0; upperColour < NUMBER_OF_COLOURS; upperColour++) {
+                if (!getBucket(UPPER, dresscode, upperColour).isEmpty()) {
+                    searches.add(new UpperBucketSearch(dresscode, upperColour, count));
+                }
+            }
+        }
+        searches.forEach(pool::execute);
+
+        List<Outfit> outfits = new ArrayList<>();
+        for (UpperBucketSearch search : searches) {
+            outfits.addAll(search.join());
+        }
+        outfits.sort(RANKING);
+        return outfits.size() > count ? new ArrayList<>(outfits.subList(0, count)) : outfits;
+    }
+
+    /**
+     * Searches for the best outfits whose upper garment comes from one bucket.
+     */
+    private class UpperBucketSearch extends RecursiveTask<Collection<Outfit>> {
+
+        private final int dresscode;
+        private final int upperColour;
+        private final int count;
+
+        UpperBucketSearch(int dresscode, int upperColour, int count) {
+            this.dresscode = dresscode;
+            this.upperColour = upperColour;
+            this.count = count;
+        }
+
+        @Override
+        protected Collection<Outfit> compute() {
+            // Holds the best outfits found so far, with the worst of them at the head
+            PriorityQueue<Outfit> bestOutfits = new PriorityQueue<>(RANKING.reversed());
+            List<Garment> uppers = getBucket(UPPER, dresscode, upperColour);
+            for (int lowerColour = 0; lowerColour < NUMBER_OF_COLOURS; lowerColour++) {
+                List<Garment> lowers = getBucket(LOWER, dresscode, lowerColour);
+                if (lowers.isEmpty() || !COLOURS_MATCH[upperColour][lowerColour]) {
+                    continue;
+                }
+                for (int footwearColour = 0; footwearColour < NUMBER_OF_COLOURS; footwearColour++) {
+                    List<Garment> footwears = getBucket(FOOTWEAR, dresscode, footwearColour);
+                    if (footwears.isEmpty() || !COLOURS_MATCH[upperColour][footwearColour]
+                            || !COLOURS_MATCH[lowerColour][footwearColour]) {
+                        continue;
+                    }
+                    addBestOutfits(uppers, lowers, footwears, count, bestOutfits);
+                }
+            }
+            return bestOutfits;
+        }
+    }
+
+    /**
+     * Adds the outfits made of {@code uppers}, {@code lowers} and {@code footwears} that rank among the best
+     * {@code count} outfits to {@code bestOutfits}, evicting the outfits that no longer do.
+     *
+     * As each bucket is in {@link #BUCKET_ORDER}, an outfit never ranks better than one made of the same
+     * garments with any of them swapped for an earlier garment of its bucket. Each loop therefore stops at
+     * the first garment whose best possible outfit does not rank among the best outfits.
+     */
+    private static void addBestOutfits(List<Garment> uppers, List<Garment> lowers, List<Garment> footwears,
+            int count, PriorityQueue<Outfit> bestOutfits) {
+        Garment firstLower = lowers.get(0);
+        Garment firstFootwear = footwears.get(0);
+        for (Garment upper : uppers) {
+            if (!isAmongBest(new Outfit(upper, firstLower, firstFootwear), count, bestOutfits)) {
+                return;
+            }
+            for (Garment lower : lowers) {
+                if (!isAmongBest(new Outfit(upper, lower, firstFootwear), count, bestOutfits)) {
+                    break;
+                }
+                for (Garment footwear : footwears) {
+                    Outfit outfit = new Outfit(upper, lower, footwear);
+                    if (!isAmongBest(outfit, count, bestOutfits)) {
+                        break;
+                    }
+                    bestOutfits.add(outfit);
+                    if (bestOutfits.size() > count) {
+                        bestOutfits.poll();
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean isAmongBest(Outfit outfit, int count, PriorityQueue<Outfit> bestOutfits) {
+        return bestOutfits.size() < count || RANKING.compare(outfit, bestOutfits.peek()) < 0;
+    }
+
+    private List<Garment> getBucket(int type, int dresscode, int colour) {
+        return buckets.get((type * NUMBER_OF_DRESSCODES + dresscode) * NUMBER_OF_COLOURS + colour);
+    }
+}
@@ -0,0 +1,349 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyWardrobe;
+import seedu.address.model.Wardrobe;
+import seedu.address.model.description.Description;
+import seedu.address.model.garment.Colour;
+import seedu.address.model.garment.DressCode;
+import seedu.address.model.garment.Garment;
+import seedu.address.model.garment.LastUse;
+import seedu.address.model.garment.Name;
+import seedu.address.model.garment.Size;
+import seedu.address.model.garment.Type;
+
+/**
+ * Encodes a wardrobe into the payload of a binary wardrobe file, and decodes it back.
+ *
+ * The payload starts with the number of garments, followed by dictionaries of the colours, dress codes, types
+ * and descriptions used by the garments. Each garment is then its name, its size, the dictionary positions of its
+ * colour, dress code, type and descriptions, and its last use as an epoch day. Every number is a varint, so
+ * dictionary positions and sizes mostly take a single byte.
+ *
+ * The payload ends with a table holding the offset of each garment from the start of the payload, as a fixed
+ * width integer, so that a single garment can be decoded without decoding those before it.
+ */
+class BinaryWardrobeCodec {
+
+    public static final String MESSAGE_INVALID_DICTIONARY_ENTRY = "Dictionary position %d is out of range";
+    public static final String MESSAGE_INVALID_VARINT = "Varint is too long";
+
+    /** Encoded in place of an epoch day for garments that have never been used. */
+    private static final long NEVER_USED = 0;
+
+    /**
+     * Writes {@code source} to {@code output}.
+     */
+    public static void write(ReadOnlyWardrobe source, DataOutputStream output) throws IOException {
+        int start = output.size();
+        Map<String, Integer> colours = new LinkedHashMap<>();
+        Map<String, Integer> dressCodes = new LinkedHashMap<>();
+        Map<String, Integer> types = new LinkedHashMap<>();
+        Map<String, Integer> descriptions = new LinkedHashMap<>();
+        for (Garment garment : source.getGarmentList()) {
+            addToDictionary(colours, garment.getColour().colour);
+            addToDictionary(dressCodes, garment.getDressCode().value);
+            addToDictionary(types, garment.getType().value);
+            for (Description description : garment.getDescriptions()) {
+                addToDictionary(descriptions, description.descriptionName);
+            }
+        }
+
+        writeVarLong(output, source.getGarmentList().size());
+        writeDictionary(output, colours);
+        writeDictionary(output, dressCodes);
+        writeDictionary(output, types);
+        writeDictionary(output, descriptions);
+
+        int[] offsets = new int[source.getGarmentList().size()];
+        int position = 0;
+        for (Garment garment : source.getGarmentList()) {
+            offsets[position++] = output.size() - start;
+            writeString(output, garment.getName().fullName);
+            writeVarLong(output, Integer.parseInt(garment.getSize().value));
+            writeVarLong(output, colours.get(garment.getColour().colour));
+            writeVarLong(output, dressCodes.get(garment.getDressCode().value));
+            writeVarLong(output, types.get(garment.getType().value));
+            writeVarLong(output, garment.getDescriptions().size());
+            for (Description description : garment.getDescriptions()) {
+                writeVarLong(output, descriptions.get(description.descriptionName));
+            }
+            writeVarLong(output, encodeLastUse(garment.getLastUse()));
+        }
+
+        for (int offset : offsets) {
+            output.writeInt(offset);
+        }
+    }
+
+    /**
+     * Reads a wardrobe from {@code input}.
+     * Each dictionary entry is validated and converted once, and shared by every garment that uses it.
+     * The offset table is not needed, so it is not read.
+     *
+     * @throws IOException if {@code input} ends early or is malformed.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static Wardrobe read(DataInput input) throws IOException, IllegalValueException {
+        int garmentCount = readCount(input);
+        Dictionaries dictionaries = readDictionaries(input);
+
+        List<Garment> garments = new ArrayList<>(garmentCount);
+        Set<Name> names = new HashSet<>();
+        for (int i = 0; i < garmentCount; i++) {
+            Garment garment = readGarment(input, dictionaries);
+            if (!names.add(garment.getName())) {
+                throw new IllegalValueException(JsonSerializableWardrobe.MESSAGE_DUPLICATE_GARMENT);
+            }
+            garments.add(garment);
+        }
+
+        Wardrobe wardrobe = new Wardrobe();
+        wardrobe.setGarments(garments);
+        return wardrobe;
+    }
+
+    /**
+     * Reads the dictionaries that follow the number of garments.
+     */
+    public static Dictionaries readDictionaries(DataInput input) throws IOException, IllegalValueException {
+        return new Dictionaries(readColours(input), readDressCodes(input), readTypes(input),
+                readDescriptions(input));
+    }
+
+    /**
+     * Reads a single garment, looking up its dictionary positions in {@code dictionaries}.
+     */
+    public static Garment readGarment(DataInput input, Dictionaries dictionaries)
+            throws IOException, IllegalValueException {
+        String name = readString(input);
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        Name modelName = new Name(name);
+
+        long size = readVarLong(input);
+        if (size <= 0 || size > Integer.MAX_VALUE) {
+            throw new IllegalValueException(Size.MESSAGE_CONSTRAINTS);
+        }
+        Size modelSize = new Size(String.valueOf(size));
+
+        Colour modelColour = getEntry(dictionaries.colours, readVarLong(input));
+        DressCode modelDressCode = getEntry(dictionaries.dressCodes, readVarLong(input));
+        Type modelType = getEntry(dictionaries.types, readVarLong(input));
+        int descriptionCount = readCount(input);
+        Set<Description> modelDescriptions = new HashSet<>();
+        for (int j = 0; j < descriptionCount; j++) {
+            modelDescriptions.add(getEntry(dictionaries.descriptions, readVarLong(input)));
+        }
+        LastUse modelLastUse = decodeLastUse(readVarLong(input));
+
+        return new Garment(modelName, modelSize, modelColour, modelDressCode, modelType, modelDescriptions,
+                modelLastUse);
+    }
+
+    /**
+     * Reads a single garment only as far as its last use, returning the epoch day of its last use as
+     * {@link LastUse#getEpochDay()} does, without creating the garment.
+     */
+    public static long readLastUseEpochDay(DataInput input) throws IOException {
+        input.skipBytes(readCount(input)); // name
+        for (int field = 0; field < 4; field++) { // size, colour, dress code and type
+            readVarLong(input);
+        }
+        int descriptionCount = readCount(input);
+        for (int j = 0; j < descriptionCount; j++) {
+            readVarLong(input);
+        }
+
+        long encoded = readVarLong(input);
+        if (encoded == NEVER_USED) {
+            return LastUse.NEVER_EPOCH_DAY;
+        }
+        long zigzag = encoded - 1;
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    private static List<Colour> readColours(DataInput input) throws IOException, IllegalValueException {
+        List<Colour> colours = new ArrayList<>();
+        for (String colour : readDictionary(input)) {
+            if (!Colour.isValidColour(colour)) {
+                throw new IllegalValueException(Colour.MESSAGE_CONSTRAINTS);
+            }
+            colours.add(new Colour(colour));
+        }
+        return colours;
+    }
+
+    private static List<DressCode> readDressCodes(DataInput input) throws IOException, IllegalValueException {
+        List<DressCode> dressCodes = new ArrayList<>();
+        for (String dressCode : readDictionary(input)) {
+            if (!DressCode.isValidDressCode(dressCode)) {
+                throw new IllegalValueException(DressCode.MESSAGE_CONSTRAINTS);
+            }
+            dressCodes.add(new DressCode(dressCode));
+        }
+        return dressCodes;
+    }
+
+    private static List<Type> readTypes(DataInput input) throws IOException, IllegalValueException {
+        List<Type> types = new ArrayList<>();
+        for (String type : readDictionary(input)) {
+            if (!Type.isValidType(type)) {
+                throw new IllegalValueException(Type.MESSAGE_CONSTRAINTS);
+            }
+            types.add(new Type(type));
+        }
+        return types;
+    }
+
+    private static List<Description> readDescriptions(DataInput input) throws IOException, IllegalValueException {
+        List<Description> descriptions = new ArrayList<>();
+        for (String description : readDictionary(input)) {
+            if (!Description.isValidDescriptionName(description)) {
+                throw new IllegalValueException(Description.MESSAGE_CONSTRAINTS);
+            }
+            descriptions.add(new Description(description));
+        }
+        return descriptions;
+    }
+
+    private static <T> T getEntry(List<T> dictionary, long position) throws IllegalValueException {
+        if (position < 0 || position >= dictionary.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_DICTIONARY_ENTRY, position));
+        }
+        return dictionary.get((int) position);
+    }
+
+    private static void addToDictionary(Map<String, Integer> dictionary, String entry) {
+        dictionary.putIfAbsent(entry, dictionary.size());
+    }
+
+    private static void writeDictionary(DataOutput output, Map<String, Integer> dictionary) throws IOException {
+        writeVarLong(output, dictionary.size());
+        for (String entry : dictionary.keySet()) {
+            writeString(output, entry);
+        }
+    }
+
+    private static List<String> readDictionary(DataInput input) throws IOException {
+        int size = readCount(input);
+        List<String> entries = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            entries.add(readString(input));
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the last use as 0 if never used, or one more than its zigzag encoded epoch day otherwise,
+     * so that recent dates before or after 1970 both stay small.
+     */
+    private static long encodeLastUse(LastUse lastUse) {
+        long epochDay = lastUse.getEpochDay();
+        if (epochDay == LastUse.NEVER_EPOCH_DAY) {
+            return NEVER_USED;
+        }
+        return ((epochDay << 1) ^ (epochDay >> 63)) + 1;
+    }
+
+    private static LastUse decodeLastUse(long encoded) throws IllegalValueException {
+        if (encoded == NEVER_USED) {
+            return new LastUse(LastUse.NEVER);
+        }
+
+        long zigzag = encoded - 1;
+        long epochDay = (zigzag >>> 1) ^ -(zigzag & 1);
+        String lastUse;
+        try {
+            lastUse = LocalDate.ofEpochDay(epochDay).toString();
+        } catch (DateTimeException dte) {
+            throw new IllegalValueException(LastUse.MESSAGE_CONSTRAINTS);
+        }
+        if (!LastUse.isValidLastUse(lastUse)) {
+            throw new IllegalValueException(LastUse.MESSAGE_CONSTRAINTS);
+        }
+        return new LastUse(lastUse);
+    }
+
+    private static void writeString(DataOutput output, String value) throws IOException {
+        byte[] bytes = value.getBytes(UTF_8);
+        writeVarLong(output, bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(DataInput input) throws IOException {
+        byte[] bytes = new byte[readCount(input)];
+        input.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Writes {@code value}, which must not be negative, seven bits at a time with the lowest bits first.
+     * The top bit of each byte is set if more bytes follow.
+     */
+    private static void writeVarLong(DataOutput output, long value) throws IOException {
+        assert value >= 0;
+        while ((value & ~0x7FL) != 0) {
+            output.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        output.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInput input) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = input.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException(MESSAGE_INVALID_VARINT);
+    }
+
+    /**
+     * Reads a varint that counts items still to be read, such as garments or the bytes of a string.
+     */
+    public static int readCount(DataInput input) throws IOException {
+        long count = readVarLong(input);
+        if (count > Integer.MAX_VALUE) {
+            throw new IOException(MESSAGE_INVALID_VARINT);
+        }
+        return (int) count;
+    }
+
+    /**
+     * The decoded dictionary entries of a payload, by position.
+     */
+    static class Dictionaries {
+        private final List<Colour> colours;
+        private final List<DressCode> dressCodes;
+        private final List<Type> types;
+        private final List<Description> descriptions;
+
+        Dictionaries(List<Colour> colours, List<DressCode> dressCodes, List<Type> types,
+                List<Description> descriptions) {
+            this.colours = colours;
+            this.dressCodes = dressCodes;
+            this.types = types;
+            this.descriptions = descriptions;
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyWardrobe;
+import seedu.address.model.Wardrobe;
+
+/**
+ * A class to access Wardrobe data stored in a compact binary file on the hard disk.
+ *
+ * The file starts with a header holding a magic number, the schema version, the length of the payload and
+ * a CRC-32 checksum of the payload. The payload is encoded by {@link BinaryWardrobeCodec}.
+ *
+ * In mapped mode, the file is mapped into memory and read as a {@link MappedWardrobeSnapshot}, so garments are
+ * only decoded once something reads them. Opening still reads the whole file once, to verify its checksum, and
+ * reads every garment name, to check for duplicates, so it takes time in proportion to the file, though far less
+ * than decoding every garment. Saves replace the file rather than overwrite it, so a wardrobe still mapped from
+ * the old file keeps reading the old contents.
+ *
+ * Windows does not allow a file to be replaced while it is mapped, which would make every save fail for as long
+ * as a garment of the wardrobe read is left undecoded. There, mapped mode copies the file into memory instead
+ * of mapping it, and still decodes garments only once they are read.
+ */
+public class BinaryWardrobeStorage implements WardrobeStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+    public static final int SCHEMA_VERSION = 2;
+    /** The first schema version with an offset table, which mapped mode needs. */
+    public static final int MAPPABLE_SCHEMA_VERSION = 2;
+
+    public static final String MESSAGE_NOT_WARDROBE_FILE = "File is not a binary wardrobe file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary wardrobe file has unsupported schema version %d";
+    public static final String MESSAGE_WRONG_LENGTH = "Binary wardrobe file is %d bytes long instead of %d";
+    public static final String MESSAGE_WRONG_CHECKSUM = "Binary wardrobe file does not match its checksum";
+
+    /** "NFWD" in ASCII. */
+    private static final int MAGIC = 0x4E465744;
+    private static final int HEADER_LENGTH = Integer.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES;
+
+    /** Whether a file can be replaced while it is mapped into memory, which Windows does not allow. */
+    private static final boolean CAN_REPLACE_MAPPED_FILE = !System.getProperty("os.name", "").startsWith("Windows");
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryWardrobeStorage.class);
+
+    private Path filePath;
+    private final boolean isMapped;
+    private final boolean isFileMapped;
+
+    public BinaryWardrobeStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage for the binary wardrobe file at {@code filePath}, which maps the file into memory
+     * when reading if {@code isMapped} is true, or copies it into memory where mapped files cannot be replaced.
+     */
+    public BinaryWardrobeStorage(Path filePath, boolean isMapped) {
+        this(filePath, isMapped, CAN_REPLACE_MAPPED_FILE);
+    }
+
+    /**
+     * Creates a storage for the binary wardrobe file at {@code filePath} that reads it in mapped mode if
+     * {@code isMapped} is true, with the file mapped into memory if {@code isFileMapped} is true, and copied into
+     * memory otherwise.
+     */
+    BinaryWardrobeStorage(Path filePath, boolean isMapped, boolean isFileMapped) {
+        this.filePath = filePath;
+        this.isMapped = isMapped;
+        this.isFileMapped = isFileMapped;
+    }
+
+    /**
+     * Returns true if {@code filePath} names a binary wardrobe file, going by its extension.
+     */
+    public static boolean isBinaryWardrobeFile(Path filePath) {
+        Path fileName = filePath.getFileName();
+        return fileName != null && fileName.toString().endsWith(FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getWardrobeFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyWardrobe> readWardrobe() throws DataConversionException, IOException {
+        return readWardrobe(filePath);
+    }
+
+    /**
+     * Similar to {@link #readWardrobe()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyWardrobe> readWardrobe(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        if (isMapped) {
+            Optional<ReadOnlyWardrobe> mappedWardrobe = readMappedWardrobe(filePath);
+            if (mappedWardrobe.isPresent()) {
+                return mappedWardrobe;
+            }
+            logger.info("Binary file " + filePath + " predates mapped reading, reading it in full");
+        }
+
+        // the checksum is verified before decoding, so that a damaged length or count is never acted on
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            readHeader(input, Files.size(filePath));
+            long checksum = input.readInt() & 0xFFFFFFFFL;
+            if (checksum != computeChecksum(filePath)) {
+                throw new DataConversionException(new IOException(MESSAGE_WRONG_CHECKSUM));
+            }
+            return Optional.of(BinaryWardrobeCodec.read(input));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Maps the file at {@code filePath} into memory, or copies it there if {@code isFileMapped} is false, and returns
+     * a wardrobe whose garments are decoded from it as they are read, or {@code Optional.empty()} if the file is too
+     * old to be mapped. The checksum is verified over the whole payload first, as in full mode.
+     */
+    private Optional<ReadOnlyWardrobe> readMappedWardrobe(Path filePath) throws DataConversionException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            // the mapping stays valid after the channel is closed
+            ByteBuffer file = isFileMapped
+                    ? channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+                    : readFully(channel);
+            file.order(ByteOrder.BIG_ENDIAN);
+            if (file.capacity() < HEADER_LENGTH || file.getInt(0) != MAGIC) {
+                throw new DataConversionException(new IOException(MESSAGE_NOT_WARDROBE_FILE));
+            }
+            int version = file.getInt(Integer.BYTES);
+            if (version < MAPPABLE_SCHEMA_VERSION) {
+                return Optional.empty();
+            }
+            checkVersion(version);
+            checkLength(file.getLong(2 * Integer.BYTES), file.capacity());
+
+            file.position(HEADER_LENGTH);
+            ByteBuffer payload = file.slice();
+            CRC32 checksum = new CRC32();
+            checksum.update(payload.duplicate());
+            if ((file.getInt(HEADER_LENGTH - Integer.BYTES) & 0xFFFFFFFFL) != checksum.getValue()) {
+                throw new DataConversionException(new IOException(MESSAGE_WRONG_CHECKSUM));
+            }
+
+            Wardrobe wardrobe = new Wardrobe();
+            wardrobe.setGarments(new MappedWardrobeSnapshot(payload));
+            return Optional.of(wardrobe);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the whole contents of {@code channel}, read into memory.
+     */
+    private static ByteBuffer readFully(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Binary wardrobe file is too large to read: " + size + " bytes");
+        }
+        ByteBuffer contents = ByteBuffer.allocate((int) size);
+        while (contents.hasRemaining() && channel.read(contents) >= 0) {
+            // keep reading until the whole file is in memory
+        }
+        contents.flip();
+        return contents;
+    }
+
+    @Override
+    public void saveWardrobe(ReadOnlyWardrobe wardrobe) throws IOException {
+        saveWardrobe(wardrobe, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveWardrobe(ReadOnlyWardrobe)}.
+     * The payload is streamed to the file after room for the header, which is filled in once the payload's length
+     * and checksum are known. The file is replaced atomically, and the file it replaces is kept as a backup.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveWardrobe(ReadOnlyWardrobe wardrobe, Path filePath) throws IOException {
+        requireNonNull(wardrobe);
+        requireNonNull(filePath);
+
+        FileUtil.backUp(filePath);
+        FileUtil.writeAtomically(filePath, channel -> {
+            channel.position(HEADER_LENGTH);
+
+            CRC32 checksum = new CRC32();
+            DataOutputStream payload = new DataOutputStream(new BufferedOutputStream(
+                    new CheckedOutputStream(Channels.newOutputStream(channel), checksum)));
+            BinaryWardrobeCodec.write(wardrobe, payload);
+            payload.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+            header.putInt(MAGIC).putInt(SCHEMA_VERSION).putLong(payload.size()).putInt((int) checksum.getValue());
+            header.flip();
+            writeFully(channel, header, 0);
+        });
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer bytes, long position) throws IOException {
+        while (bytes.hasRemaining()) {
+            position += channel.write(bytes, position);
+        }
+    }
+
+    /**
+     * Reads the header up to the checksum, checking that it belongs to a file of {@code fileLength} bytes.
+     */
+    private static void readHeader(DataInputStream input, long fileLength)
+            throws IOException, DataConversionException {
+        if (fileLength < HEADER_LENGTH || input.readInt() != MAGIC) {
+            throw new DataConversionException(new IOException(MESSAGE_NOT_WARDROBE_FILE));
+        }
+
+        checkVersion(input.readInt());
+        checkLength(input.readLong(), fileLength);
+    }
+
+    private static void checkVersion(int version) throws DataConversionException {
+        if (version < 1 || version > SCHEMA_VERSION) {
+            throw new DataConversionException(new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version)));
+        }
+    }
+
+    private static void checkLength(long payloadLength, long fileLength) throws DataConversionException {
+        if (payloadLength != fileLength - HEADER_LENGTH) {
+            throw new DataConversionException(new IOException(String.format(MESSAGE_WRONG_LENGTH,
+                    fileLength, payloadLength + HEADER_LENGTH)));
+        }
+    }
+
+    private static long computeChecksum(Path filePath) throws IOException {
+        CRC32 checksum = new CRC32();
+        ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+        try (SeekableByteChannel channel = Files.newByteChannel(filePath)) {
+            channel.position(HEADER_LENGTH);
+            while (channel.read(buffer) > 0) {
+                buffer.flip();
+                checksum.update(buffer);
+                buffer.clear();
+            }
+        }
+        return checksum.getValue();
+    }
+
+}
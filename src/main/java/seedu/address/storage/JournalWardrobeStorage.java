@@ -0,0 +1,535 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.GarmentChange;
+import seedu.address.model.ReadOnlyWardrobe;
+import seedu.address.model.Wardrobe;
+import seedu.address.model.garment.Garment;
+import seedu.address.model.garment.GarmentSource;
+import seedu.address.model.garment.Name;
+
+/**
+ * A class to access Wardrobe data stored as a snapshot on the hard disk, followed by a journal of the
+ * changes made since the snapshot was written. The snapshot is read and written by another {@code WardrobeStorage},
+ * such as {@link JsonWardrobeStorage} or {@link BinaryWardrobeStorage}, while the journal is always json lines.
+ *
+ * Saving changes appends one json line per added, edited, deleted or selected garment to the journal, so its
+ * cost does not grow with the size of the wardrobe. Once the journal passes a size threshold, it is set aside
+ * and compacted into a new snapshot in the background while later changes go to a fresh journal.
+ * Reading loads the snapshot, then replays the journal being compacted, if any, and then the current journal.
+ * Over a snapshot whose garments are created as they are read, such as a mapped binary file, the journal is
+ * replayed over just the garments it changes, so the rest are still only created when read.
+ * Each journal starts with a header naming the snapshots it follows by their size, modification time and file key.
+ * A journal that does not follow the snapshot, as another program has replaced the snapshot since, is discarded
+ * when read, so that old changes are not replayed over the other program's wardrobe.
+ *
+ * Snapshots are replaced atomically and appends are forced to the disk before returning, so a crash loses at
+ * most the changes still waiting to be saved. Callers are expected to batch changes, as
+ * {@link WriteBehindWardrobeSaver} does, so that the cost of forcing is paid once per batch.
+ */
+public class JournalWardrobeStorage implements WardrobeStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String COMPACTING_JOURNAL_FILE_SUFFIX = ".journal.compacting";
+    public static final String COMPACTED_SNAPSHOT_FILE_SUFFIX = ".compacted";
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalWardrobeStorage.class);
+
+    private final Path filePath;
+    private final WardrobeStorage snapshotStorage;
+    private final long compactionThreshold;
+    private final Executor compactionExecutor;
+    private volatile Runnable writeListener = () -> {};
+
+    // The fields below describe the files at filePath and are guarded by this storage's lock.
+
+    /** Whether the snapshot and journals hold the wardrobe as it was last read or saved. */
+    private boolean isInSync;
+    private long journalSize;
+    private boolean isCompacting;
+    /** Incremented whenever a full save replaces the snapshot, so that an earlier compaction is discarded. */
+    private int snapshotGeneration;
+    /** The fingerprint of the snapshot as last read or written, named in the header of new journals. */
+    private String snapshotFingerprint;
+
+    /**
+     * Creates a storage at {@code filePath} with a json snapshot, that compacts its journal past
+     * {@link #DEFAULT_COMPACTION_THRESHOLD} bytes on a dedicated background thread.
+     */
+    public JournalWardrobeStorage(Path filePath) {
+        this(filePath, new JsonWardrobeStorage(filePath));
+    }
+
+    /**
+     * Creates a storage at {@code filePath} whose snapshot is read and written by {@code snapshotStorage}, that
+     * compacts its journal past {@link #DEFAULT_COMPACTION_THRESHOLD} bytes on a dedicated background thread.
+     */
+    public JournalWardrobeStorage(Path filePath, WardrobeStorage snapshotStorage) {
+        this(filePath, snapshotStorage, DEFAULT_COMPACTION_THRESHOLD, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "wardrobe-compactor");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a storage at {@code filePath} with a json snapshot, that compacts its journal on
+     * {@code compactionExecutor} once the journal holds at least {@code compactionThreshold} bytes.
+     */
+    public JournalWardrobeStorage(Path filePath, long compactionThreshold, Executor compactionExecutor) {
+        this(filePath, new JsonWardrobeStorage(filePath), compactionThreshold, compactionExecutor);
+    }
+
+    /**
+     * Creates a storage at {@code filePath} whose snapshot is read and written by {@code snapshotStorage}, that
+     * compacts its journal on {@code compactionExecutor} once the journal holds at least {@code compactionThreshold}
+     * bytes.
+     */
+    public JournalWardrobeStorage(Path filePath, WardrobeStorage snapshotStorage, long compactionThreshold,
+            Executor compactionExecutor) {
+        requireNonNull(filePath);
+        requireNonNull(snapshotStorage);
+        requireNonNull(compactionExecutor);
+        this.filePath = filePath;
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+        this.compactionExecutor = compactionExecutor;
+    }
+
+    @Override
+    public Path getWardrobeFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal that follows the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the journal being compacted into the snapshot at {@code filePath}.
+     */
+    public static Path getCompactingJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + COMPACTING_JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public void setWriteListener(Runnable listener) {
+        requireNonNull(listener);
+        writeListener = listener;
+    }
+
+    @Override
+    public Optional<ReadOnlyWardrobe> readWardrobe() throws DataConversionException, IOException {
+        return readWardrobe(filePath);
+    }
+
+    /**
+     * Similar to {@link #readWardrobe()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or a journal is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyWardrobe> readWardrobe(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            isInSync = false;
+        }
+
+        String readSnapshotFingerprint = getSnapshotFingerprint(filePath);
+        Optional<ReadOnlyWardrobe> snapshot = snapshotStorage.readWardrobe(filePath);
+        Path compactingJournalPath = getCompactingJournalFilePath(filePath);
+        Path journalPath = getJournalFilePath(filePath);
+        if (!FileUtil.isFileExists(compactingJournalPath) && !FileUtil.isFileExists(journalPath)) {
+            if (isOwnFile && snapshot.isPresent()) {
+                isInSync = true;
+                journalSize = 0;
+                snapshotFingerprint = readSnapshotFingerprint;
+            }
+            return snapshot;
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        ReplayResult compactingResult = readRecords(compactingJournalPath, readSnapshotFingerprint, records);
+        ReplayResult result = readRecords(journalPath, readSnapshotFingerprint, records);
+        Optional<GarmentSource> snapshotSource = snapshot
+                .filter(wardrobe -> wardrobe instanceof Wardrobe)
+                .flatMap(wardrobe -> ((Wardrobe) wardrobe).getGarmentSource());
+        Wardrobe wardrobe = new Wardrobe();
+        if (snapshotSource.isPresent()) {
+            wardrobe.setGarments(replayOver(snapshotSource.get(), records));
+        } else {
+            Map<Name, Garment> garments = new LinkedHashMap<>();
+            snapshot.ifPresent(snapshotWardrobe -> snapshotWardrobe.getGarmentList()
+                    .forEach(garment -> garments.put(garment.getName(), garment)));
+            applyRecords(records, garments);
+            wardrobe.setGarments(new ArrayList<>(garments.values()));
+        }
+
+        if (isOwnFile) {
+            // an incomplete last record would run into the next one appended, and a journal that does not follow
+            // the snapshot would still be replayed over it, so in either case the next save rewrites the snapshot
+            isInSync = compactingResult == ReplayResult.COMPLETE && result == ReplayResult.COMPLETE;
+            journalSize = FileUtil.isFileExists(journalPath) ? Files.size(journalPath) : 0;
+            snapshotFingerprint = readSnapshotFingerprint;
+        }
+        return Optional.of(wardrobe);
+    }
+
+    @Override
+    public void saveWardrobe(ReadOnlyWardrobe wardrobe) throws IOException {
+        saveWardrobe(wardrobe, filePath);
+    }
+
+    /**
+     * Writes {@code wardrobe} as the snapshot at {@code filePath} and discards the journals that followed it.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public synchronized void saveWardrobe(ReadOnlyWardrobe wardrobe, Path filePath) throws IOException {
+        requireNonNull(wardrobe);
+        requireNonNull(filePath);
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            isInSync = false;
+            snapshotGeneration++;
+        }
+
+        snapshotStorage.saveWardrobe(wardrobe, filePath);
+        Files.deleteIfExists(getCompactingJournalFilePath(filePath));
+        Files.deleteIfExists(getJournalFilePath(filePath));
+
+        if (isOwnFile) {
+            isInSync = true;
+            journalSize = 0;
+            snapshotFingerprint = getSnapshotFingerprint(filePath);
+            writeListener.run();
+        }
+    }
+
+    @Override
+    public synchronized boolean canSaveWardrobeChanges() {
+        return isInSync;
+    }
+
+    /**
+     * Appends {@code changes} to the journal, starting a background compaction if the journal has grown past
+     * the compaction threshold. A new journal starts with a header naming the snapshot it follows.
+     */
+    @Override
+    public void saveWardrobeChanges(List<GarmentChange> changes) throws IOException {
+        requireNonNull(changes);
+
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : JsonAdaptedJournalRecord.fromChanges(changes)) {
+            lines.append(JsonUtil.toJsonLine(record)).append('\n');
+        }
+
+        synchronized (this) {
+            if (!isInSync) {
+                throw new UnsupportedOperationException("The journal does not follow the wardrobe's last save");
+            }
+
+            if (journalSize == 0) {
+                lines.insert(0, createHeaderLine(Collections.singletonList(snapshotFingerprint)));
+            }
+            ByteBuffer bytes = ByteBuffer.wrap(lines.toString().getBytes(UTF_8));
+
+            try (FileChannel journal = FileChannel.open(getJournalFilePath(filePath),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                try {
+                    while (bytes.hasRemaining()) {
+                        journal.write(bytes);
+                    }
+                    journal.force(false);
+                } catch (IOException ioe) {
+                    // drop a partly written record so that the changes can be appended again
+                    journal.truncate(journalSize);
+                    throw ioe;
+                }
+            }
+            journalSize += bytes.limit();
+
+            if (journalSize >= compactionThreshold && !isCompacting) {
+                startCompaction();
+            }
+        }
+        writeListener.run();
+    }
+
+    /**
+     * Sets the journal aside and compacts it into the snapshot on {@code compactionExecutor}.
+     * A journal left aside by an earlier compaction that failed is compacted instead, and the current journal
+     * is left to grow until the next attempt.
+     */
+    private void startCompaction() throws IOException {
+        assert Thread.holdsLock(this);
+
+        Path compactingJournalPath = getCompactingJournalFilePath(filePath);
+        if (!FileUtil.isFileExists(compactingJournalPath)) {
+            Files.move(getJournalFilePath(filePath), compactingJournalPath);
+            journalSize = 0;
+        }
+
+        isCompacting = true;
+        int generation = snapshotGeneration;
+        compactionExecutor.execute(() -> compact(generation));
+    }
+
+    private void compact(int generation) {
+        Path compactingJournalPath = getCompactingJournalFilePath(filePath);
+        Path compactedPath = filePath.resolveSibling(filePath.getFileName() + COMPACTED_SNAPSHOT_FILE_SUFFIX);
+        try {
+            String compactingSnapshotFingerprint = getSnapshotFingerprint(filePath);
+            Map<Name, Garment> garments = new LinkedHashMap<>();
+            snapshotStorage.readWardrobe(filePath).ifPresent(wardrobe -> wardrobe.getGarmentList()
+                    .forEach(garment -> garments.put(garment.getName(), garment)));
+            List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+            if (readRecords(compactingJournalPath, compactingSnapshotFingerprint, records)
+                    == ReplayResult.NOT_FOLLOWING) {
+                return;
+            }
+            applyRecords(records, garments);
+            Wardrobe compacted = new Wardrobe();
+            compacted.setGarments(new ArrayList<>(garments.values()));
+            snapshotStorage.saveWardrobe(compacted, compactedPath);
+
+            synchronized (this) {
+                if (generation != snapshotGeneration
+                        || !getSnapshotFingerprint(filePath).equals(snapshotFingerprint)) {
+                    // a full save, or another program, has replaced the snapshot this compaction started from
+                    Files.deleteIfExists(compactedPath);
+                    return;
+                }
+                // moving the compacted snapshot keeps its fingerprint, and the journal must follow it before it
+                // replaces the snapshot, as well as after
+                String compactedFingerprint = getSnapshotFingerprint(compactedPath);
+                if (journalSize > 0) {
+                    rewriteJournalHeader(Arrays.asList(snapshotFingerprint, compactedFingerprint));
+                }
+                FileUtil.backUp(filePath);
+                FileUtil.moveAtomically(compactedPath, filePath);
+                Files.deleteIfExists(compactingJournalPath);
+                snapshotFingerprint = compactedFingerprint;
+            }
+            writeListener.run();
+            logger.fine("Compacted wardrobe journal into " + filePath);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Failed to compact wardrobe journal: " + StringUtil.getDetails(e));
+        } finally {
+            synchronized (this) {
+                isCompacting = false;
+            }
+        }
+    }
+
+    /**
+     * Replaces the header of the journal with one naming {@code snapshotFingerprints}.
+     */
+    private void rewriteJournalHeader(List<String> snapshotFingerprints) throws IOException {
+        assert Thread.holdsLock(this);
+
+        Path journalPath = getJournalFilePath(filePath);
+        List<String> lines = new ArrayList<>(Files.readAllLines(journalPath, UTF_8));
+        if (!lines.isEmpty() && readHeader(lines.get(0)).isHeader()) {
+            lines.remove(0);
+        }
+        StringBuilder journal = new StringBuilder(createHeaderLine(snapshotFingerprints));
+        lines.forEach(line -> journal.append(line).append('\n'));
+        ByteBuffer bytes = ByteBuffer.wrap(journal.toString().getBytes(UTF_8));
+        FileUtil.writeAtomically(journalPath, channel -> {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        });
+        journalSize = bytes.limit();
+    }
+
+    /**
+     * Returns a fingerprint of the snapshot at {@code filePath} that changes whenever the snapshot is replaced,
+     * without reading the snapshot. A missing snapshot has an empty fingerprint.
+     */
+    private static String getSnapshotFingerprint(Path filePath) throws IOException {
+        if (!FileUtil.isFileExists(filePath)) {
+            return "";
+        }
+        BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+        return attributes.size() + ":" + attributes.lastModifiedTime().toMillis() + ":" + attributes.fileKey();
+    }
+
+    private static String createHeaderLine(List<String> snapshotFingerprints) throws IOException {
+        return JsonUtil.toJsonLine(new JsonAdaptedJournalHeader(snapshotFingerprints)) + '\n';
+    }
+
+    /**
+     * Reads {@code line} as a journal header. The header read is not {@link JsonAdaptedJournalHeader#isHeader()
+     * a header} if the line is a record instead.
+     */
+    private static JsonAdaptedJournalHeader readHeader(String line) {
+        try {
+            return JsonUtil.fromJsonString(line, JsonAdaptedJournalHeader.class);
+        } catch (IOException ioe) {
+            return new JsonAdaptedJournalHeader(null);
+        }
+    }
+
+    /**
+     * Adds the records in the journal at {@code journalPath}, if it exists, to {@code records}, unless the
+     * journal's header names snapshots other than the one with fingerprint {@code snapshotFingerprint}.
+     * A journal without a header is replayed over any snapshot. A last record that was only partly written is
+     * skipped.
+     *
+     * @throws DataConversionException if any other record is not in the correct format.
+     */
+    private static ReplayResult readRecords(Path journalPath, String snapshotFingerprint,
+            List<JsonAdaptedJournalRecord> records) throws DataConversionException, IOException {
+        if (!FileUtil.isFileExists(journalPath)) {
+            return ReplayResult.COMPLETE;
+        }
+
+        List<String> lines = Files.readAllLines(journalPath, UTF_8);
+        int firstRecord = 0;
+        if (!lines.isEmpty()) {
+            JsonAdaptedJournalHeader header = readHeader(lines.get(0));
+            if (header.isHeader() && !header.isFollowing(snapshotFingerprint)) {
+                logger.warning("Discarding journal " + journalPath + " as its snapshot was replaced since");
+                return ReplayResult.NOT_FOLLOWING;
+            }
+            firstRecord = header.isHeader() ? 1 : 0;
+        }
+        for (int i = firstRecord; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isEmpty()) {
+                continue;
+            }
+
+            try {
+                records.add(JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class));
+            } catch (JsonProcessingException jpe) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Skipping partly written last record in " + journalPath);
+                    return ReplayResult.PARTLY_WRITTEN;
+                }
+                throw new DataConversionException(jpe);
+            }
+        }
+        return ReplayResult.COMPLETE;
+    }
+
+    /**
+     * Applies {@code records} in order to {@code garments}, which maps each garment's name to the garment.
+     *
+     * @throws DataConversionException if any record violates the data constraints.
+     */
+    private static void applyRecords(List<JsonAdaptedJournalRecord> records, Map<Name, Garment> garments)
+            throws DataConversionException {
+        try {
+            for (JsonAdaptedJournalRecord record : records) {
+                record.applyTo(garments);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in wardrobe journal: " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the garments of {@code snapshot} with {@code records} replayed over them, creating only the
+     * snapshot garments that the records change.
+     *
+     * @throws DataConversionException if any record violates the data constraints.
+     */
+    private static GarmentSource replayOver(GarmentSource snapshot, List<JsonAdaptedJournalRecord> records)
+            throws DataConversionException {
+        List<Name> names = new ArrayList<>(records.size());
+        Map<Name, Integer> positions = new HashMap<>();
+        try {
+            for (JsonAdaptedJournalRecord record : records) {
+                Name name = record.getGarmentName();
+                names.add(name);
+                positions.computeIfAbsent(name, snapshot::indexOf);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in wardrobe journal: " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        // the changed garments are put in snapshot order, as they would be if the whole snapshot were put
+        SortedMap<Integer, Name> changedPositions = new TreeMap<>();
+        positions.forEach((name, position) -> {
+            if (position >= 0) {
+                changedPositions.put(position, name);
+            }
+        });
+        Map<Name, Garment> garments = new LinkedHashMap<>();
+        changedPositions.forEach((position, name) -> garments.put(name, snapshot.getGarment(position)));
+
+        Set<Name> removedNames = new HashSet<>();
+        for (int i = 0; i < records.size(); i++) {
+            applyRecords(records.subList(i, i + 1), garments);
+            if (!garments.containsKey(names.get(i))) {
+                removedNames.add(names.get(i));
+            }
+        }
+
+        SortedMap<Integer, Garment> replacements = new TreeMap<>();
+        changedPositions.forEach((position, name) ->
+                replacements.put(position, removedNames.contains(name) ? null : garments.get(name)));
+        List<Garment> additions = new ArrayList<>();
+        garments.forEach((name, garment) -> {
+            if (positions.get(name) < 0 || removedNames.contains(name)) {
+                additions.add(garment);
+            }
+        });
+        return new JournaledGarmentSource(snapshot, replacements, additions);
+    }
+
+    /**
+     * How much of a journal was replayed.
+     */
+    private enum ReplayResult {
+        COMPLETE, PARTLY_WRITTEN, NOT_FOLLOWING
+    }
+
+}
@@ -0,0 +1,187 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.SortedMap;
+
+import seedu.address.model.garment.Garment;
+import seedu.address.model.garment.GarmentComparator;
+import seedu.address.model.garment.GarmentSource;
+
+/**
+ * The garments of a snapshot's {@code GarmentSource} with the changes of a journal replayed over them.
+ * Only the garments the journal changed are held. The rest are created by the snapshot when asked for, through
+ * a table of runs of unchanged snapshot positions, so replaying a journal creates no other garments.
+ *
+ * Changed garments are placed as {@link seedu.address.model.garment.UniqueGarmentList} places them when they
+ * change in memory, so the order is the same as if the snapshot had been read in full and the journal replayed.
+ */
+class JournaledGarmentSource implements GarmentSource {
+
+    private static final Comparator<Garment> LAST_USE_ORDER = new GarmentComparator();
+
+    private final GarmentSource snapshot;
+    private final List<Garment> changedGarments = new ArrayList<>();
+    /** The position at which each run starts, in increasing order. */
+    private final int[] runStarts;
+    /** The snapshot position each run starts from, or -1 minus the index of its only garment in changedGarments. */
+    private final int[] runSources;
+    private final int runCount;
+    private final int size;
+
+    /**
+     * Creates the garments of {@code snapshot} with some of them replaced, removed or added to.
+     *
+     * @param replacements the garment that replaces the snapshot garment at each position, or null for a
+     *     garment removed, such as one that was deleted and then added back.
+     * @param additions garments that are not in the snapshot, or were added back, in the order they were added.
+     */
+    JournaledGarmentSource(GarmentSource snapshot, SortedMap<Integer, Garment> replacements,
+            List<Garment> additions) {
+        this.snapshot = snapshot;
+
+        List<Insertion> insertions = new ArrayList<>();
+        replacements.forEach((position, garment) -> {
+            if (garment == null) {
+                return;
+            }
+            // an edited garment keeps its place among garments with the same last use date, and is otherwise
+            // placed at the near end of the garments with its new last use date
+            long epochDay = garment.getLastUse().getEpochDay();
+            long replacedEpochDay = snapshot.getLastUseEpochDay(position);
+            int point = epochDay == replacedEpochDay
+                    ? position
+                    : epochDay > replacedEpochDay ? lowerBound(garment) : upperBound(garment);
+            insertions.add(new Insertion(garment, point, position));
+        });
+        additions.forEach(garment -> insertions.add(new Insertion(garment, upperBound(garment), snapshot.size())));
+        insertions.sort(Comparator.<Insertion>comparingInt(insertion -> insertion.point)
+                .thenComparing(insertion -> insertion.garment, LAST_USE_ORDER)
+                .thenComparingInt(insertion -> insertion.snapshotPosition));
+
+        int[] removedPositions = replacements.keySet().stream().mapToInt(Integer::intValue).toArray();
+        int maxRunCount = 2 * (removedPositions.length + insertions.size()) + 1;
+        int[] starts = new int[maxRunCount];
+        int[] sources = new int[maxRunCount];
+        int runs = 0;
+        int position = 0;
+        int snapshotPosition = 0;
+        int removed = 0;
+        int inserted = 0;
+        while (snapshotPosition < snapshot.size() || inserted < insertions.size()) {
+            int next = snapshot.size();
+            if (removed < removedPositions.length) {
+                next = Math.min(next, removedPositions[removed]);
+            }
+            if (inserted < insertions.size()) {
+                next = Math.min(next, insertions.get(inserted).point);
+            }
+
+            if (next > snapshotPosition) {
+                starts[runs] = position;
+                sources[runs++] = snapshotPosition;
+                position += next - snapshotPosition;
+                snapshotPosition = next;
+            } else if (inserted < insertions.size() && insertions.get(inserted).point == snapshotPosition) {
+                changedGarments.add(insertions.get(inserted++).garment);
+                starts[runs] = position++;
+                sources[runs++] = -changedGarments.size();
+            } else {
+                // the snapshot garment here was replaced or removed
+                snapshotPosition++;
+                removed++;
+            }
+        }
+        runStarts = starts;
+        runSources = sources;
+        runCount = runs;
+        size = position;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long getLastUseEpochDay(int position) {
+        int run = getRun(position);
+        int source = runSources[run];
+        if (source < 0) {
+            return changedGarments.get(-1 - source).getLastUse().getEpochDay();
+        }
+        return snapshot.getLastUseEpochDay(source + position - runStarts[run]);
+    }
+
+    @Override
+    public Garment getGarment(int position) {
+        int run = getRun(position);
+        int source = runSources[run];
+        if (source < 0) {
+            return changedGarments.get(-1 - source);
+        }
+        return snapshot.getGarment(source + position - runStarts[run]);
+    }
+
+    /**
+     * Returns the index of the run holding {@code position}.
+     */
+    private int getRun(int position) {
+        Objects.checkIndex(position, size);
+        int run = Arrays.binarySearch(runStarts, 0, runCount, position);
+        return run >= 0 ? run : -run - 2;
+    }
+
+    /**
+     * Returns the snapshot position of the first garment that is not ordered before {@code garment}.
+     */
+    private int lowerBound(Garment garment) {
+        int low = 0;
+        int high = snapshot.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (snapshot.getLastUseEpochDay(mid) < garment.getLastUse().getEpochDay()) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the snapshot position of the first garment that is ordered after {@code garment}.
+     */
+    private int upperBound(Garment garment) {
+        int low = 0;
+        int high = snapshot.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (snapshot.getLastUseEpochDay(mid) <= garment.getLastUse().getEpochDay()) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * A changed garment, to be inserted before the snapshot garment at {@code point}.
+     */
+    private static class Insertion {
+        private final Garment garment;
+        private final int point;
+        /** The position of the garment it replaces, or the snapshot size for an added garment. */
+        private final int snapshotPosition;
+
+        Insertion(Garment garment, int point, int snapshotPosition) {
+            this.garment = garment;
+            this.point = point;
+            this.snapshotPosition = snapshotPosition;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the first line of a wardrobe journal, naming the snapshots the journal's changes
+ * may be replayed over. A snapshot is named by its fingerprint, so that a snapshot replaced by another program
+ * is told apart from the one the journal follows.
+ */
+class JsonAdaptedJournalHeader {
+
+    private final List<String> snapshots = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalHeader} with the given snapshot fingerprints.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalHeader(@JsonProperty("snapshots") List<String> snapshots) {
+        if (snapshots != null) {
+            this.snapshots.addAll(snapshots);
+        }
+    }
+
+    /**
+     * Returns true if this is a header, rather than a journal record read as one.
+     */
+    public boolean isHeader() {
+        return !snapshots.isEmpty();
+    }
+
+    /**
+     * Returns true if the journal may be replayed over the snapshot with fingerprint {@code snapshotFingerprint}.
+     */
+    public boolean isFollowing(String snapshotFingerprint) {
+        return snapshots.contains(snapshotFingerprint);
+    }
+}
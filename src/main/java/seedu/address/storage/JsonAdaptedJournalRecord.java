@@ -0,0 +1,170 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.GarmentChange;
+import seedu.address.model.garment.Garment;
+import seedu.address.model.garment.LastUse;
+import seedu.address.model.garment.Name;
+
+/**
+ * Jackson-friendly version of one change in a wardrobe journal.
+ * Applying the same records to a wardrobe again leaves it unchanged, so a journal may safely be replayed
+ * over a snapshot that already holds some of its changes.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String OP_ADD = "add";
+    public static final String OP_EDIT = "edit";
+    public static final String OP_DELETE = "delete";
+    public static final String OP_SELECT = "select";
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_OP = "Journal record has an unknown op: %s";
+
+    private final String op;
+    private final String name;
+    private final String lastuse;
+    private final JsonAdaptedGarment garment;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") String op, @JsonProperty("name") String name,
+            @JsonProperty("lastuse") String lastuse, @JsonProperty("garment") JsonAdaptedGarment garment) {
+        this.op = op;
+        this.name = name;
+        this.lastuse = lastuse;
+        this.garment = garment;
+    }
+
+    /**
+     * Converts {@code changes} into the fewest records that replay them.
+     * A garment removed and then added back under the same name is recorded as an edit,
+     * or as a select if only its last use changed.
+     */
+    public static List<JsonAdaptedJournalRecord> fromChanges(List<GarmentChange> changes) {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>(changes.size());
+        for (int i = 0; i < changes.size(); i++) {
+            GarmentChange change = changes.get(i);
+            Garment garment = change.getGarment();
+            if (change.getKind() == GarmentChange.Kind.ADDED) {
+                records.add(new JsonAdaptedJournalRecord(OP_ADD, null, null, new JsonAdaptedGarment(garment)));
+                continue;
+            }
+
+            GarmentChange next = i + 1 < changes.size() ? changes.get(i + 1) : null;
+            if (next == null || next.getKind() != GarmentChange.Kind.ADDED
+                    || !next.getGarment().isSameGarment(garment)) {
+                records.add(new JsonAdaptedJournalRecord(OP_DELETE, garment.getName().fullName, null, null));
+                continue;
+            }
+
+            Garment edited = next.getGarment();
+            if (isSameExceptLastUse(garment, edited)) {
+                records.add(new JsonAdaptedJournalRecord(OP_SELECT, edited.getName().fullName,
+                        edited.getLastUse().value, null));
+            } else {
+                records.add(new JsonAdaptedJournalRecord(OP_EDIT, null, null, new JsonAdaptedGarment(edited)));
+            }
+            i++;
+        }
+        return records;
+    }
+
+    /**
+     * Applies this record to {@code garments}, which maps each garment's name to the garment.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the record.
+     */
+    public void applyTo(Map<Name, Garment> garments) throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "op"));
+        }
+
+        switch (op) {
+        case OP_ADD:
+        case OP_EDIT:
+            Garment modelGarment = getModelGarment();
+            garments.put(modelGarment.getName(), modelGarment);
+            break;
+        case OP_DELETE:
+            garments.remove(getModelName());
+            break;
+        case OP_SELECT:
+            Name modelName = getModelName();
+            LastUse modelLastUse = getModelLastUse();
+            garments.computeIfPresent(modelName, (unused, selected) -> new Garment(selected.getName(),
+                    selected.getSize(), selected.getColour(), selected.getDressCode(), selected.getType(),
+                    selected.getDescriptions(), modelLastUse));
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OP, op));
+        }
+    }
+
+    /**
+     * Returns the name of the garment this record changes.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the record.
+     */
+    public Name getGarmentName() throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "op"));
+        }
+
+        switch (op) {
+        case OP_ADD:
+        case OP_EDIT:
+            return getModelGarment().getName();
+        case OP_DELETE:
+        case OP_SELECT:
+            return getModelName();
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OP, op));
+        }
+    }
+
+    private Garment getModelGarment() throws IllegalValueException {
+        if (garment == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "garment"));
+        }
+        return garment.toModelType();
+    }
+
+    private Name getModelName() throws IllegalValueException {
+        if (name == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "name"));
+        }
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        return new Name(name);
+    }
+
+    private LastUse getModelLastUse() throws IllegalValueException {
+        if (lastuse == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "lastuse"));
+        }
+        if (!LastUse.isValidLastUse(lastuse)) {
+            throw new IllegalValueException(LastUse.MESSAGE_CONSTRAINTS);
+        }
+        return new LastUse(lastuse);
+    }
+
+    private static boolean isSameExceptLastUse(Garment garment, Garment otherGarment) {
+        return garment.getSize().equals(otherGarment.getSize())
+                && garment.getColour().equals(otherGarment.getColour())
+                && garment.getDressCode().equals(otherGarment.getDressCode())
+                && garment.getType().equals(otherGarment.getType())
+                && garment.getDescriptions().equals(otherGarment.getDescriptions());
+    }
+
+}
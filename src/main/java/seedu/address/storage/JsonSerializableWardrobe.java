@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -7,6 +8,10 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.ReadOnlyWardrobe;
@@ -21,6 +26,8 @@ class JsonSerializableWardrobe {
 
     public static final String MESSAGE_DUPLICATE_GARMENT = "Garments list contains duplicate garment(s).";
 
+    private static final String GARMENTS_FIELD = "garments";
+
     private final List<JsonAdaptedGarment> garments = new ArrayList<>();
 
     /**
@@ -42,19 +49,68 @@ class JsonSerializableWardrobe {
 
     /**
      * Converts this wardrobe into the model's {@code Wardrobe} object.
+     * Garments are converted in parallel and added to the wardrobe together.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException listing every garment that violates data constraints or is a duplicate.
      */
     public Wardrobe toModelType() throws IllegalValueException {
+        ParallelGarmentConverter converter = new ParallelGarmentConverter();
+        converter.addAll(garments);
         Wardrobe wardrobe = new Wardrobe();
-        for (JsonAdaptedGarment jsonAdaptedGarment : garments) {
-            Garment garment = jsonAdaptedGarment.toModelType();
-            if (wardrobe.hasGarment(garment)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_GARMENT);
+        wardrobe.setGarments(converter.getGarments());
+        return wardrobe;
+    }
+
+    /**
+     * Reads a wardrobe in the same format as this class from {@code parser}.
+     * Garments are converted into the model's {@code Garment} in parallel chunks while the rest are read, so the
+     * Jackson-friendly garments are never all held at once and memory use stays close to that of the wardrobe
+     * itself.
+     *
+     * @throws IOException if the JSON is malformed or does not hold a wardrobe.
+     * @throws IllegalValueException listing every garment that violates data constraints or is a duplicate.
+     */
+    public static Wardrobe readWardrobe(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a wardrobe object");
+        }
+
+        ParallelGarmentConverter converter = new ParallelGarmentConverter();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (!GARMENTS_FIELD.equals(fieldName)) {
+                parser.skipChildren();
+                continue;
+            }
+            if (value != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected an array of garments");
+            }
+
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+                    throw new JsonParseException(parser, "Expected a garment object");
+                }
+                converter.add(parser.readValueAs(JsonAdaptedGarment.class));
             }
-            wardrobe.addGarment(garment);
         }
+
+        Wardrobe wardrobe = new Wardrobe();
+        wardrobe.setGarments(converter.getGarments());
         return wardrobe;
     }
 
+    /**
+     * Writes {@code source} to {@code generator} in the same format as this class, one garment at a time.
+     */
+    public static void writeWardrobe(ReadOnlyWardrobe source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(GARMENTS_FIELD);
+        for (Garment garment : source.getGarmentList()) {
+            generator.writeObject(new JsonAdaptedGarment(garment));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
 }
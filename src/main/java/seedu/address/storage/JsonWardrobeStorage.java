@@ -2,11 +2,18 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -16,6 +23,7 @@ import seedu.address.model.ReadOnlyWardrobe;
 
 /**
  * A class to access Wardrobe data stored as a json file on the hard disk.
+ * The file is streamed one garment at a time in both directions, so it is never held in memory as a whole.
  */
 public class JsonWardrobeStorage implements WardrobeStorage {
 
@@ -45,14 +53,16 @@ public class JsonWardrobeStorage implements WardrobeStorage {
     public Optional<ReadOnlyWardrobe> readWardrobe(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableWardrobe> jsonWardrobe = JsonUtil.readJsonFile(
-                filePath, JsonSerializableWardrobe.class);
-        if (!jsonWardrobe.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonWardrobe.get().toModelType());
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return Optional.of(JsonSerializableWardrobe.readWardrobe(parser));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -66,6 +76,7 @@ public class JsonWardrobeStorage implements WardrobeStorage {
 
     /**
      * Similar to {@link #saveWardrobe(ReadOnlyWardrobe)}.
+     * The file is replaced atomically, and the file it replaces is kept as a backup.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +84,14 @@ public class JsonWardrobeStorage implements WardrobeStorage {
         requireNonNull(wardrobe);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableWardrobe(wardrobe), filePath);
+        FileUtil.backUp(filePath);
+        FileUtil.writeAtomically(filePath, channel -> {
+            OutputStream output = new BufferedOutputStream(Channels.newOutputStream(channel));
+            try (JsonGenerator generator = JsonUtil.createGenerator(output)) {
+                JsonSerializableWardrobe.writeWardrobe(wardrobe, generator);
+            }
+            output.flush();
+        });
     }
 
 }
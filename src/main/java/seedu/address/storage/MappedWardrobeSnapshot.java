@@ -0,0 +1,245 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.garment.Garment;
+import seedu.address.model.garment.GarmentSource;
+import seedu.address.model.garment.Name;
+
+/**
+ * The garments in the payload of a binary wardrobe file that has been mapped into memory.
+ * Only the garment count, the dictionaries and the names are read up front. The names are hashed into a table
+ * of positions, which finds duplicate names and answers {@link #indexOf(Name)} without decoding any garment.
+ * Each garment is decoded when asked for, by looking up its offset in the payload's offset table, so opening
+ * a snapshot reads every name once but creates no garments.
+ *
+ * The payload is trusted to have been written by {@link BinaryWardrobeCodec}, as its checksum has been verified.
+ * A garment that still fails to decode is reported with an {@code IllegalStateException}.
+ */
+class MappedWardrobeSnapshot implements GarmentSource {
+
+    public static final String MESSAGE_INVALID_OFFSET_TABLE = "Offset table does not fit in the payload";
+    public static final String MESSAGE_INVALID_GARMENT = "Garment %d of the binary wardrobe file is invalid";
+    public static final String MESSAGE_DUPLICATE_NAME = "Binary wardrobe file has two garments named %s";
+
+    /** The payload, which is only ever read at absolute positions or through duplicates. */
+    private final ByteBuffer payload;
+    private final int size;
+    private final BinaryWardrobeCodec.Dictionaries dictionaries;
+    private final int offsetTableStart;
+    /**
+     * The hash of each garment's name in the upper half and its position plus one in the lower half, at the slot
+     * the hash picks or after, or 0 for an empty slot.
+     */
+    private final long[] nameSlots;
+
+    /**
+     * Decodes the garment count and dictionaries of {@code payload} and builds the table of names.
+     *
+     * @throws IOException if {@code payload} is malformed.
+     * @throws IllegalValueException if any dictionary entry violates its data constraints, or two garments
+     *     have the same name.
+     */
+    MappedWardrobeSnapshot(ByteBuffer payload) throws IOException, IllegalValueException {
+        this.payload = payload;
+        ByteBuffer header = payload.duplicate();
+        DataInputStream input = new DataInputStream(new ByteBufferInputStream(header));
+        size = BinaryWardrobeCodec.readCount(input);
+        dictionaries = BinaryWardrobeCodec.readDictionaries(input);
+
+        long tableStart = (long) payload.limit() - (long) size * Integer.BYTES;
+        if (tableStart < header.position()) {
+            throw new IOException(MESSAGE_INVALID_OFFSET_TABLE);
+        }
+        offsetTableStart = (int) tableStart;
+        nameSlots = buildNameSlots();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Decodes the garment at {@code position}. Safe to call from any thread.
+     */
+    @Override
+    public Garment getGarment(int position) {
+        try {
+            int offset = payload.getInt(offsetTableStart + position * Integer.BYTES);
+            ByteBuffer record = payload.duplicate();
+            record.position(offset);
+            return BinaryWardrobeCodec.readGarment(new DataInputStream(new ByteBufferInputStream(record)),
+                    dictionaries);
+        } catch (IOException | IllegalValueException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalStateException(String.format(MESSAGE_INVALID_GARMENT, position), e);
+        }
+    }
+
+    /**
+     * Decodes only the last use of the garment at {@code position}. Safe to call from any thread.
+     */
+    @Override
+    public long getLastUseEpochDay(int position) {
+        try {
+            int offset = payload.getInt(offsetTableStart + position * Integer.BYTES);
+            ByteBuffer record = payload.duplicate();
+            record.position(offset);
+            return BinaryWardrobeCodec.readLastUseEpochDay(new DataInputStream(new ByteBufferInputStream(record)));
+        } catch (IOException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalStateException(String.format(MESSAGE_INVALID_GARMENT, position), e);
+        }
+    }
+
+    /**
+     * Returns the position of the garment named {@code name}, or -1 if there is none, without decoding
+     * any garment. Safe to call from any thread.
+     */
+    @Override
+    public int indexOf(Name name) {
+        byte[] nameBytes = name.fullName.getBytes(UTF_8);
+        int hash = 1;
+        for (byte b : nameBytes) {
+            hash = 31 * hash + b;
+        }
+        hash = spread(hash);
+
+        int mask = nameSlots.length - 1;
+        for (int slot = hash & mask; nameSlots[slot] != 0; slot = (slot + 1) & mask) {
+            int position = (int) nameSlots[slot] - 1;
+            if ((int) (nameSlots[slot] >>> 32) == hash && isNamed(position, ByteBuffer.wrap(nameBytes))) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Hashes the name of every garment into a table at most half full, checking that no two are the same.
+     * Each slot holds the hash with the position, so names are only compared when their hashes are equal.
+     */
+    private long[] buildNameSlots() throws IOException, IllegalValueException {
+        // the names are hashed in file order first, as mixing their reads with the random writes to the table
+        // took four times as long
+        int[] hashes = new int[size];
+        for (int position = 0; position < size; position++) {
+            long bounds = getNameBounds(position);
+            int start = (int) (bounds >>> 32);
+            int end = start + (int) bounds;
+            int hash = 1;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + payload.get(i);
+            }
+            hashes[position] = spread(hash);
+        }
+
+        long[] slots = new long[Math.max(2, Integer.highestOneBit(size) << 2)];
+        int mask = slots.length - 1;
+        for (int position = 0; position < size; position++) {
+            int hash = hashes[position];
+            int slot = hash & mask;
+            while (slots[slot] != 0) {
+                if ((int) (slots[slot] >>> 32) == hash && isNamed((int) slots[slot] - 1, getName(position))) {
+                    throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_NAME,
+                            UTF_8.decode(getName(position))));
+                }
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = (long) hash << 32 | (position + 1);
+        }
+        return slots;
+    }
+
+    /**
+     * Returns true if the name of the garment at {@code position} is made of the remaining bytes of {@code name}.
+     */
+    private boolean isNamed(int position, ByteBuffer name) {
+        try {
+            return getName(position).equals(name);
+        } catch (IOException ioe) {
+            throw new AssertionError("Names are checked when the table is built", ioe);
+        }
+    }
+
+    /**
+     * Returns a view of the UTF-8 bytes of the name of the garment at {@code position}.
+     */
+    private ByteBuffer getName(int position) throws IOException {
+        long bounds = getNameBounds(position);
+        int start = (int) (bounds >>> 32);
+        return payload.duplicate().position(start).limit(start + (int) bounds);
+    }
+
+    /**
+     * Returns the offset of the UTF-8 bytes of the name of the garment at {@code position} in the upper half,
+     * and their number in the lower half. The name starts the garment's record, after its number of bytes.
+     */
+    private long getNameBounds(int position) throws IOException {
+        int offset = payload.getInt(offsetTableStart + position * Integer.BYTES);
+        int length = 0;
+        for (int shift = 0; ; shift += 7) {
+            if (offset < 0 || offset >= offsetTableStart || shift >= Integer.SIZE) {
+                throw new IOException(String.format(MESSAGE_INVALID_GARMENT, position));
+            }
+            int b = payload.get(offset++);
+            length |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+        }
+        if (length < 0 || length > offsetTableStart - offset) {
+            throw new IOException(String.format(MESSAGE_INVALID_GARMENT, position));
+        }
+        return (long) offset << 32 | length;
+    }
+
+    /**
+     * Spreads the bits of {@code hash} so that its low bits are fit to pick a slot.
+     */
+    private static int spread(int hash) {
+        int spread = hash * 0x9E3779B9;
+        return spread ^ (spread >>> 16);
+    }
+
+    /**
+     * Reads a {@code ByteBuffer} from its position up to its limit.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long length) {
+            int count = (int) Math.max(0, Math.min(length, buffer.remaining()));
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.garment.Garment;
+import seedu.address.model.garment.Name;
+
+/**
+ * Converts Jackson-friendly garments into the model's {@code Garment} objects in parallel.
+ *
+ * Garments are queued one at a time, and each full chunk is converted on a {@code ForkJoinPool} while the next is
+ * being queued, so conversion overlaps with reading the file. Once every garment is converted, names are checked
+ * for duplicates in a single pass, and every invalid or duplicate garment is reported together, up to
+ * {@link #MAX_REPORTED_PROBLEMS} of them.
+ */
+class ParallelGarmentConverter {
+
+    /** Number of garments converted by each task. */
+    public static final int CHUNK_SIZE = 1024;
+    /** Number of problems listed in the message of {@link #getGarments()}, so a bad file gives a short message. */
+    public static final int MAX_REPORTED_PROBLEMS = 20;
+
+    public static final String MESSAGE_INVALID_GARMENTS = "%d invalid garment(s) found:%s";
+    public static final String MESSAGE_INVALID_GARMENT = "\nGarment %d: %s";
+    public static final String MESSAGE_DUPLICATE_NAME = "Another garment is already named %s";
+    public static final String MESSAGE_MORE_PROBLEMS = "\n... and %d more";
+
+    private final ForkJoinPool pool;
+    private final List<ForkJoinTask<ConvertedChunk>> chunks = new ArrayList<>();
+    private List<JsonAdaptedGarment> pendingGarments = new ArrayList<>();
+    private int queuedCount;
+
+    /**
+     * Creates a converter that converts on the common {@code ForkJoinPool}.
+     */
+    public ParallelGarmentConverter() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a converter that converts on {@code pool}.
+     */
+    public ParallelGarmentConverter(ForkJoinPool pool) {
+        requireNonNull(pool);
+        this.pool = pool;
+    }
+
+    /**
+     * Queues {@code garment} to be converted after those queued before it.
+     */
+    public void add(JsonAdaptedGarment garment) {
+        requireNonNull(garment);
+        pendingGarments.add(garment);
+        queuedCount++;
+        if (pendingGarments.size() == CHUNK_SIZE) {
+            submitPendingGarments();
+        }
+    }
+
+    /**
+     * Queues every garment in {@code garments}, in order.
+     */
+    public void addAll(List<JsonAdaptedGarment> garments) {
+        garments.forEach(this::add);
+    }
+
+    /**
+     * Waits for every queued garment to be converted, and returns them in the order they were queued.
+     *
+     * @throws IllegalValueException listing the garments that violate data constraints or have the same name as
+     *     a garment before them, up to {@link #MAX_REPORTED_PROBLEMS} of them.
+     */
+    public List<Garment> getGarments() throws IllegalValueException {
+        submitPendingGarments();
+
+        List<Garment> garments = new ArrayList<>(queuedCount);
+        Set<Name> names = new HashSet<>();
+        StringBuilder problems = new StringBuilder();
+        int problemCount = 0;
+        int position = 0;
+        for (ForkJoinTask<ConvertedChunk> task : chunks) {
+            ConvertedChunk chunk = task.join();
+            for (int i = 0; i < chunk.garments.length; i++) {
+                position++;
+                String problem = chunk.problems[i];
+                if (problem == null && !names.add(chunk.garments[i].getName())) {
+                    problem = String.format(MESSAGE_DUPLICATE_NAME, chunk.garments[i].getName());
+                }
+                if (problem != null) {
+                    if (problemCount < MAX_REPORTED_PROBLEMS) {
+                        problems.append(String.format(MESSAGE_INVALID_GARMENT, position, problem));
+                    }
+                    problemCount++;
+                    continue;
+                }
+                garments.add(chunk.garments[i]);
+            }
+        }
+
+        if (problemCount > MAX_REPORTED_PROBLEMS) {
+            problems.append(String.format(MESSAGE_MORE_PROBLEMS, problemCount - MAX_REPORTED_PROBLEMS));
+        }
+        if (problemCount > 0) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_GARMENTS, problemCount, problems));
+        }
+        return garments;
+    }
+
+    private void submitPendingGarments() {
+        if (pendingGarments.isEmpty()) {
+            return;
+        }
+        chunks.add(pool.submit(new ConvertChunkTask(pendingGarments)));
+        pendingGarments = new ArrayList<>();
+    }
+
+    /**
+     * Converts a chunk of garments, and drops the chunk once it is converted. Tasks are kept until
+     * {@link #getGarments()} joins them, so keeping the chunk would keep every Jackson-friendly garment read.
+     */
+    private static class ConvertChunkTask extends RecursiveTask<ConvertedChunk> {
+        private List<JsonAdaptedGarment> adaptedGarments;
+
+        ConvertChunkTask(List<JsonAdaptedGarment> adaptedGarments) {
+            this.adaptedGarments = adaptedGarments;
+        }
+
+        @Override
+        protected ConvertedChunk compute() {
+            ConvertedChunk chunk = new ConvertedChunk(adaptedGarments);
+            adaptedGarments = null;
+            return chunk;
+        }
+    }
+
+    /**
+     * The conversion of a chunk of garments. Each position holds either a converted garment or the problem that
+     * stopped it from being converted.
+     */
+    private static class ConvertedChunk {
+        private final Garment[] garments;
+        private final String[] problems;
+
+        ConvertedChunk(List<JsonAdaptedGarment> adaptedGarments) {
+            garments = new Garment[adaptedGarments.size()];
+            problems = new String[adaptedGarments.size()];
+            for (int i = 0; i < garments.length; i++) {
+                try {
+                    garments[i] = adaptedGarments.get(i).toModelType();
+                } catch (IllegalValueException ive) {
+                    problems[i] = ive.getMessage();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,502 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.GarmentChange;
+import seedu.address.model.ReadOnlyWardrobe;
+import seedu.address.model.Wardrobe;
+import seedu.address.model.garment.Garment;
+import seedu.address.model.garment.Name;
+import seedu.address.model.garment.exceptions.DuplicateGarmentException;
+
+/**
+ * A class to access Wardrobe data split by garment name across a fixed number of shard files, each kept by a
+ * {@code WardrobeStorage} of its own.
+ *
+ * Shards are read in parallel and put back together into one wardrobe, in which garments that tie in the
+ * wardrobe's order may not keep the order they were saved in. A full save only rewrites the shards whose
+ * garments changed since they were last read or saved, and changes are passed on to the shards they belong to.
+ * A shard that is not in the correct format is read from its backup instead, so a damaged file loses at most
+ * the changes made to its share of the garments since its last full save.
+ *
+ * A wardrobe kept as a single file is the same as one split into a single shard, kept in the wardrobe file itself.
+ * When none of the shards exist, the wardrobe is read from the shards of another shard count, or the single file,
+ * and split into this storage's shards when next saved, after which the files it was read from are deleted. If
+ * some of the shards exist, every one of them must, as a missing shard would lose its share of the garments.
+ */
+public class ShardedWardrobeStorage implements WardrobeStorage {
+
+    public static final String MESSAGE_INVALID_SHARD_COUNT = "A wardrobe needs at least one shard";
+    public static final String MESSAGE_MISSING_SHARD = "Wardrobe shard is missing while other shards exist";
+    public static final String MESSAGE_SEVERAL_SHARD_COUNTS =
+            "Found wardrobe shards split %s ways for %s, but none split %d ways. Keep the files of one split only";
+
+    private static final String SHARD_FILE_NAME_FORMAT = "%s.shard-%d-of-%d%s";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedWardrobeStorage.class);
+
+    private final Path filePath;
+    private final int shardCount;
+    private final Function<Path, WardrobeStorage> shardStorageFactory;
+    private final ForkJoinPool pool;
+    private final List<WardrobeStorage> shards;
+
+    /**
+     * The garments each shard held when it was last read or saved in full, or null if the shard may hold anything
+     * else. Guarded by this storage's lock.
+     */
+    private final Garment[][] savedShards;
+
+    /**
+     * The shard count of the files this storage's own wardrobe was last read from, if not its own, to be deleted
+     * once the wardrobe is saved in its own shards. 0 if there are none. Guarded by this storage's lock.
+     */
+    private int staleShardCount;
+    private volatile Runnable writeListener = () -> {};
+
+    /**
+     * Creates a storage at {@code filePath} split into {@code shardCount} shards, each kept by the storage
+     * {@code shardStorageFactory} returns for its path. Shards are read and written on the common
+     * {@code ForkJoinPool}.
+     */
+    public ShardedWardrobeStorage(Path filePath, int shardCount, Function<Path, WardrobeStorage> shardStorageFactory) {
+        this(filePath, shardCount, shardStorageFactory, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a storage at {@code filePath} split into {@code shardCount} shards, each kept by the storage
+     * {@code shardStorageFactory} returns for its path. Shards are read and written on {@code pool}.
+     */
+    public ShardedWardrobeStorage(Path filePath, int shardCount, Function<Path, WardrobeStorage> shardStorageFactory,
+            ForkJoinPool pool) {
+        requireNonNull(filePath);
+        requireNonNull(shardStorageFactory);
+        requireNonNull(pool);
+        checkArgument(shardCount > 0, MESSAGE_INVALID_SHARD_COUNT);
+        this.filePath = filePath;
+        this.shardCount = shardCount;
+        this.shardStorageFactory = shardStorageFactory;
+        this.pool = pool;
+        shards = createShardStorages(filePath, shardCount);
+        savedShards = new Garment[shardCount][];
+    }
+
+    @Override
+    public Path getWardrobeFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of shard {@code shard} out of {@code shardCount} of the wardrobe file at {@code filePath}.
+     * The shard keeps the file's extension, so that it is kept in the same format. The only shard of a wardrobe
+     * split into one is the wardrobe file itself.
+     */
+    public static Path getShardFilePath(Path filePath, int shard, int shardCount) {
+        if (shardCount == 1) {
+            return filePath;
+        }
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = getExtensionStart(fileName);
+        return filePath.resolveSibling(String.format(SHARD_FILE_NAME_FORMAT, fileName.substring(0, extensionStart),
+                shard, shardCount, fileName.substring(extensionStart)));
+    }
+
+    /**
+     * Returns the shard counts of the shards of the wardrobe file at {@code filePath} that exist, including 1 if
+     * the wardrobe file itself exists.
+     */
+    public static Set<Integer> getExistingShardCounts(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        Set<Integer> shardCounts = new TreeSet<>();
+        if (FileUtil.isFileExists(filePath)) {
+            shardCounts.add(1);
+        }
+        Path directory = filePath.toAbsolutePath().getParent();
+        if (directory == null || !Files.isDirectory(directory)) {
+            return shardCounts;
+        }
+
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = getExtensionStart(fileName);
+        Pattern shardFileName = Pattern.compile(Pattern.quote(fileName.substring(0, extensionStart))
+                + "\\.shard-\\d+-of-(\\d+)" + Pattern.quote(fileName.substring(extensionStart)));
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(file -> shardFileName.matcher(file.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(matcher -> Integer.valueOf(matcher.group(1)))
+                    .filter(shardCount -> shardCount > 1)
+                    .forEach(shardCounts::add);
+        }
+        return shardCounts;
+    }
+
+    private static int getExtensionStart(String fileName) {
+        int extensionStart = fileName.lastIndexOf('.');
+        return extensionStart <= 0 ? fileName.length() : extensionStart;
+    }
+
+    /**
+     * Sets {@code listener} to be called whenever a shard has finished writing its files, or out of date shards have
+     * been deleted.
+     */
+    @Override
+    public void setWriteListener(Runnable listener) {
+        requireNonNull(listener);
+        writeListener = listener;
+        shards.forEach(shard -> shard.setWriteListener(listener));
+    }
+
+    /**
+     * Returns the shard that garments named {@code name} are kept in.
+     */
+    public int getShard(Name name) {
+        return Math.floorMod(name.hashCode(), shardCount);
+    }
+
+    @Override
+    public Optional<ReadOnlyWardrobe> readWardrobe() throws DataConversionException, IOException {
+        return readWardrobe(filePath);
+    }
+
+    /**
+     * Similar to {@link #readWardrobe()}.
+     *
+     * @param filePath location of the wardrobe file the shards belong to. Cannot be null.
+     * @throws DataConversionException if a shard and its backup are both not in the correct format or missing, or if
+     *     none of the shards exist and those of more than one other shard count do.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyWardrobe> readWardrobe(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            Arrays.fill(savedShards, null);
+            staleShardCount = 0;
+        }
+
+        int readShardCount = shardCount;
+        List<WardrobeStorage> storages = isOwnFile ? shards : createShardStorages(filePath, shardCount);
+        if (storages.stream().noneMatch(storage -> FileUtil.isFileExists(storage.getWardrobeFilePath()))) {
+            Set<Integer> shardCounts = getExistingShardCounts(filePath);
+            if (shardCounts.isEmpty()) {
+                return Optional.empty();
+            } else if (shardCounts.size() > 1) {
+                throw new DataConversionException(new IllegalValueException(String.format(
+                        MESSAGE_SEVERAL_SHARD_COUNTS, shardCounts, filePath, shardCount)));
+            }
+            readShardCount = shardCounts.iterator().next();
+            logger.info("No shards found. Reading the wardrobe split " + readShardCount + " ways instead, to be split "
+                    + shardCount + " ways when next saved: " + filePath);
+            storages = createShardStorages(filePath, readShardCount);
+        }
+        // garments are only known to be in this storage's shards if they were read from them
+        boolean isReadFromOwnShards = isOwnFile && readShardCount == shardCount;
+
+        List<ForkJoinTask<ReadShard>> tasks = new ArrayList<>(storages.size());
+        for (WardrobeStorage storage : storages) {
+            tasks.add(pool.submit(() -> readShard(storage)));
+        }
+        List<ReadShard> readShards = getAll(tasks);
+
+        List<Garment> garments = new ArrayList<>();
+        for (int i = 0; i < readShards.size(); i++) {
+            ReadShard readShard = readShards.get(i);
+            garments.addAll(Arrays.asList(readShard.garments));
+            if (isReadFromOwnShards && !readShard.isFromBackup) {
+                savedShards[i] = readShard.garments;
+            }
+        }
+
+        Wardrobe wardrobe = new Wardrobe();
+        try {
+            wardrobe.setGarments(garments);
+        } catch (DuplicateGarmentException dge) {
+            if (isOwnFile) {
+                Arrays.fill(savedShards, null);
+            }
+            throw new DataConversionException(dge);
+        }
+        if (isOwnFile && !isReadFromOwnShards) {
+            staleShardCount = readShardCount;
+        }
+        return Optional.of(wardrobe);
+    }
+
+    @Override
+    public void saveWardrobe(ReadOnlyWardrobe wardrobe) throws IOException {
+        saveWardrobe(wardrobe, filePath);
+    }
+
+    /**
+     * Splits {@code wardrobe} into shards and writes those of {@code filePath} in parallel.
+     * Shards of this storage's own file that hold the same garments as when last read or saved are left as they are.
+     * If its own wardrobe was last read from the shards of another shard count, those are deleted once saved.
+     *
+     * @param filePath location of the wardrobe file the shards belong to. Cannot be null.
+     */
+    @Override
+    public synchronized void saveWardrobe(ReadOnlyWardrobe wardrobe, Path filePath) throws IOException {
+        requireNonNull(wardrobe);
+        requireNonNull(filePath);
+        boolean isOwnFile = filePath.equals(this.filePath);
+
+        List<List<Garment>> parts = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            parts.add(new ArrayList<>());
+        }
+        // the wardrobe's order is kept within each shard
+        for (Garment garment : wardrobe.getGarmentList()) {
+            parts.get(getShard(garment.getName())).add(garment);
+        }
+
+        List<WardrobeStorage> storages = isOwnFile ? shards : createShardStorages(filePath, shardCount);
+        Garment[][] savingShards = new Garment[shardCount][];
+        List<ForkJoinTask<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < shardCount; i++) {
+            Garment[] garments = parts.get(i).toArray(new Garment[0]);
+            if (isOwnFile && isSame(savedShards[i], garments)) {
+                continue;
+            }
+            if (isOwnFile) {
+                savedShards[i] = null;
+            }
+            savingShards[i] = garments;
+            WardrobeStorage storage = storages.get(i);
+            ObservableList<Garment> shardGarments =
+                    FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(garments));
+            tasks.add(pool.submit(() -> {
+                storage.saveWardrobe(() -> shardGarments);
+                return null;
+            }));
+        }
+
+        getAllSaved(tasks);
+        logger.fine("Saved " + tasks.size() + " of " + shardCount + " wardrobe shards of " + filePath);
+        if (isOwnFile) {
+            for (int i = 0; i < shardCount; i++) {
+                if (savingShards[i] != null) {
+                    savedShards[i] = savingShards[i];
+                }
+            }
+            if (staleShardCount != 0) {
+                deleteShards(filePath, staleShardCount);
+                staleShardCount = 0;
+                writeListener.run();
+            }
+        }
+    }
+
+    @Override
+    public synchronized boolean canSaveWardrobeChanges() {
+        return shards.stream().allMatch(WardrobeStorage::canSaveWardrobeChanges);
+    }
+
+    /**
+     * Passes each of {@code changes} on to the shard of the garment changed, writing the shards in parallel.
+     */
+    @Override
+    public synchronized void saveWardrobeChanges(List<GarmentChange> changes) throws IOException {
+        requireNonNull(changes);
+        if (!canSaveWardrobeChanges()) {
+            throw new UnsupportedOperationException("The shards do not follow the wardrobe's last save");
+        }
+
+        List<List<GarmentChange>> parts = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            parts.add(new ArrayList<>());
+        }
+        // a removal followed by an addition of the same name stays together, as both go to the same shard
+        for (GarmentChange change : changes) {
+            parts.get(getShard(change.getGarment().getName())).add(change);
+        }
+
+        List<ForkJoinTask<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < shardCount; i++) {
+            List<GarmentChange> shardChanges = parts.get(i);
+            if (shardChanges.isEmpty()) {
+                continue;
+            }
+            // the shard no longer holds the garments it was last saved with in full
+            savedShards[i] = null;
+            WardrobeStorage storage = shards.get(i);
+            tasks.add(pool.submit(() -> {
+                storage.saveWardrobeChanges(shardChanges);
+                return null;
+            }));
+        }
+        getAllSaved(tasks);
+    }
+
+    private List<WardrobeStorage> createShardStorages(Path filePath, int shardCount) {
+        List<WardrobeStorage> storages = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            storages.add(shardStorageFactory.apply(getShardFilePath(filePath, i, shardCount)));
+        }
+        return storages;
+    }
+
+    /**
+     * Deletes the shards of the wardrobe file at {@code filePath} split {@code shardCount} ways, along with their
+     * journals and backups, as they are no longer up to date.
+     */
+    private static void deleteShards(Path filePath, int shardCount) {
+        for (int i = 0; i < shardCount; i++) {
+            Path shardPath = getShardFilePath(filePath, i, shardCount);
+            for (Path file : Arrays.asList(shardPath, FileUtil.getBackupFilePath(shardPath),
+                    JournalWardrobeStorage.getJournalFilePath(shardPath),
+                    JournalWardrobeStorage.getCompactingJournalFilePath(shardPath))) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException ioe) {
+                    logger.warning("Could not delete the out of date wardrobe file " + file + ": "
+                            + StringUtil.getDetails(ioe));
+                }
+            }
+        }
+        logger.info("Deleted the wardrobe files split " + shardCount + " ways, now split differently: " + filePath);
+    }
+
+    /**
+     * Reads the garments of the shard kept by {@code storage}, or those of its backup if the shard is missing or not
+     * in the correct format.
+     */
+    private static ReadShard readShard(WardrobeStorage storage) throws DataConversionException, IOException {
+        Path shardPath = storage.getWardrobeFilePath();
+        try {
+            if (!FileUtil.isFileExists(shardPath)) {
+                throw new DataConversionException(
+                        new NoSuchFileException(shardPath.toString(), null, MESSAGE_MISSING_SHARD));
+            }
+            return new ReadShard(toArray(storage.readWardrobe()), false);
+        } catch (DataConversionException dce) {
+            Path backupPath = FileUtil.getBackupFilePath(shardPath);
+            try {
+                Optional<ReadOnlyWardrobe> backup = storage.readWardrobe(backupPath);
+                if (backup.isPresent()) {
+                    logger.warning("Shard " + shardPath + " not in the correct format. Reading its backup instead");
+                    return new ReadShard(toArray(backup), true);
+                }
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Problem while reading from the backup file " + backupPath + ": "
+                        + StringUtil.getDetails(e));
+            }
+            throw dce;
+        }
+    }
+
+    private static Garment[] toArray(Optional<ReadOnlyWardrobe> wardrobe) {
+        // garments that are created lazily are all created here, on the thread reading the shard
+        return wardrobe.map(shard -> shard.getGarmentList().toArray(new Garment[0])).orElse(new Garment[0]);
+    }
+
+    /**
+     * Returns true if {@code savedGarments} holds the very same garments as {@code garments}, in the same order.
+     */
+    private static boolean isSame(Garment[] savedGarments, Garment[] garments) {
+        if (savedGarments == null || savedGarments.length != garments.length) {
+            return false;
+        }
+        for (int i = 0; i < garments.length; i++) {
+            if (savedGarments[i] != garments[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void getAllSaved(List<ForkJoinTask<Void>> tasks) throws IOException {
+        try {
+            getAll(tasks);
+        } catch (DataConversionException dce) {
+            throw new AssertionError("Saving does not convert data", dce);
+        }
+    }
+
+    /**
+     * Waits for every one of {@code tasks}, and returns their results in order.
+     *
+     * @throws DataConversionException if any task failed with one, or likewise for the other exceptions.
+     */
+    private static <T> List<T> getAll(List<ForkJoinTask<T>> tasks) throws DataConversionException, IOException {
+        List<T> results = new ArrayList<>(tasks.size());
+        Exception failure = null;
+        // every task is waited for, so that none is still writing once this returns
+        for (ForkJoinTask<T> task : tasks) {
+            try {
+                results.add(task.get());
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the wardrobe shards");
+            } catch (ExecutionException ee) {
+                if (failure == null) {
+                    failure = getTaskFailure(ee);
+                }
+            }
+        }
+
+        if (failure instanceof DataConversionException) {
+            throw (DataConversionException) failure;
+        } else if (failure instanceof IOException) {
+            throw (IOException) failure;
+        } else if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure != null) {
+            throw new IOException(failure);
+        }
+        return results;
+    }
+
+    /**
+     * Returns the exception thrown by the task that failed with {@code ee}. Tasks made from a {@code Callable} wrap
+     * its checked exceptions in {@code RuntimeException}s, which are unwrapped again here.
+     */
+    private static Exception getTaskFailure(ExecutionException ee) {
+        Throwable failure = ee.getCause();
+        while (failure != null && failure.getClass() == RuntimeException.class && failure.getCause() != null) {
+            failure = failure.getCause();
+        }
+        return failure instanceof Exception ? (Exception) failure : ee;
+    }
+
+    /**
+     * The garments read from a shard.
+     */
+    private static class ReadShard {
+        private final Garment[] garments;
+        private final boolean isFromBackup;
+
+        ReadShard(Garment[] garments, boolean isFromBackup) {
+            this.garments = garments;
+            this.isFromBackup = isFromBackup;
+        }
+    }
+}
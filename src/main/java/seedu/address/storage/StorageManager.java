@@ -1,12 +1,18 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.GarmentChange;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.ReadOnlyWardrobe;
 import seedu.address.model.UserPrefs;
@@ -29,6 +35,47 @@ public class StorageManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Returns a {@code WardrobeStorage} for the file at {@code filePath}, in the format given by its extension.
+     * Either way, the file is a snapshot followed by a journal of the changes made since, so saving changes costs
+     * as much as the changes themselves. Snapshots in files ending in {@link BinaryWardrobeStorage#FILE_EXTENSION}
+     * are kept in the binary format and mapped into memory when read, and any other as json.
+     */
+    public static WardrobeStorage createWardrobeStorage(Path filePath) {
+        requireNonNull(filePath);
+        if (BinaryWardrobeStorage.isBinaryWardrobeFile(filePath)) {
+            return new JournalWardrobeStorage(filePath, new BinaryWardrobeStorage(filePath, true));
+        }
+        return new JournalWardrobeStorage(filePath);
+    }
+
+    /**
+     * Returns a {@code WardrobeStorage} for the file at {@code filePath} that splits the wardrobe into
+     * {@code shardCount} files, each kept as {@link #createWardrobeStorage(Path)} keeps a whole wardrobe.
+     * A count of 1 keeps the wardrobe in the single file at {@code filePath}, which is put back together from
+     * its shards if it was last saved split.
+     */
+    public static WardrobeStorage createWardrobeStorage(Path filePath, int shardCount) {
+        requireNonNull(filePath);
+        if (shardCount == 1 && !isSplit(filePath)) {
+            return createWardrobeStorage(filePath);
+        }
+        return new ShardedWardrobeStorage(filePath, shardCount, StorageManager::createWardrobeStorage);
+    }
+
+    /**
+     * Returns true if the wardrobe file at {@code filePath} does not exist, but its shards do.
+     */
+    private static boolean isSplit(Path filePath) {
+        try {
+            return !FileUtil.isFileExists(filePath)
+                    && !ShardedWardrobeStorage.getExistingShardCounts(filePath).isEmpty();
+        } catch (IOException ioe) {
+            logger.warning("Could not look for the shards of " + filePath + ": " + StringUtil.getDetails(ioe));
+            return false;
+        }
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -76,4 +123,20 @@ public class StorageManager implements Storage {
         wardrobeStorage.saveWardrobe(wardrobe, filePath);
     }
 
+    @Override
+    public boolean canSaveWardrobeChanges() {
+        return wardrobeStorage.canSaveWardrobeChanges();
+    }
+
+    @Override
+    public void saveWardrobeChanges(List<GarmentChange> changes) throws IOException {
+        logger.fine("Attempting to write " + changes.size() + " changes to data file: " + getWardrobeFilePath());
+        wardrobeStorage.saveWardrobeChanges(changes);
+    }
+
+    @Override
+    public void setWriteListener(Runnable listener) {
+        wardrobeStorage.setWriteListener(listener);
+    }
+
 }
@@ -0,0 +1,46 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyWardrobe;
+
+/**
+ * Converts wardrobe files between the json and binary formats, going by the extension of each file.
+ */
+public class WardrobeFileConverter {
+
+    public static final String MESSAGE_USAGE = "Usage: WardrobeFileConverter SOURCE_FILE TARGET_FILE\n"
+            + "Files ending in " + BinaryWardrobeStorage.FILE_EXTENSION + " are in the binary format, "
+            + "and all others in json.";
+    public static final String MESSAGE_SOURCE_NOT_FOUND = "Wardrobe file not found: %s";
+
+    /**
+     * Reads the wardrobe at {@code source} and writes it to {@code target}, overwriting any file there.
+     *
+     * @throws DataConversionException if {@code source} is not in the format given by its extension.
+     * @throws IOException if {@code source} does not exist, or there was any problem reading or writing a file.
+     */
+    public static void convert(Path source, Path target) throws DataConversionException, IOException {
+        requireAllNonNull(source, target);
+        ReadOnlyWardrobe wardrobe = StorageManager.createWardrobeStorage(source).readWardrobe(source)
+                .orElseThrow(() -> new FileNotFoundException(String.format(MESSAGE_SOURCE_NOT_FOUND, source)));
+        StorageManager.createWardrobeStorage(target).saveWardrobe(wardrobe, target);
+    }
+
+    /**
+     * Converts the wardrobe file named by the first argument into the file named by the second.
+     */
+    public static void main(String[] args) throws DataConversionException, IOException {
+        if (args.length != 2) {
+            System.err.println(MESSAGE_USAGE);
+            return;
+        }
+        convert(Paths.get(args[0]), Paths.get(args[1]));
+    }
+}
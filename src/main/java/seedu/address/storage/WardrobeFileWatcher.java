@@ -0,0 +1,238 @@
+package seedu.address.storage;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyWardrobe;
+
+/**
+ * Watches the folder of a wardrobe file for changes made by other programs, and reads the wardrobe again on a
+ * background thread when they happen.
+ *
+ * A change is noticed once the files have been left alone for {@link #SETTLE_DELAY_MILLIS}, so that a program
+ * writing them in several steps causes one read. The files are then read, and the wardrobe read handed to the
+ * listener, in one task on {@code listenerExecutor}, which must be the thread that requests saves from
+ * {@code saver}. No save can thus be requested between the read, which brings {@code storage} in line with the
+ * files, and the listener taking the wardrobe. The task only reads the files while {@code saver} has nothing left
+ * to write. A change noticed while it has is kept pending, and read once the saver is done.
+ *
+ * The size, modification time and file key of the wardrobe files are recorded whenever {@code storage} has written
+ * them, and whenever they are read. Files found as they were last recorded are not read again, so the app's own
+ * saves, including journal appends, compactions and shard writes, do not cause a read.
+ */
+public class WardrobeFileWatcher {
+
+    public static final long SETTLE_DELAY_MILLIS = 250;
+
+    private static final Logger logger = LogsCenter.getLogger(WardrobeFileWatcher.class);
+
+    private final WardrobeStorage storage;
+    private final WriteBehindWardrobeSaver saver;
+    private final Consumer<ReadOnlyWardrobe> listener;
+    private final Executor listenerExecutor;
+    /** The start of the names of the wardrobe file and of the files kept alongside it, such as journals. */
+    private final String fileNamePrefix;
+    private final Path folder;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    /** The state of the wardrobe files as last written by {@code storage} or read, guarded by this watcher's lock. */
+    private Map<String, String> knownFiles;
+    /** Whether another program has changed the wardrobe files since they were last read. */
+    private final AtomicBoolean isReloadPending = new AtomicBoolean();
+    /** Whether a reload has been handed to {@code listenerExecutor} and has not run yet. */
+    private final AtomicBoolean isReloadQueued = new AtomicBoolean();
+
+    /**
+     * Creates a watcher for the folder of {@code storage}'s wardrobe file, creating the folder if needed.
+     * Wardrobes are read after a change, and passed to {@code listener}, on {@code listenerExecutor}, which must
+     * run its tasks on the thread that requests saves from {@code saver}.
+     * Nothing is watched until {@link #start()} is called.
+     */
+    public WardrobeFileWatcher(WardrobeStorage storage, WriteBehindWardrobeSaver saver,
+            Consumer<ReadOnlyWardrobe> listener, Executor listenerExecutor) throws IOException {
+        requireAllNonNull(storage, saver, listener, listenerExecutor);
+        this.storage = storage;
+        this.saver = saver;
+        this.listener = listener;
+        this.listenerExecutor = listenerExecutor;
+
+        Path filePath = storage.getWardrobeFilePath().toAbsolutePath();
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        fileNamePrefix = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+
+        folder = filePath.getParent();
+        Files.createDirectories(folder);
+        watchService = folder.getFileSystem().newWatchService();
+        folder.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+        knownFiles = getWardrobeFiles();
+        storage.setWriteListener(this::recordWrittenFiles);
+
+        thread = new Thread(this::watch, "wardrobe-watcher");
+        thread.setDaemon(true);
+    }
+
+    /**
+     * Starts watching in the background.
+     */
+    public void start() {
+        thread.start();
+    }
+
+    /**
+     * Stops watching.
+     */
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                // while a reload waits for the saver, the files are looked at again every settle delay
+                WatchKey key = isReloadPending.get()
+                        ? watchService.poll(SETTLE_DELAY_MILLIS, TimeUnit.MILLISECONDS)
+                        : watchService.take();
+                boolean isChanged = key != null && isWardrobeChanged(key);
+                while ((key = watchService.poll(SETTLE_DELAY_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    isChanged = isWardrobeChanged(key) || isChanged;
+                }
+                if (isChanged && takeFilesChanged()) {
+                    isReloadPending.set(true);
+                }
+                if (isReloadPending.get() && saver.isIdle() && isReloadQueued.compareAndSet(false, true)) {
+                    listenerExecutor.execute(this::reload);
+                }
+            }
+        } catch (ClosedWatchServiceException cwse) {
+            logger.fine("Stopped watching " + storage.getWardrobeFilePath());
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Takes the events of {@code key} and returns true if any of them is about a wardrobe file.
+     */
+    private boolean isWardrobeChanged(WatchKey key) {
+        boolean isChanged = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            isChanged = isChanged || event.kind() == OVERFLOW || isWardrobeFile((Path) event.context());
+        }
+        key.reset();
+        return isChanged;
+    }
+
+    private boolean isWardrobeFile(Path file) {
+        String fileName = file.getFileName().toString();
+        return fileName.startsWith(fileNamePrefix)
+                && !fileName.endsWith(FileUtil.TEMP_FILE_SUFFIX)
+                && !fileName.endsWith(FileUtil.BACKUP_FILE_SUFFIX)
+                && !fileName.endsWith(JournalWardrobeStorage.COMPACTED_SNAPSHOT_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the size, modification time and file key of each wardrobe file, by file name.
+     * Files that disappear while being looked at are left out.
+     */
+    private Map<String, String> getWardrobeFiles() throws IOException {
+        List<Path> wardrobeFiles;
+        try (Stream<Path> paths = Files.list(folder)) {
+            wardrobeFiles = paths.filter(this::isWardrobeFile).collect(Collectors.toList());
+        }
+
+        Map<String, String> files = new HashMap<>();
+        for (Path file : wardrobeFiles) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                files.put(file.getFileName().toString(), attributes.size() + ":"
+                        + attributes.lastModifiedTime().toMillis() + ":" + attributes.fileKey());
+            } catch (IOException ioe) {
+                logger.fine("Wardrobe file disappeared while being looked at: " + file);
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Records the wardrobe files as {@code storage} has just written them, so that they are not read again.
+     * Called on the thread that wrote them.
+     */
+    private synchronized void recordWrittenFiles() {
+        try {
+            knownFiles = getWardrobeFiles();
+        } catch (IOException ioe) {
+            logger.warning("Could not look at the wardrobe files just written: " + StringUtil.getDetails(ioe));
+            knownFiles = null;
+        }
+    }
+
+    /**
+     * Returns true if the wardrobe files have changed since they were last written by {@code storage} or read,
+     * and records them as they are now.
+     */
+    private synchronized boolean takeFilesChanged() {
+        Map<String, String> files;
+        try {
+            files = getWardrobeFiles();
+        } catch (IOException ioe) {
+            logger.warning("Could not look at the changed wardrobe files: " + StringUtil.getDetails(ioe));
+            return true;
+        }
+        boolean isChanged = !files.equals(knownFiles);
+        knownFiles = files;
+        return isChanged;
+    }
+
+    /**
+     * Reads the wardrobe and hands it to the listener, unless a save is still to be written, in which case the
+     * reload stays pending. Runs on {@code listenerExecutor}, so no save is requested while it runs.
+     */
+    private void reload() {
+        isReloadQueued.set(false);
+        if (!saver.isIdle()) {
+            logger.fine("Wardrobe files changed while saving. Reloading once saved " + storage.getWardrobeFilePath());
+            return;
+        }
+        isReloadPending.set(false);
+
+        Optional<ReadOnlyWardrobe> wardrobe;
+        try {
+            wardrobe = storage.readWardrobe();
+        } catch (DataConversionException | IOException e) {
+            // the files may still be being written, in which case the next change reads them again
+            logger.warning("Could not reload changed wardrobe file " + storage.getWardrobeFilePath() + ": "
+                    + StringUtil.getDetails(e));
+            return;
+        }
+        wardrobe.ifPresent(listener);
+    }
+}
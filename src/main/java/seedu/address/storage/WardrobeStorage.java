@@ -2,9 +2,11 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.GarmentChange;
 import seedu.address.model.ReadOnlyWardrobe;
 
 /**
@@ -42,4 +44,31 @@ public interface WardrobeStorage {
      */
     void saveWardrobe(ReadOnlyWardrobe wardrobe, Path filePath) throws IOException;
 
+    /**
+     * Returns true if {@link #saveWardrobeChanges(List)} can currently be used in place of
+     * {@link #saveWardrobe(ReadOnlyWardrobe)}, i.e. the storage holds the wardrobe as it was last read or saved.
+     */
+    default boolean canSaveWardrobeChanges() {
+        return false;
+    }
+
+    /**
+     * Saves the given {@code changes}, made to the wardrobe since it was last read or saved, to the storage.
+     * @param changes cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     * @throws UnsupportedOperationException if {@link #canSaveWardrobeChanges()} is false.
+     */
+    default void saveWardrobeChanges(List<GarmentChange> changes) throws IOException {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets {@code listener} to be called whenever this storage has finished writing to the files at
+     * {@link #getWardrobeFilePath()}, including writes it makes on its own in the background.
+     * Storages that cannot tell never call it.
+     * @param listener cannot be null.
+     */
+    default void setWriteListener(Runnable listener) {
+    }
+
 }
@@ -0,0 +1,286 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.GarmentChangeSet;
+import seedu.address.model.ReadOnlyWardrobe;
+import seedu.address.model.garment.Garment;
+
+/**
+ * Saves the wardrobe in the background, so that saving does not hold up the thread that changed it.
+ *
+ * Each save request hands the changes made to the wardrobe to a single background flush. When the storage
+ * can save changes on their own, they are coalesced by garment and written together by that flush, so a garment
+ * changed many times before the flush is written once. Otherwise the request
+ * takes a snapshot of the wardrobe on the calling thread, and requests made before the flush starts replace
+ * its snapshot, so a burst of changes is written to storage once. A failed flush keeps its snapshot and changes
+ * pending and is reported by {@link #getFailure()}. It is retried in the background after a delay, which doubles
+ * with each failure in a row up to {@link #MAX_RETRY_DELAY_MILLIS}, so unsaved changes are not left waiting for
+ * the next request. {@link #flush()} writes whatever is pending on the calling thread.
+ */
+public class WriteBehindWardrobeSaver {
+
+    /** The delay before a failed background flush is first retried. */
+    public static final long INITIAL_RETRY_DELAY_MILLIS = 1000;
+    /** The longest delay between retries of a failing background flush. */
+    public static final long MAX_RETRY_DELAY_MILLIS = 60_000;
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindWardrobeSaver.class);
+
+    /** Runs the delayed retries of every saver that is not given its own way to run them. */
+    private static final DelayedExecutor RETRY_EXECUTOR = createRetryExecutor();
+
+    private final WardrobeStorage storage;
+    private final Executor executor;
+    private final boolean ownsExecutor;
+    private final DelayedExecutor retryExecutor;
+
+    private final AtomicBoolean isFlushScheduled = new AtomicBoolean();
+    private final AtomicReference<IOException> failure = new AtomicReference<>();
+
+    /** The number of saves requested so far, incremented while holding {@code pendingLock}. */
+    private final AtomicLong requestCount = new AtomicLong();
+    /** The number of saves requested before the last successful flush took its pending saves. */
+    private volatile long savedRequestCount;
+
+    /** Guards {@code pendingSnapshot} and {@code pendingChanges}. */
+    private final Object pendingLock = new Object();
+    /** Held while pending saves are taken and written, so that writes keep their order. */
+    private final Object flushLock = new Object();
+
+    /** The wardrobe to save in full before {@code pendingChanges}, if any. */
+    private ReadOnlyWardrobe pendingSnapshot;
+    private GarmentChangeSet pendingChanges = new GarmentChangeSet();
+
+    /** The delay before the next retry of a failed background flush. Only used by background flushes. */
+    private long retryDelayMillis = INITIAL_RETRY_DELAY_MILLIS;
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a saver that flushes to {@code storage} on a dedicated background thread.
+     */
+    public WriteBehindWardrobeSaver(WardrobeStorage storage) {
+        this(storage, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "wardrobe-saver");
+            thread.setDaemon(true);
+            return thread;
+        }), true, RETRY_EXECUTOR);
+    }
+
+    /**
+     * Creates a saver that flushes to {@code storage} on {@code executor}.
+     * {@code executor} must not run two flushes at the same time.
+     */
+    public WriteBehindWardrobeSaver(WardrobeStorage storage, Executor executor) {
+        this(storage, executor, false, RETRY_EXECUTOR);
+    }
+
+    /**
+     * Creates a saver that flushes to {@code storage} on {@code executor}, and waits out the delay before retrying
+     * a failed flush with {@code retryExecutor}.
+     */
+    WriteBehindWardrobeSaver(WardrobeStorage storage, Executor executor, DelayedExecutor retryExecutor) {
+        this(storage, executor, false, retryExecutor);
+    }
+
+    private WriteBehindWardrobeSaver(WardrobeStorage storage, Executor executor, boolean ownsExecutor,
+            DelayedExecutor retryExecutor) {
+        requireAllNonNull(storage, executor, retryExecutor);
+        this.storage = storage;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        this.retryExecutor = retryExecutor;
+    }
+
+    /**
+     * Schedules {@code wardrobe}, as it is now, to be saved in full in the background.
+     * Must be called on the thread that modifies {@code wardrobe}.
+     */
+    public void requestSave(ReadOnlyWardrobe wardrobe) {
+        ReadOnlyWardrobe snapshot = takeSnapshot(wardrobe);
+        synchronized (pendingLock) {
+            pendingSnapshot = snapshot;
+            pendingChanges = new GarmentChangeSet();
+            requestCount.incrementAndGet();
+        }
+        scheduleFlush();
+    }
+
+    /**
+     * Schedules {@code changes}, made to {@code wardrobe} since the last request, to be saved in the background.
+     * {@code wardrobe} is saved in full instead if every garment was replaced, or if the storage cannot save the
+     * changes on their own. {@code changes} is owned by this saver afterwards.
+     * Must be called on the thread that modifies {@code wardrobe}.
+     */
+    public void requestSave(ReadOnlyWardrobe wardrobe, GarmentChangeSet changes) {
+        requireAllNonNull(wardrobe, changes);
+        synchronized (pendingLock) {
+            if (!changes.isReplaced() && pendingSnapshot == null && storage.canSaveWardrobeChanges()) {
+                pendingChanges.addAll(changes);
+                requestCount.incrementAndGet();
+                scheduleFlush();
+                return;
+            }
+        }
+        requestSave(wardrobe);
+    }
+
+    /**
+     * Returns the number of saves requested so far.
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * Returns true if every save requested so far has been written to storage.
+     */
+    public boolean isIdle() {
+        return savedRequestCount == requestCount.get();
+    }
+
+    /**
+     * Returns and clears the failure of the last background flush, if it failed.
+     */
+    public Optional<IOException> getFailure() {
+        return Optional.ofNullable(failure.getAndSet(null));
+    }
+
+    /**
+     * Writes the pending snapshot and changes, if any, on the calling thread.
+     * Returns once every save requested so far has been written.
+     */
+    public void flush() throws IOException {
+        synchronized (flushLock) {
+            ReadOnlyWardrobe snapshot;
+            GarmentChangeSet changes;
+            long requests;
+            synchronized (pendingLock) {
+                requests = requestCount.get();
+                snapshot = pendingSnapshot;
+                changes = pendingChanges;
+                pendingSnapshot = null;
+                pendingChanges = new GarmentChangeSet();
+            }
+
+            try {
+                if (snapshot != null) {
+                    storage.saveWardrobe(snapshot);
+                }
+            } catch (IOException ioe) {
+                restorePending(snapshot, changes);
+                throw ioe;
+            }
+
+            try {
+                if (!changes.isEmpty()) {
+                    storage.saveWardrobeChanges(changes.toChanges());
+                }
+            } catch (IOException ioe) {
+                restorePending(null, changes);
+                throw ioe;
+            }
+            savedRequestCount = requests;
+        }
+    }
+
+    /**
+     * Writes the pending snapshot, then stops the background thread if this saver created it.
+     */
+    public void close() throws IOException {
+        isClosed = true;
+        try {
+            flush();
+        } finally {
+            if (ownsExecutor) {
+                ExecutorService ownExecutor = (ExecutorService) executor;
+                ownExecutor.shutdown();
+            }
+        }
+    }
+
+    private ReadOnlyWardrobe takeSnapshot(ReadOnlyWardrobe wardrobe) {
+        ObservableList<Garment> garments = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(wardrobe.getGarmentList()));
+        return () -> garments;
+    }
+
+    private void scheduleFlush() {
+        if (isFlushScheduled.compareAndSet(false, true)) {
+            executor.execute(this::flushInBackground);
+        }
+    }
+
+    /**
+     * Puts back a snapshot and changes that failed to be written, ahead of any requested since,
+     * unless a snapshot requested since has made them redundant.
+     */
+    private void restorePending(ReadOnlyWardrobe snapshot, GarmentChangeSet changes) {
+        synchronized (pendingLock) {
+            if (pendingSnapshot != null) {
+                return;
+            }
+            pendingSnapshot = snapshot;
+            changes.addAll(pendingChanges);
+            pendingChanges = changes;
+        }
+    }
+
+    private void flushInBackground() {
+        isFlushScheduled.set(false);
+        try {
+            flush();
+            retryDelayMillis = INITIAL_RETRY_DELAY_MILLIS;
+        } catch (IOException ioe) {
+            logger.warning("Failed to save wardrobe in the background, retrying in " + retryDelayMillis + " ms: "
+                    + StringUtil.getDetails(ioe));
+            failure.set(ioe);
+            retryExecutor.execute(this::retry, retryDelayMillis);
+            retryDelayMillis = Math.min(retryDelayMillis * 2, MAX_RETRY_DELAY_MILLIS);
+        }
+    }
+
+    /**
+     * Schedules a flush of the saves a failed flush left pending, unless they have been written since.
+     */
+    private void retry() {
+        if (!isClosed && !isIdle()) {
+            scheduleFlush();
+        }
+    }
+
+    private static DelayedExecutor createRetryExecutor() {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "wardrobe-saver-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        return (task, delayMillis) -> scheduler.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs tasks after a delay.
+     */
+    interface DelayedExecutor {
+        /**
+         * Runs {@code task} once {@code delayMillis} milliseconds have passed.
+         */
+        void execute(Runnable task, long delayMillis);
+    }
+}
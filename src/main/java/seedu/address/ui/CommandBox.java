@@ -1,12 +1,12 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -41,12 +41,24 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        // the box is cleared at once, so that the next command can be typed while this one runs
+        commandTextField.setText("");
+        commandExecutor.execute(commandText).whenComplete((result, failure) -> {
+            if (failure != null) {
+                restoreFailedCommand(commandText);
+            }
+        });
+    }
+
+    /**
+     * Puts a failed command back in the command box to be corrected, unless another command is being typed.
+     */
+    private void restoreFailedCommand(String commandText) {
+        if (!commandTextField.getText().isEmpty()) {
+            return;
         }
+        commandTextField.setText(commandText);
+        setStyleToIndicateCommandFailure();
     }
 
     /**
@@ -75,11 +87,11 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command and returns its result, completed on the JavaFX application thread.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.CommandRunner#execute(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
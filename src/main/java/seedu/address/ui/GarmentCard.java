@@ -1,73 +1,148 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
+import static java.util.Objects.requireNonNull;
 
-import javafx.fxml.FXML;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import javafx.scene.layout.ColumnConstraints;
 import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
 import seedu.address.model.garment.Garment;
 
 /**
  * An UI component that displays information of a {@code Garment}.
+ *
+ * The card's nodes are built in code instead of loaded from FXML, as a card is created for every cell of the
+ * garment list. The ids and style classes of the nodes are the ones {@code DarkTheme.css} styles.
  */
 public class GarmentCard extends UiPart<Region> {
 
-    private static final String FXML = "GarmentListCard.fxml";
+    private static final double CARD_MIN_HEIGHT = 105;
+    private static final String BIG_LABEL_STYLE_CLASS = "cell_big_label";
+    private static final String SMALL_LABEL_STYLE_CLASS = "cell_small_label";
+
+    private final Label name = createLabel("name", BIG_LABEL_STYLE_CLASS);
+    private final Label id = createLabel("id", BIG_LABEL_STYLE_CLASS);
+    private final Label size = createLabel("size", SMALL_LABEL_STYLE_CLASS);
+    private final Label dresscode = createLabel("dresscode", SMALL_LABEL_STYLE_CLASS);
+    private final Label lastused = createLabel("lastused", SMALL_LABEL_STYLE_CLASS);
+    private final FlowPane descriptions = new FlowPane();
+    private final Label sampleImage = createLabel("sampleImage", SMALL_LABEL_STYLE_CLASS);
+    private final ImageView sampleView = new ImageView();
+    private Garment garment;
+    private int displayedIndex;
 
     /**
-     * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
-     * As a consequence, UI elements' variable names cannot be set to such keywords
-     * or an exception will be thrown by JavaFX during runtime.
-     *
-     * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
+     * Creates an empty {@code GarmentCard}, to be shown once it is given a garment with {@link #setGarment}.
      */
-
-    public final Garment garment;
-
-    @FXML
-    private HBox cardPane;
-    @FXML
-    private Label name;
-    @FXML
-    private Label id;
-    @FXML
-    private Label size;
-    @FXML
-    private Label dresscode;
-    @FXML
-    private Label lastused;
-    @FXML
-    private FlowPane descriptions;
-    @FXML
-    private Label sampleImage;
+    public GarmentCard() {
+        this(new HBox());
+    }
 
     /**
      * Creates a {@code GarmentCode} with the given {@code Garment} and index to display.
      */
     public GarmentCard(Garment garment, int displayedIndex) {
-        super(FXML);
+        this();
+        setGarment(garment, displayedIndex);
+    }
+
+    private GarmentCard(HBox cardPane) {
+        super(cardPane);
+        cardPane.setId("cardPane");
+
+        id.setMinWidth(Region.USE_PREF_SIZE); // ensures that the label text is never truncated
+        HBox nameBox = new HBox(5, id, name);
+        nameBox.setAlignment(Pos.CENTER_LEFT);
+        descriptions.setId("descriptions");
+        VBox details = new VBox(nameBox, descriptions, size, dresscode, lastused);
+        details.setAlignment(Pos.CENTER_LEFT);
+        details.setMinHeight(CARD_MIN_HEIGHT);
+        details.setPadding(new Insets(5, 5, 5, 15));
+
+        sampleView.setFitHeight(SampleImageCache.FIT_HEIGHT);
+        sampleView.setPreserveRatio(true);
+        sampleImage.setGraphic(sampleView);
+        VBox sample = new VBox(sampleImage);
+        sample.setAlignment(Pos.CENTER_RIGHT);
+        sample.setMinHeight(CARD_MIN_HEIGHT);
+        sample.setPadding(new Insets(0, 50, 0, 0));
+
+        ColumnConstraints column = new ColumnConstraints();
+        column.setHgrow(Priority.SOMETIMES);
+        column.setMinWidth(10);
+        column.setPrefWidth(150);
+        GridPane grid = new GridPane();
+        grid.getColumnConstraints().add(column);
+        grid.add(details, 0, 0);
+        grid.add(sample, 0, 0);
+        HBox.setHgrow(grid, Priority.ALWAYS);
+        cardPane.getChildren().add(grid);
+    }
+
+    /**
+     * Shows {@code garment} at {@code displayedIndex} on this card in place of the garment shown before.
+     * The labels of the card are reused, so no nodes are created unless the garment has more descriptions.
+     */
+    public void setGarment(Garment garment, int displayedIndex) {
+        requireNonNull(garment);
+        // garments that are equal may still differ in their last use, so only the same garment is skipped
+        if (garment == this.garment && displayedIndex == this.displayedIndex) {
+            return;
+        }
         this.garment = garment;
-        String sample = Garment.SAMPLES.get(garment.getColour().colour).get(garment.getType().value);
+        this.displayedIndex = displayedIndex;
 
         id.setText(displayedIndex + ". ");
         name.setText(garment.getName().fullName);
         size.setText("Size: " + garment.getSize().value);
         dresscode.setText("DressCode: " + garment.getDressCode().value);
         lastused.setText("Last used: " + garment.getLastUse().value);
-        garment.getDescriptions().stream()
-                .sorted(Comparator.comparing(description -> description.descriptionName))
-                .forEach(description -> descriptions.getChildren()
-                        .add(new Label("<" + description.descriptionName + ">")));
-
-        Image image = new Image(sample);
-        ImageView sampleView = new ImageView(image);
-        sampleView.setFitHeight(80);
-        sampleView.setPreserveRatio(true);
-        sampleImage.setGraphic(sampleView);
+        setDescriptions(garment.getDescriptions().stream()
+                .map(description -> description.descriptionName)
+                .sorted()
+                .collect(Collectors.toList()));
+
+        String sample = Garment.SAMPLES.get(garment.getColour().colour).get(garment.getType().value);
+        sampleView.setImage(SampleImageCache.getImage(sample));
+    }
+
+    /**
+     * Shows {@code descriptionNames} in order, reusing the labels of the descriptions shown before.
+     */
+    private void setDescriptions(List<String> descriptionNames) {
+        ObservableList<Node> labels = descriptions.getChildren();
+        if (labels.size() > descriptionNames.size()) {
+            labels.remove(descriptionNames.size(), labels.size());
+        }
+        for (int i = 0; i < descriptionNames.size(); i++) {
+            String text = "<" + descriptionNames.get(i) + ">";
+            if (i < labels.size()) {
+                Label label = (Label) labels.get(i);
+                label.setText(text);
+            } else {
+                labels.add(new Label(text));
+            }
+        }
+    }
+
+    private static Label createLabel(String id, String styleClass) {
+        Label label = new Label();
+        label.setId(id);
+        label.getStyleClass().add(styleClass);
+        return label;
     }
 
     @Override
@@ -85,6 +160,6 @@ public class GarmentCard extends UiPart<Region> {
         // state check
         GarmentCard card = (GarmentCard) other;
         return id.getText().equals(card.id.getText())
-                && garment.equals(card.garment);
+                && Objects.equals(garment, card.garment);
     }
 }
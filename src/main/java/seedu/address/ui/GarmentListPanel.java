@@ -31,8 +31,11 @@ public class GarmentListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Garment} using a {@code GarmentCard}.
+     * Each cell keeps one card and shows every garment it is given on that card, as cells are reused while scrolling.
      */
     class GarmentListViewCell extends ListCell<Garment> {
+        private final GarmentCard garmentCard = new GarmentCard();
+
         @Override
         protected void updateItem(Garment garment, boolean empty) {
             super.updateItem(garment, empty);
@@ -41,7 +44,8 @@ public class GarmentListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new GarmentCard(garment, getIndex() + 1).getRoot());
+                garmentCard.setGarment(garment, getIndex() + 1);
+                setGraphic(garmentCard.getRoot());
             }
         }
     }
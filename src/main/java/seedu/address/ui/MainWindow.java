@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.event.ActionEvent;
@@ -12,10 +13,9 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandRunner;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -29,6 +29,7 @@ public class MainWindow extends UiPart<Stage> {
 
     private Stage primaryStage;
     private Logic logic;
+    private CommandRunner commandRunner;
 
     // Independent Ui parts residing in this Ui container
     private GarmentListPanel garmentListPanel;
@@ -51,14 +52,16 @@ public class MainWindow extends UiPart<Stage> {
     private StackPane statusbarPlaceholder;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage}, {@code Logic}, and {@code CommandRunner} that
+     * runs the commands entered.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, CommandRunner commandRunner) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandRunner = commandRunner;
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -110,13 +113,14 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        garmentListPanel = new GarmentListPanel(logic.getFilteredGarmentList());
+        garmentListPanel = new GarmentListPanel(commandRunner.getGarmentList());
         garmentListPanelPlaceholder.getChildren().add(garmentListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getWardrobeFilePath());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getWardrobeFilePath(),
+                commandRunner.busyProperty());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
@@ -168,13 +172,19 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Starts executing the command, and shows its result once it has finished.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.CommandRunner#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        CompletableFuture<CommandResult> result = commandRunner.execute(commandText);
+        result.whenComplete((commandResult, failure) -> {
+            if (failure != null) {
+                logger.info("Invalid command: " + commandText);
+                resultDisplay.setFeedbackToUser(failure.getMessage());
+                return;
+            }
+
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -185,12 +195,7 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isExit()) {
                 handleExit();
             }
-
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+        });
+        return result;
     }
 }
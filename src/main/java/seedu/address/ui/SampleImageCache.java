@@ -0,0 +1,51 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import javafx.scene.image.Image;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.garment.Garment;
+
+/**
+ * Holds the sample images shown on {@code GarmentCard}s, decoded once at the height they are shown at.
+ *
+ * There are only as many sample images as there are colours and types, so every card showing the same sample
+ * shares one {@code Image}. Decoding at {@link #FIT_HEIGHT} instead of the images' full size keeps each image
+ * a small fraction of the memory, and saves scaling it every time it is drawn.
+ */
+public class SampleImageCache {
+
+    /** The height sample images are shown at, in pixels. */
+    public static final double FIT_HEIGHT = 80;
+
+    private static final Logger logger = LogsCenter.getLogger(SampleImageCache.class);
+
+    private static final Map<String, Image> images = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the sample image at {@code samplePath}, decoding it on the calling thread if it has not been
+     * loaded yet. The image may still be loading in the background if {@link #preloadAll()} started it.
+     */
+    public static Image getImage(String samplePath) {
+        requireNonNull(samplePath);
+        return images.computeIfAbsent(samplePath, path -> loadImage(path, false));
+    }
+
+    /**
+     * Starts decoding every sample image in {@link Garment#SAMPLES} in the background,
+     * so that cards shown later find them ready.
+     */
+    public static void preloadAll() {
+        Garment.SAMPLES.values().forEach(samplesByType -> samplesByType.values()
+                .forEach(samplePath -> images.computeIfAbsent(samplePath, path -> loadImage(path, true))));
+        logger.fine("Preloading " + images.size() + " sample images");
+    }
+
+    private static Image loadImage(String samplePath, boolean isBackgroundLoading) {
+        return new Image(samplePath, 0, FIT_HEIGHT, true, true, isBackgroundLoading);
+    }
+}
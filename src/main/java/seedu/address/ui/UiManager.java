@@ -10,6 +10,7 @@ import javafx.stage.Stage;
 import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandRunner;
 import seedu.address.logic.Logic;
 
 /**
@@ -23,14 +24,16 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/address_book_32.png";
 
     private Logic logic;
+    private CommandRunner commandRunner;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} with the given {@code Logic} and {@code CommandRunner}.
      */
-    public UiManager(Logic logic) {
+    public UiManager(Logic logic, CommandRunner commandRunner) {
         super();
         this.logic = logic;
+        this.commandRunner = commandRunner;
     }
 
     @Override
@@ -39,9 +42,10 @@ public class UiManager implements Ui {
 
         //Set the application icon.
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
+        SampleImageCache.preloadAll();
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            mainWindow = new MainWindow(primaryStage, logic, commandRunner);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
 
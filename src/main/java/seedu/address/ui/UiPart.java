@@ -51,6 +51,15 @@ public abstract class UiPart<T> {
         this(getFxmlFileUrl(fxmlFileName), root);
     }
 
+    /**
+     * Constructs a UiPart whose scene graph, rooted at {@code root}, is built in code instead of loaded from FXML.
+     * Used for parts that are created often, as loading FXML is comparatively slow.
+     */
+    public UiPart(T root) {
+        requireNonNull(root);
+        fxmlLoader.setRoot(root);
+    }
+
     /**
      * Returns the root object of the scene graph of this UiPart.
      */
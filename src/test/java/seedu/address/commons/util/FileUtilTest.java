@@ -1,13 +1,24 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +31,50 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replacesContents() throws Exception {
+        Path file = testFolder.resolve("folder").resolve("file.txt");
+        FileUtil.writeToFile(file, "old");
+        FileUtil.writeToFile(file, "new");
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getTempFilePath(file)));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_keepsOldContents() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old");
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, channel -> {
+            channel.write(ByteBuffer.wrap("partial".getBytes(StandardCharsets.UTF_8)));
+            throw new IOException();
+        }));
+        assertEquals("old", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getTempFilePath(file)));
+    }
+
+    @Test
+    public void moveAtomically_existingTarget_replacesTarget() throws Exception {
+        Path source = testFolder.resolve("file.txt.new");
+        Path target = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(target, "old");
+        FileUtil.writeToFile(source, "new");
+        FileUtil.moveAtomically(source, target);
+        assertEquals("new", FileUtil.readFromFile(target));
+        assertFalse(Files.exists(source));
+    }
+
+    @Test
+    public void backUp_existingFile_keepsContentsAfterReplacement() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.backUp(file);
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file)));
+
+        FileUtil.writeToFile(file, "first");
+        FileUtil.backUp(file);
+        FileUtil.writeToFile(file, "second");
+        FileUtil.backUp(file);
+        FileUtil.writeToFile(file, "third");
+        assertEquals("second", FileUtil.readFromFile(FileUtil.getBackupFilePath(file)));
+        assertEquals("third", FileUtil.readFromFile(file));
+    }
 }
@@ -0,0 +1,51 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class ReplacedRangeChangeTest {
+
+    private final ObservableList<String> list = FXCollections.observableArrayList("a", "x", "y", "d");
+
+    @Test
+    public void next_onlyChange_describesReplacement() {
+        ReplacedRangeChange<String> change = new ReplacedRangeChange<>(list, 1, Arrays.asList("b", "c"), 2);
+        assertTrue(change.next());
+        assertTrue(change.wasReplaced());
+        assertEquals(1, change.getFrom());
+        assertEquals(3, change.getTo());
+        assertEquals(Arrays.asList("b", "c"), change.getRemoved());
+        assertEquals(Arrays.asList("x", "y"), change.getAddedSubList());
+        assertFalse(change.wasPermutated());
+        assertFalse(change.next());
+
+        change.reset();
+        assertTrue(change.next());
+        assertEquals(1, change.getFrom());
+    }
+
+    @Test
+    public void next_removalOnly_reportsRemoved() {
+        ReplacedRangeChange<String> change = new ReplacedRangeChange<>(list, 4, Collections.singletonList("e"), 0);
+        assertTrue(change.next());
+        assertTrue(change.wasRemoved());
+        assertFalse(change.wasAdded());
+        assertEquals(1, change.getRemovedSize());
+    }
+
+    @Test
+    public void getFrom_beforeNext_throwsIllegalStateException() {
+        ReplacedRangeChange<String> change = new ReplacedRangeChange<>(list, 0, Collections.emptyList(), 1);
+        assertThrows(IllegalStateException.class, change::getFrom);
+    }
+}
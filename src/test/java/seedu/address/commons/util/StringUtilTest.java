@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,19 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for toLowerCaseWords --------------------------------------
+
+    @Test
+    public void toLowerCaseWords_nullSentence_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.toLowerCaseWords(null));
+    }
+
+    @Test
+    public void toLowerCaseWords_validSentence_returnsLowerCaseWords() {
+        assertArrayEquals(new String[] {"abc"}, StringUtil.toLowerCaseWords("ABc"));
+        assertArrayEquals(new String[] {"abc", "def"}, StringUtil.toLowerCaseWords("  ABc   DEF "));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
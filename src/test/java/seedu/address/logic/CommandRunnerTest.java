@@ -0,0 +1,231 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_UNEXPECTED_ERROR;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalGarments.ALICE;
+import static seedu.address.testutil.TypicalGarments.CARL;
+import static seedu.address.testutil.TypicalGarments.ELLE;
+import static seedu.address.testutil.TypicalGarments.HOON;
+import static seedu.address.testutil.TypicalGarments.getTypicalGarments;
+import static seedu.address.testutil.TypicalGarments.getTypicalWardrobe;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.Wardrobe;
+import seedu.address.model.garment.Garment;
+import seedu.address.model.garment.GarmentSource;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.JsonWardrobeStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindWardrobeSaver;
+import seedu.address.testutil.GarmentBuilder;
+
+public class CommandRunnerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final List<Runnable> commandTasks = new ArrayList<>();
+    private final List<Runnable> uiTasks = new ArrayList<>();
+    private Model model = new ModelManager(getTypicalWardrobe(), new UserPrefs());
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        JsonWardrobeStorage wardrobeStorage = new JsonWardrobeStorage(temporaryFolder.resolve("wardrobe.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        StorageManager storage = new StorageManager(wardrobeStorage, userPrefsStorage);
+        logic = new LogicManager(model, new WriteBehindWardrobeSaver(storage, Runnable::run));
+    }
+
+    @Test
+    public void execute_validCommand_runsOnCommandExecutorAndFinishesOnUiExecutor() {
+        CommandRunner runner = new CommandRunner(logic, commandTasks::add, uiTasks::add);
+        int garmentCount = model.getFilteredGarmentList().size();
+
+        CompletableFuture<CommandResult> result = runner.execute(DeleteCommand.COMMAND_WORD + " 1");
+        assertTrue(runner.busyProperty().get());
+        assertEquals(garmentCount, model.getFilteredGarmentList().size());
+
+        runAll(commandTasks);
+        // the list shown only changes on the UI executor
+        assertEquals(garmentCount - 1, model.getFilteredGarmentList().size());
+        assertEquals(garmentCount, runner.getGarmentList().size());
+        assertFalse(result.isDone());
+
+        runAll(uiTasks);
+        assertEquals(model.getFilteredGarmentList(), runner.getGarmentList());
+        assertTrue(result.isDone());
+        assertFalse(runner.busyProperty().get());
+    }
+
+    @Test
+    public void execute_deleteCommand_forwardsOnlyTheRemoval() {
+        CommandRunner runner = new CommandRunner(logic, Runnable::run, Runnable::run);
+        Garment first = runner.getGarmentList().get(0);
+        List<ListChangeListener.Change<? extends Garment>> changes = new ArrayList<>();
+        runner.getGarmentList().addListener((ListChangeListener<Garment>) change -> {
+            while (change.next()) {
+                assertTrue(change.wasRemoved());
+                assertFalse(change.wasAdded());
+                assertEquals(Collections.singletonList(first), change.getRemoved());
+            }
+            changes.add(change);
+        });
+
+        runner.execute(DeleteCommand.COMMAND_WORD + " 1");
+        assertEquals(1, changes.size());
+        assertEquals(model.getFilteredGarmentList(), runner.getGarmentList());
+    }
+
+    @Test
+    public void constructor_garmentsNotCreated_createsNoGarments() {
+        CountingGarmentSource source = new CountingGarmentSource(getTypicalGarments());
+        Wardrobe wardrobe = new Wardrobe();
+        wardrobe.setGarments(source);
+        model = new ModelManager(wardrobe, new UserPrefs());
+        setUp();
+
+        CommandRunner runner = new CommandRunner(logic, Runnable::run, Runnable::run);
+        assertEquals(getTypicalGarments().size(), runner.getGarmentList().size());
+        assertEquals(0, source.createdCount);
+
+        runner.getGarmentList().get(0);
+        assertEquals(1, source.createdCount);
+    }
+
+    @Test
+    public void execute_invalidCommand_completesExceptionally() {
+        CommandRunner runner = new CommandRunner(logic, Runnable::run, Runnable::run);
+        CompletableFuture<CommandResult> result = runner.execute("uicfhmowqewca");
+
+        Throwable failure = result.handle((commandResult, e) -> e).join();
+        assertTrue(failure instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, failure.getMessage());
+        assertFalse(runner.busyProperty().get());
+    }
+
+    @Test
+    public void execute_commandFailsUnexpectedly_completesWithUnexpectedErrorMessage() {
+        Wardrobe wardrobe = new Wardrobe();
+        wardrobe.setGarments(new UnreadableGarmentSource(getTypicalGarments().size()));
+        model = new ModelManager(wardrobe, new UserPrefs());
+        setUp();
+
+        CommandRunner runner = new CommandRunner(logic, Runnable::run, Runnable::run);
+        CompletableFuture<CommandResult> result = runner.execute(DeleteCommand.COMMAND_WORD + " 1");
+
+        Throwable failure = result.handle((commandResult, e) -> e).join();
+        assertTrue(failure instanceof CommandException);
+        assertEquals(MESSAGE_UNEXPECTED_ERROR, failure.getMessage());
+        assertTrue(failure.getCause() instanceof IllegalStateException);
+        assertFalse(runner.busyProperty().get());
+    }
+
+    @Test
+    public void execute_severalCommands_busyUntilLastFinishes() {
+        CommandRunner runner = new CommandRunner(logic, commandTasks::add, uiTasks::add);
+        runner.execute(DeleteCommand.COMMAND_WORD + " 1");
+        CompletableFuture<CommandResult> second = runner.execute(DeleteCommand.COMMAND_WORD + " 1");
+
+        commandTasks.remove(0).run();
+        uiTasks.remove(0).run();
+        assertTrue(runner.busyProperty().get());
+
+        runAll(commandTasks);
+        runAll(uiTasks);
+        assertTrue(second.isDone());
+        assertFalse(runner.busyProperty().get());
+        assertEquals(getTypicalWardrobe().getGarmentList().size() - 2, runner.getGarmentList().size());
+    }
+
+    @Test
+    public void reloadWardrobe_garmentAdded_showsGarment() {
+        CommandRunner runner = new CommandRunner(logic, Runnable::run, Runnable::run);
+        Wardrobe changed = getTypicalWardrobe();
+        changed.addGarment(HOON);
+
+        runner.runInOrder(() -> runner.reloadWardrobe(changed));
+        assertTrue(runner.getGarmentList().contains(HOON));
+    }
+
+    @Test
+    public void reloadWardrobe_severalGarmentsChanged_followsFilteredList() {
+        CommandRunner runner = new CommandRunner(logic, Runnable::run, Runnable::run);
+        Wardrobe changed = getTypicalWardrobe();
+        changed.addGarment(HOON);
+        changed.removeGarment(ALICE);
+        changed.removeGarment(ELLE);
+        changed.setGarment(CARL, new GarmentBuilder(CARL).withLastUse("2021-04-01").build());
+
+        runner.runInOrder(() -> runner.reloadWardrobe(changed));
+        assertEquals(model.getFilteredGarmentList(), runner.getGarmentList());
+        assertEquals(changed.getGarmentList(), runner.getGarmentList());
+    }
+
+    private static class CountingGarmentSource implements GarmentSource {
+        private final List<Garment> garments;
+        private int createdCount;
+
+        CountingGarmentSource(List<Garment> garments) {
+            this.garments = garments;
+        }
+
+        @Override
+        public int size() {
+            return garments.size();
+        }
+
+        @Override
+        public Garment getGarment(int position) {
+            createdCount++;
+            return garments.get(position);
+        }
+    }
+
+    /**
+     * A source whose garments cannot be created, as if its file could no longer be read.
+     */
+    private static class UnreadableGarmentSource implements GarmentSource {
+        private final int size;
+
+        UnreadableGarmentSource(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Garment getGarment(int position) {
+            throw new IllegalStateException();
+        }
+    }
+
+    private static void runAll(List<Runnable> tasks) {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+}
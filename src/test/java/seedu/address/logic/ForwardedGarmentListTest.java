@@ -0,0 +1,103 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.garment.Garment;
+import seedu.address.testutil.GarmentBuilder;
+
+public class ForwardedGarmentListTest {
+
+    @Test
+    public void apply_manyEdits_followsSourceList() {
+        List<Garment> initialGarments = getGarments(1000);
+        ObservableList<Garment> source = FXCollections.observableArrayList(initialGarments);
+        ForwardedGarmentList forwarded = new ForwardedGarmentList(new ArrayList<>(initialGarments));
+        List<ForwardedGarmentList.Edit> edits = new ArrayList<>();
+        source.addListener((ListChangeListener<Garment>) change -> edits.addAll(ForwardedGarmentList.toEdits(change)));
+
+        // enough scattered edits to flatten the list several times
+        Random random = new Random(42);
+        List<Garment> addedGarments = getGarments(500);
+        for (int i = 0; i < 500; i++) {
+            int position = random.nextInt(source.size());
+            if (i % 3 == 0) {
+                source.add(position, addedGarments.get(i));
+            } else if (i % 3 == 1) {
+                source.remove(position);
+            } else {
+                source.set(position, addedGarments.get(i));
+            }
+            forwarded.apply(new ArrayList<>(edits));
+            edits.clear();
+        }
+        assertEquals(source, forwarded);
+    }
+
+    @Test
+    public void apply_manyEdits_createsOnlyGarmentsShown() {
+        CountingList initialGarments = new CountingList(getGarments(200));
+        ForwardedGarmentList forwarded = new ForwardedGarmentList(initialGarments);
+        List<List<? extends Garment>> removedLists = new ArrayList<>();
+        forwarded.addListener((ListChangeListener<Garment>) change -> {
+            while (change.next()) {
+                removedLists.add(change.getRemoved());
+            }
+        });
+
+        // removing every other garment splits the list into more pieces than it keeps before flattening
+        for (int i = 1; i < 100; i++) {
+            forwarded.apply(Collections.singletonList(new ForwardedGarmentList.Edit(i, 1, Collections.emptyList())));
+        }
+        assertEquals(101, forwarded.size());
+        assertEquals(0, initialGarments.readCount);
+
+        assertEquals(initialGarments.garments.get(4), forwarded.get(2));
+        assertEquals(1, initialGarments.readCount);
+        // the removed garments are still the ones that were removed, and are only read now
+        assertEquals(99, removedLists.size());
+        assertEquals(Collections.singletonList(initialGarments.garments.get(3)), removedLists.get(1));
+        assertEquals(2, initialGarments.readCount);
+    }
+
+    private static List<Garment> getGarments(int count) {
+        List<Garment> garments = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            garments.add(new GarmentBuilder().withName("Garment " + i).build());
+        }
+        return garments;
+    }
+
+    /**
+     * A list that counts the garments read from it.
+     */
+    private static class CountingList extends AbstractList<Garment> {
+        private final List<Garment> garments;
+        private int readCount;
+
+        CountingList(List<Garment> garments) {
+            this.garments = garments;
+        }
+
+        @Override
+        public Garment get(int index) {
+            readCount++;
+            return garments.get(index);
+        }
+
+        @Override
+        public int size() {
+            return garments.size();
+        }
+    }
+}
@@ -31,6 +31,7 @@ import seedu.address.model.garment.Garment;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.JsonWardrobeStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindWardrobeSaver;
 import seedu.address.testutil.GarmentBuilder;
 
 public class LogicManagerTest {
@@ -70,14 +71,15 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
+    public void execute_storageThrowsIoException_reportsSaveFailureInResult() throws Exception {
         // Setup LogicManager with JsonWardrobeIoExceptionThrowingStub
         JsonWardrobeStorage wardrobeStorage =
                 new JsonWardrobeIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionWardrobe.json"));
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
         StorageManager storage = new StorageManager(wardrobeStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        // save on the calling thread so that the failure is reported with the command that caused it
+        logic = new LogicManager(model, new WriteBehindWardrobeSaver(storage, Runnable::run));
 
         // Execute add command
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + SIZE_DESC_AMY + COLOUR_DESC_AMY
@@ -85,8 +87,23 @@ public class LogicManagerTest {
         Garment expectedGarment = new GarmentBuilder(AMY).withDescriptions().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addGarment(expectedGarment);
-        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        // a new garment has never been used
+        Garment addedGarment = new GarmentBuilder(expectedGarment).withLastUse("Never").build();
+        String expectedMessage = String.format(AddCommand.MESSAGE_SUCCESS, addedGarment) + "\n"
+                + LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
+        assertCommandSuccess(addCommand, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        JsonWardrobeStorage wardrobeStorage =
+                new JsonWardrobeIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionWardrobe.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        StorageManager storage = new StorageManager(wardrobeStorage, userPrefsStorage);
+        logic = new LogicManager(model, new WriteBehindWardrobeSaver(storage, Runnable::run));
+
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
     }
 
     @Test
@@ -9,6 +9,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -16,11 +17,13 @@ import org.junit.jupiter.api.Test;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.GarmentChangeSet;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.ReadOnlyWardrobe;
 import seedu.address.model.Wardrobe;
 import seedu.address.model.garment.Garment;
+import seedu.address.model.outfit.Outfit;
 import seedu.address.testutil.GarmentBuilder;
 
 public class AddCommandTest {
@@ -118,11 +121,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateWardrobe(ReadOnlyWardrobe wardrobe) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyWardrobe getWardrobe() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public GarmentChangeSet takeWardrobeChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasGarment(Garment garment) {
             throw new AssertionError("This method should not be called.");
@@ -138,6 +151,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Outfit> generateOutfits(int count) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Garment> getFilteredGarmentList() {
             throw new AssertionError("This method should not be called.");
@@ -1,20 +1,51 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalGarments.ALICE;
+import static seedu.address.testutil.TypicalGarments.BENSON;
+import static seedu.address.testutil.TypicalGarments.CARL;
 import static seedu.address.testutil.TypicalGarments.getTypicalWardrobe;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_GARMENT;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_GARMENT;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.garment.GarmentMatchesPredicate;
 
 public class MatchCommandTest {
 
     private Model model = new ModelManager(getTypicalWardrobe(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalWardrobe(), new UserPrefs());
+
+    @Test
+    public void execute_validIndex_listsMatchingGarments() {
+        Index indexOfAlice = Index.fromZeroBased(model.getFilteredGarmentList().indexOf(ALICE));
+        String expectedMessage = "Matching results for garment\nname: " + ALICE.getName()
+                + "\nsize: " + ALICE.getSize() + "\ncolour: " + ALICE.getColour() + "\ndresscode: "
+                + ALICE.getDressCode() + "\ntype: " + ALICE.getType();
+        expectedModel.updateFilteredGarmentList(new GarmentMatchesPredicate(ALICE));
+
+        assertCommandSuccess(new MatchCommand(indexOfAlice), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, CARL), model.getFilteredGarmentList());
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredGarmentList().size() + 1);
+        assertCommandFailure(new MatchCommand(outOfBoundIndex), model,
+                Messages.MESSAGE_INVALID_GARMENT_DISPLAYED_INDEX);
+    }
 
     @Test
     public void equals() {
@@ -0,0 +1,55 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalGarments.ALICE;
+import static seedu.address.testutil.TypicalGarments.BENSON;
+import static seedu.address.testutil.TypicalGarments.CARL;
+import static seedu.address.testutil.TypicalGarments.getTypicalWardrobe;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.outfit.Outfit;
+
+public class OutfitCommandTest {
+
+    private Model model = new ModelManager(getTypicalWardrobe(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalWardrobe(), new UserPrefs());
+
+    @Test
+    public void execute_emptyWardrobe_noOutfits() {
+        Model emptyModel = new ModelManager();
+        assertCommandSuccess(new OutfitCommand(3), emptyModel, OutfitCommand.MESSAGE_NO_OUTFITS, new ModelManager());
+    }
+
+    @Test
+    public void execute_typicalWardrobe_listsOutfits() {
+        // ALICE, BENSON and CARL are the only formal garments
+        String expectedMessage = OutfitCommand.MESSAGE_SUCCESS + "\n1. " + new Outfit(ALICE, BENSON, CARL);
+        assertCommandSuccess(new OutfitCommand(3), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        OutfitCommand outfitCommand = new OutfitCommand(3);
+
+        // same object -> returns true
+        assertTrue(outfitCommand.equals(outfitCommand));
+
+        // same values -> returns true
+        assertTrue(outfitCommand.equals(new OutfitCommand(3)));
+
+        // different types -> returns false
+        assertFalse(outfitCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(outfitCommand.equals(null));
+
+        // different count -> returns false
+        assertFalse(outfitCommand.equals(new OutfitCommand(4)));
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.OutfitCommand;
+
+public class OutfitCommandParserTest {
+
+    private OutfitCommandParser parser = new OutfitCommandParser();
+
+    @Test
+    public void parse_emptyArgs_returnsOutfitCommandWithDefaultCount() {
+        assertParseSuccess(parser, "  ", new OutfitCommand(OutfitCommand.DEFAULT_COUNT));
+    }
+
+    @Test
+    public void parse_validArgs_returnsOutfitCommand() {
+        assertParseSuccess(parser, " 12 ", new OutfitCommand(12));
+        assertParseSuccess(parser, String.valueOf(OutfitCommand.MAX_COUNT), new OutfitCommand(OutfitCommand.MAX_COUNT));
+    }
+
+    @Test
+    public void parse_countAboveMax_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, OutfitCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, String.valueOf(OutfitCommand.MAX_COUNT + 1), expectedMessage);
+        assertParseFailure(parser, "2147483647", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, OutfitCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "0", expectedMessage);
+        assertParseFailure(parser, "-1", expectedMessage);
+        assertParseFailure(parser, "a", expectedMessage);
+        assertParseFailure(parser, "1 2", expectedMessage);
+    }
+}
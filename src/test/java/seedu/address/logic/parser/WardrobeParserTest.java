@@ -24,6 +24,7 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.OutfitCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.garment.AttributesContainsKeywordsPredicate;
 import seedu.address.model.garment.Garment;
@@ -148,6 +149,12 @@ public class WardrobeParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_outfit() throws Exception {
+        assertEquals(new OutfitCommand(OutfitCommand.DEFAULT_COUNT), parser.parseCommand(OutfitCommand.COMMAND_WORD));
+        assertEquals(new OutfitCommand(3), parser.parseCommand(OutfitCommand.COMMAND_WORD + " 3"));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
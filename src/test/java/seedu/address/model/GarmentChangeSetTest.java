@@ -0,0 +1,90 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalGarments.ALICE;
+import static seedu.address.testutil.TypicalGarments.BENSON;
+import static seedu.address.testutil.TypicalGarments.HOON;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.garment.Garment;
+import seedu.address.testutil.GarmentBuilder;
+
+public class GarmentChangeSetTest {
+
+    @Test
+    public void recordAdded_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new GarmentChangeSet().recordAdded(null));
+    }
+
+    @Test
+    public void toChanges_sameGarmentChangedRepeatedly_coalesced() {
+        GarmentChangeSet changes = new GarmentChangeSet();
+        Garment firstEdit = new GarmentBuilder(ALICE).withLastUse("2021-04-01").build();
+        Garment secondEdit = new GarmentBuilder(ALICE).withLastUse("2021-04-02").build();
+        changes.recordEdited(ALICE, firstEdit);
+        changes.recordAdded(HOON);
+        changes.recordEdited(firstEdit, secondEdit);
+        changes.recordRemoved(BENSON);
+
+        assertEquals(Arrays.asList(GarmentChange.removed(ALICE), GarmentChange.added(secondEdit),
+                GarmentChange.added(HOON), GarmentChange.removed(BENSON)), changes.toChanges());
+    }
+
+    @Test
+    public void toChanges_changesUndone_empty() {
+        GarmentChangeSet changes = new GarmentChangeSet();
+        Garment edited = new GarmentBuilder(ALICE).withLastUse("2021-04-01").build();
+        changes.recordAdded(HOON);
+        changes.recordRemoved(HOON);
+        changes.recordEdited(ALICE, edited);
+        changes.recordEdited(edited, ALICE);
+
+        assertTrue(changes.isEmpty());
+        assertEquals(Collections.emptyList(), changes.toChanges());
+    }
+
+    @Test
+    public void recordEdited_renamed_recordedAsRemovalAndAddition() {
+        GarmentChangeSet changes = new GarmentChangeSet();
+        Garment renamed = new GarmentBuilder(ALICE).withName("Alice Renamed").build();
+        changes.recordEdited(ALICE, renamed);
+
+        assertEquals(Arrays.asList(GarmentChange.removed(ALICE), GarmentChange.added(renamed)), changes.toChanges());
+    }
+
+    @Test
+    public void addAll_laterChanges_coalescedWithEarlier() {
+        GarmentChangeSet earlier = new GarmentChangeSet();
+        earlier.recordAdded(HOON);
+        GarmentChangeSet later = new GarmentChangeSet();
+        later.recordRemoved(HOON);
+        later.recordRemoved(ALICE);
+
+        earlier.addAll(later);
+        assertEquals(Collections.singletonList(GarmentChange.removed(ALICE)), earlier.toChanges());
+    }
+
+    @Test
+    public void markReplaced_laterChangesIgnored() {
+        GarmentChangeSet changes = new GarmentChangeSet();
+        changes.recordAdded(HOON);
+        changes.markReplaced();
+        changes.recordRemoved(ALICE);
+
+        assertTrue(changes.isReplaced());
+        assertFalse(changes.isEmpty());
+        assertThrows(IllegalStateException.class, changes::toChanges);
+
+        GarmentChangeSet earlier = new GarmentChangeSet();
+        earlier.recordAdded(BENSON);
+        earlier.addAll(changes);
+        assertTrue(earlier.isReplaced());
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalGarments.ALICE;
+import static seedu.address.testutil.TypicalGarments.BENSON;
+import static seedu.address.testutil.TypicalGarments.DANIEL;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.GarmentIndex.Attribute;
+import seedu.address.model.garment.Garment;
+import seedu.address.testutil.GarmentBuilder;
+
+public class GarmentIndexTest {
+
+    private final GarmentIndex index = new GarmentIndex();
+
+    @Test
+    public void add_nullGarment_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void getSlots_indexedValues_returnsUnionOfSlots() {
+        index.reset(Arrays.asList(ALICE, BENSON, DANIEL));
+
+        assertEquals(slots(0, 1, 2), index.getSlots(Attribute.COLOUR, Collections.singleton("blue")));
+        assertEquals(slots(0, 1), index.getSlots(Attribute.DRESSCODE, Collections.singleton("formal")));
+        assertEquals(slots(0), index.getSlots(Attribute.TYPE, Collections.singleton("upper")));
+        assertEquals(slots(0, 1, 2), index.getSlots(Attribute.DESCRIPTION, new HashSet<>(
+                Arrays.asList("friends", "owesmoney"))));
+        assertEquals(slots(), index.getSlots(Attribute.SIZE, Collections.singleton("99")));
+    }
+
+    @Test
+    public void remove_indexedGarment_clearsItsSlot() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.remove(ALICE);
+
+        assertEquals(slots(1), index.getOccupiedSlots());
+        assertEquals(slots(1), index.getSlots(Attribute.COLOUR, Collections.singleton("blue")));
+        assertEquals(slots(), index.getSlots(Attribute.TYPE, Collections.singleton("upper")));
+    }
+
+    @Test
+    public void toPredicate_garmentAddedAfterQuery_usesFallback() {
+        index.add(ALICE);
+        Predicate<Garment> predicate = index.toPredicate(slots(0), unused -> false);
+        assertTrue(predicate.test(ALICE));
+
+        Garment redAlice = new GarmentBuilder(ALICE).withColour("red").build();
+        index.remove(ALICE);
+        index.add(redAlice);
+        assertFalse(predicate.test(redAlice));
+    }
+
+    @Test
+    public void toPredicate_indexReset_matchesSameGarments() {
+        index.add(ALICE);
+        Predicate<Garment> predicate = index.toPredicate(slots(0), unused -> false);
+        index.reset(Collections.singletonList(ALICE));
+
+        assertTrue(predicate.test(ALICE));
+    }
+
+    @Test
+    public void toPredicate_indexUnchanged_doesNotUseFallback() {
+        index.add(ALICE);
+        index.add(BENSON);
+        Predicate<Garment> predicate = index.toPredicate(slots(0), unused -> true);
+
+        assertTrue(predicate.test(ALICE));
+        assertFalse(predicate.test(BENSON));
+    }
+
+    private static BitSet slots(int... indexes) {
+        BitSet bitSet = new BitSet();
+        for (int slot : indexes) {
+            bitSet.set(slot);
+        }
+        return bitSet;
+    }
+}
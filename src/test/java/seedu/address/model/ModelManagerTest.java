@@ -3,19 +3,31 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DRESSCODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_GARMENTS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalGarments.ALICE;
 import static seedu.address.testutil.TypicalGarments.BENSON;
+import static seedu.address.testutil.TypicalGarments.CARL;
+import static seedu.address.testutil.TypicalGarments.getTypicalGarments;
+import static seedu.address.testutil.TypicalGarments.getTypicalWardrobe;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.model.garment.AttributesContainsKeywordsPredicate;
+import seedu.address.model.garment.Garment;
 import seedu.address.model.garment.NameContainsKeywordsPredicate;
+import seedu.address.testutil.GarmentBuilder;
 import seedu.address.testutil.WardrobeBuilder;
 
 public class ModelManagerTest {
@@ -93,6 +105,23 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredGarmentList().remove(0));
     }
 
+    @Test
+    public void updateFilteredGarmentList_attributesPredicate_filtersUsingIndex() {
+        modelManager.setWardrobe(getTypicalWardrobe());
+        AttributesContainsKeywordsPredicate predicate = new AttributesContainsKeywordsPredicate(
+                ArgumentTokenizer.tokenize(" r/formal t/lower footwear", PREFIX_DRESSCODE, PREFIX_TYPE));
+        List<Garment> expectedGarments = getTypicalGarments().stream().filter(predicate).collect(Collectors.toList());
+
+        modelManager.updateFilteredGarmentList(predicate);
+        assertEquals(Arrays.asList(BENSON, CARL), expectedGarments);
+        assertEquals(expectedGarments, modelManager.getFilteredGarmentList());
+
+        // garments edited after the query are still filtered by the predicate
+        Garment casualBenson = new GarmentBuilder(BENSON).withDressCode("casual").build();
+        modelManager.setGarment(BENSON, casualBenson);
+        assertEquals(Collections.singletonList(CARL), modelManager.getFilteredGarmentList());
+    }
+
     @Test
     public void equals() {
         Wardrobe wardrobe = new WardrobeBuilder().withGarment(ALICE).withGarment(BENSON).build();
@@ -7,16 +7,21 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_DESCRIPTION_HUS
 import static seedu.address.logic.commands.CommandTestUtil.VALID_DRESSCODE_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalGarments.ALICE;
+import static seedu.address.testutil.TypicalGarments.BENSON;
+import static seedu.address.testutil.TypicalGarments.HOON;
 import static seedu.address.testutil.TypicalGarments.getTypicalWardrobe;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.garment.Garment;
 import seedu.address.model.garment.exceptions.DuplicateGarmentException;
@@ -82,6 +87,49 @@ public class WardrobeTest {
         assertTrue(wardrobe.hasGarment(editedAlice));
     }
 
+    @Test
+    public void updateData_fewGarmentsDiffer_changesOnlyThoseGarments() {
+        Wardrobe wardrobe = getTypicalWardrobe();
+        Wardrobe newData = getTypicalWardrobe();
+        Garment editedBenson = new GarmentBuilder(BENSON).withLastUse("2021-04-01").build();
+        newData.removeGarment(ALICE);
+        newData.setGarment(BENSON, editedBenson);
+        newData.addGarment(HOON);
+
+        List<Garment> removed = new ArrayList<>();
+        List<Garment> added = new ArrayList<>();
+        List<Integer> changeCount = new ArrayList<>();
+        wardrobe.getGarmentList().addListener((ListChangeListener<Garment>) change -> {
+            changeCount.add(1);
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+                added.addAll(change.getAddedSubList());
+            }
+        });
+        wardrobe.takeChanges();
+        wardrobe.updateData(newData);
+
+        assertEquals(new HashSet<>(newData.getGarmentList()), new HashSet<>(wardrobe.getGarmentList()));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON)), new HashSet<>(removed));
+        assertEquals(new HashSet<>(Arrays.asList(editedBenson, HOON)), new HashSet<>(added));
+        assertEquals(1, changeCount.size());
+        assertEquals(3, wardrobe.takeChanges().toChanges().stream()
+                .map(change -> change.getGarment().getName()).distinct().count());
+    }
+
+    @Test
+    public void takeChanges_copiedWardrobeChanged_returnsChangesSinceCopy() {
+        Wardrobe copy = new Wardrobe(getTypicalWardrobe());
+        assertTrue(copy.takeChanges().isEmpty());
+
+        copy.removeGarment(ALICE);
+        assertEquals(Collections.singletonList(GarmentChange.removed(ALICE)), copy.takeChanges().toChanges());
+        assertTrue(copy.takeChanges().isEmpty());
+
+        copy.resetData(getTypicalWardrobe());
+        assertTrue(copy.takeChanges().isReplaced());
+    }
+
     @Test
     public void getGarmentList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> wardrobe.getGarmentList().remove(0));
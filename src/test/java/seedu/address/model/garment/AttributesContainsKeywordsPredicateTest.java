@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.testutil.GarmentBuilder;
 
 public class AttributesContainsKeywordsPredicateTest {
 
@@ -44,6 +45,24 @@ public class AttributesContainsKeywordsPredicateTest {
         assertFalse(firstPredicate.equals(1));
     }
 
+    @Test
+    public void test_garmentMatchesEveryAttribute_returnsTrue() {
+        AttributesContainsKeywordsPredicate predicate = createPredicate(" n/aLIce s/23 c/RED black t/upper d/home");
+        assertTrue(predicate.test(new GarmentBuilder().withName("Alice Bob").withSize("23").withColour("black")
+                .withType("upper").withDescriptions("at home").build()));
+    }
+
+    @Test
+    public void test_garmentMissesOneAttribute_returnsFalse() {
+        AttributesContainsKeywordsPredicate predicate = createPredicate(" n/Alice r/casual");
+        assertFalse(predicate.test(new GarmentBuilder().withName("Alice Bob").withDressCode("formal").build()));
+    }
+
+    private AttributesContainsKeywordsPredicate createPredicate(String args) {
+        return new AttributesContainsKeywordsPredicate(ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_SIZE,
+                PREFIX_COLOUR, PREFIX_DRESSCODE, PREFIX_DESCRIPTION, PREFIX_TYPE));
+    }
+
     //check if sameprefix in argumentmultimap works
     /*@Test
     public void c() {
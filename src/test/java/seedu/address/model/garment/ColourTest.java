@@ -1,6 +1,9 @@
 package seedu.address.model.garment;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -22,4 +25,37 @@ public class ColourTest {
     public void isValidColour() {
         assertEquals(1, 1);
     }
+
+    @Test
+    public void constructor_mixedCase_storesSharedLowerCaseColour() {
+        assertSame(new Colour("blue").colour, new Colour("BLUE").colour);
+        assertEquals(new Colour("blue"), new Colour("Blue"));
+    }
+
+    @Test
+    public void matches() {
+        Colour red = new Colour("red");
+
+        // listed in the match table -> returns true
+        assertTrue(red.matches(new Colour("blue")));
+        assertTrue(red.matches(red));
+        assertTrue(new Colour("black").matches(red));
+
+        // not listed in the match table -> returns false
+        assertFalse(red.matches(new Colour("green")));
+
+        // matching is not symmetric
+        assertTrue(new Colour("beige").matches(new Colour("purple")));
+        assertFalse(new Colour("purple").matches(new Colour("beige")));
+    }
+
+    @Test
+    public void matches_agreesWithGetMatches() {
+        for (String first : Colour.COLOURARRAY) {
+            for (String second : Colour.COLOURARRAY) {
+                Colour colour = new Colour(first);
+                assertEquals(colour.getMatches().contains(second), colour.matches(new Colour(second)));
+            }
+        }
+    }
 }
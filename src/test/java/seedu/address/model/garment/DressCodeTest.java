@@ -1,5 +1,6 @@
 package seedu.address.model.garment;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -33,4 +34,20 @@ public class DressCodeTest {
         assertTrue(DressCode.isValidDressCode("CASUAL"));
         assertTrue(DressCode.isValidDressCode("ACTIVE")); // long address
     }
+
+    @Test
+    public void getLowerCaseValue() {
+        assertEquals("formal", new DressCode("FORMAL").getLowerCaseValue());
+        assertEquals("casual", new DressCode("casual").getLowerCaseValue());
+    }
+
+    @Test
+    public void matches() {
+        // same dresscode in any case -> returns true
+        assertTrue(new DressCode("formal").matches(new DressCode("FORMAL")));
+        assertTrue(new DressCode("ACTIVE").matches(new DressCode("ACTIVE")));
+
+        // different dresscode -> returns false
+        assertFalse(new DressCode("formal").matches(new DressCode("casual")));
+    }
 }
@@ -0,0 +1,84 @@
+package seedu.address.model.garment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalGarments.ALICE;
+import static seedu.address.testutil.TypicalGarments.BENSON;
+import static seedu.address.testutil.TypicalGarments.getTypicalGarments;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.GarmentIndex;
+import seedu.address.testutil.GarmentBuilder;
+
+public class GarmentMatchesPredicateTest {
+
+    @Test
+    public void equals() {
+        GarmentMatchesPredicate firstPredicate = new GarmentMatchesPredicate(ALICE);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new GarmentMatchesPredicate(ALICE)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different garment -> returns false
+        assertFalse(firstPredicate.equals(new GarmentMatchesPredicate(BENSON)));
+    }
+
+    @Test
+    public void test_matchingGarment_returnsTrue() {
+        GarmentMatchesPredicate predicate = new GarmentMatchesPredicate(new GarmentBuilder()
+                .withColour("red").withDressCode("casual").withType("upper").build());
+
+        assertTrue(predicate.test(new GarmentBuilder().withColour("blue").withDressCode("CASUAL")
+                .withType("lower").build()));
+        assertTrue(predicate.test(new GarmentBuilder().withColour("red").withDressCode("casual")
+                .withType("footwear").build()));
+    }
+
+    @Test
+    public void test_nonMatchingGarment_returnsFalse() {
+        GarmentMatchesPredicate predicate = new GarmentMatchesPredicate(new GarmentBuilder()
+                .withColour("red").withDressCode("casual").withType("upper").build());
+
+        // colour does not match
+        assertFalse(predicate.test(new GarmentBuilder().withColour("green").withDressCode("casual")
+                .withType("lower").build()));
+
+        // different dresscode
+        assertFalse(predicate.test(new GarmentBuilder().withColour("blue").withDressCode("formal")
+                .withType("lower").build()));
+
+        // same type
+        assertFalse(predicate.test(new GarmentBuilder().withColour("blue").withDressCode("casual")
+                .withType("upper").build()));
+    }
+
+    @Test
+    public void getMatchingSlots_agreesWithTest() {
+        List<Garment> garments = getTypicalGarments();
+        GarmentIndex index = new GarmentIndex();
+        index.reset(garments);
+
+        for (Garment garmentToMatch : garments) {
+            GarmentMatchesPredicate predicate = new GarmentMatchesPredicate(garmentToMatch);
+            BitSet expectedSlots = new BitSet();
+            for (int i = 0; i < garments.size(); i++) {
+                expectedSlots.set(i, predicate.test(garments.get(i)));
+            }
+            assertEquals(expectedSlots, predicate.getMatchingSlots(index));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.model.garment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+public class LastUseTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new LastUse((String) null));
+    }
+
+    @Test
+    public void constructor_invalidLastUse_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LastUse("2021-02-30"));
+    }
+
+    @Test
+    public void isValidLastUse() {
+        // invalid dates
+        assertFalse(LastUse.isValidLastUse("")); // empty string
+        assertFalse(LastUse.isValidLastUse("never")); // wrong case
+        assertFalse(LastUse.isValidLastUse("2021-13-01")); // invalid month
+        assertFalse(LastUse.isValidLastUse("21-03-01")); // short year
+
+        // valid dates
+        assertTrue(LastUse.isValidLastUse("Never"));
+        assertTrue(LastUse.isValidLastUse("2021-03-22"));
+    }
+
+    @Test
+    public void getEpochDay() {
+        assertEquals(LastUse.NEVER_EPOCH_DAY, new LastUse("Never").getEpochDay());
+        assertEquals(LocalDate.of(2021, 3, 22).toEpochDay(), new LastUse("2021-03-22").getEpochDay());
+        assertEquals(new LastUse("2021-03-22").getEpochDay(), new LastUse(LocalDate.of(2021, 3, 22)).getEpochDay());
+    }
+
+    @Test
+    public void equals() {
+        LastUse lastUse = new LastUse("2021-03-22");
+        assertTrue(lastUse.equals(new LastUse(LocalDate.of(2021, 3, 22))));
+        assertFalse(lastUse.equals(new LastUse("Never")));
+        assertFalse(lastUse.equals(null));
+    }
+}
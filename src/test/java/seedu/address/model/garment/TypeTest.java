@@ -0,0 +1,40 @@
+package seedu.address.model.garment;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class TypeTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Type(null));
+    }
+
+    @Test
+    public void constructor_invalidType_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Type("hat"));
+    }
+
+    @Test
+    public void isValidType() {
+        assertFalse(Type.isValidType(""));
+        assertFalse(Type.isValidType("UPPER"));
+        assertTrue(Type.isValidType("upper"));
+        assertTrue(Type.isValidType("footwear"));
+    }
+
+    @Test
+    public void matches() {
+        Type upper = new Type("upper");
+
+        // different types -> returns true
+        assertTrue(upper.matches(new Type("lower")));
+        assertTrue(new Type("footwear").matches(upper));
+
+        // same type -> returns false
+        assertFalse(upper.matches(upper));
+    }
+}
@@ -9,12 +9,15 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalGarments.ALICE;
 import static seedu.address.testutil.TypicalGarments.BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.garment.exceptions.DuplicateGarmentException;
 import seedu.address.model.garment.exceptions.GarmentNotFoundException;
 import seedu.address.testutil.GarmentBuilder;
@@ -123,6 +126,20 @@ public class UniqueGarmentListTest {
         assertThrows(GarmentNotFoundException.class, () -> uniqueGarmentList.remove(ALICE));
     }
 
+    @Test
+    public void remove_garmentWithSameIdentityDifferentFields_throwsGarmentNotFoundException() {
+        uniqueGarmentList.add(ALICE);
+        Garment editedAlice = new GarmentBuilder(ALICE).withDressCode(VALID_DRESSCODE_BOB).build();
+        assertThrows(GarmentNotFoundException.class, () -> uniqueGarmentList.remove(editedAlice));
+    }
+
+    @Test
+    public void contains_garmentRemovedFromList_returnsFalse() {
+        uniqueGarmentList.add(ALICE);
+        uniqueGarmentList.remove(ALICE);
+        assertFalse(uniqueGarmentList.contains(ALICE));
+    }
+
     @Test
     public void remove_existingGarment_removesGarment() {
         uniqueGarmentList.add(ALICE);
@@ -166,9 +183,171 @@ public class UniqueGarmentListTest {
         assertThrows(DuplicateGarmentException.class, () -> uniqueGarmentList.setGarments(listWithDuplicateGarments));
     }
 
+    @Test
+    public void add_garmentsWithDifferentLastUse_keepsLastUseOrder() {
+        Garment worn = new GarmentBuilder(ALICE).withLastUse("2021-04-01").build();
+        Garment neverWorn = new GarmentBuilder(BOB).withLastUse("Never").build();
+        uniqueGarmentList.add(worn);
+        uniqueGarmentList.add(neverWorn);
+        assertEquals(Arrays.asList(neverWorn, worn), uniqueGarmentList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setGarment_lastUseChanged_movesGarmentWithSingleChange() {
+        Garment worn = new GarmentBuilder(BOB).withLastUse("2021-04-01").build();
+        uniqueGarmentList.add(ALICE);
+        uniqueGarmentList.add(worn);
+        List<Integer> changeCount = new ArrayList<>();
+        uniqueGarmentList.asUnmodifiableObservableList().addListener((ListChangeListener<Garment>) change ->
+                changeCount.add(1));
+
+        Garment wornAlice = new GarmentBuilder(ALICE).withLastUse("2021-05-01").build();
+        uniqueGarmentList.setGarment(ALICE, wornAlice);
+        assertEquals(Arrays.asList(worn, wornAlice), uniqueGarmentList.asUnmodifiableObservableList());
+        assertEquals(2, changeCount.size()); // one removal and one insertion, no permutation
+    }
+
+    @Test
+    public void batchUpdate_severalChanges_reportsSingleChange() {
+        uniqueGarmentList.add(ALICE);
+        List<ListChangeListener.Change<? extends Garment>> changes = new ArrayList<>();
+        uniqueGarmentList.asUnmodifiableObservableList().addListener((ListChangeListener<Garment>) changes::add);
+
+        Garment worn = new GarmentBuilder(BOB).withLastUse("2021-04-01").build();
+        Garment neverWorn = new GarmentBuilder().withName("Never Worn").withLastUse("Never").build();
+        uniqueGarmentList.batchUpdate(() -> {
+            uniqueGarmentList.add(worn);
+            uniqueGarmentList.add(neverWorn);
+            uniqueGarmentList.remove(ALICE);
+        });
+
+        assertEquals(Arrays.asList(neverWorn, worn), uniqueGarmentList.asUnmodifiableObservableList());
+        assertEquals(1, changes.size());
+        List<Garment> removed = new ArrayList<>();
+        List<Garment> added = new ArrayList<>();
+        ListChangeListener.Change<? extends Garment> change = changes.get(0);
+        while (change.next()) {
+            removed.addAll(change.getRemoved());
+            added.addAll(change.getAddedSubList());
+        }
+        assertEquals(Collections.singletonList(ALICE), removed);
+        assertEquals(Arrays.asList(neverWorn, worn), added);
+    }
+
+    @Test
+    public void batchUpdate_updatesFail_reportsChangesMadeBeforeFailure() {
+        List<Integer> changeCount = new ArrayList<>();
+        uniqueGarmentList.asUnmodifiableObservableList().addListener((ListChangeListener<Garment>) change ->
+                changeCount.add(1));
+
+        assertThrows(DuplicateGarmentException.class, () -> uniqueGarmentList.batchUpdate(() -> {
+            uniqueGarmentList.add(ALICE);
+            uniqueGarmentList.add(ALICE);
+        }));
+        assertEquals(Collections.singletonList(ALICE), uniqueGarmentList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount.size());
+    }
+
+    @Test
+    public void setGarments_garmentSource_createsGarmentsWhenRead() {
+        CountingGarmentSource source = new CountingGarmentSource(ALICE, BOB);
+        uniqueGarmentList.setGarments(source);
+        assertEquals(2, uniqueGarmentList.asUnmodifiableObservableList().size());
+        assertEquals(0, source.createdCount);
+
+        assertEquals(BOB, uniqueGarmentList.asUnmodifiableObservableList().get(1));
+        uniqueGarmentList.asUnmodifiableObservableList().get(1);
+        assertEquals(1, source.createdCount);
+    }
+
+    @Test
+    public void setGarments_copyOfGarmentSource_createsGarmentsWhenRead() {
+        CountingGarmentSource source = new CountingGarmentSource(ALICE, BOB);
+        uniqueGarmentList.setGarments(source);
+        UniqueGarmentList copy = new UniqueGarmentList();
+        copy.setGarments(uniqueGarmentList);
+        assertEquals(0, source.createdCount);
+
+        assertEquals(Arrays.asList(ALICE, BOB), copy.asUnmodifiableObservableList());
+        assertEquals(2, source.createdCount);
+    }
+
+    @Test
+    public void setGarments_replacesGarmentSource_reportsRemovalWithoutCreatingGarments() {
+        CountingGarmentSource source = new CountingGarmentSource(ALICE, BOB);
+        uniqueGarmentList.setGarments(source);
+        uniqueGarmentList.asUnmodifiableObservableList().get(0);
+        List<List<? extends Garment>> removedLists = new ArrayList<>();
+        uniqueGarmentList.asUnmodifiableObservableList().addListener((ListChangeListener<Garment>) change -> {
+            while (change.next()) {
+                removedLists.add(change.getRemoved());
+            }
+        });
+
+        uniqueGarmentList.setGarments(Collections.emptyList());
+        assertEquals(1, removedLists.size());
+        assertEquals(2, removedLists.get(0).size());
+        assertEquals(1, source.createdCount);
+
+        // the removed garments are created from the source once read
+        assertEquals(Arrays.asList(ALICE, BOB), removedLists.get(0));
+        assertEquals(2, source.createdCount);
+    }
+
+    @Test
+    public void add_afterGarmentSource_keepsLastUseOrder() {
+        Garment worn = new GarmentBuilder(BOB).withLastUse("2021-04-01").build();
+        uniqueGarmentList.setGarments(new CountingGarmentSource(ALICE, worn));
+        assertTrue(uniqueGarmentList.contains(ALICE));
+
+        Garment neverWorn = new GarmentBuilder().withName("Never Worn").withLastUse("Never").build();
+        uniqueGarmentList.add(neverWorn);
+        assertEquals(Arrays.asList(neverWorn, ALICE, worn), uniqueGarmentList.asUnmodifiableObservableList());
+        assertThrows(DuplicateGarmentException.class, () -> uniqueGarmentList.add(ALICE));
+    }
+
+    @Test
+    public void contains_garmentSourceWithDuplicateNames_throwsDuplicateGarmentException() {
+        uniqueGarmentList.setGarments(new CountingGarmentSource(ALICE, new GarmentBuilder(ALICE).build()));
+        assertThrows(DuplicateGarmentException.class, () -> uniqueGarmentList.contains(BOB));
+    }
+
+    @Test
+    public void getGarmentSource_untilChanged_returnsSource() {
+        CountingGarmentSource source = new CountingGarmentSource(ALICE, BOB);
+        uniqueGarmentList.setGarments(source);
+        assertEquals(Optional.of(source), uniqueGarmentList.getGarmentSource());
+
+        uniqueGarmentList.setGarment(ALICE, new GarmentBuilder(ALICE).withSize("30").build());
+        assertFalse(uniqueGarmentList.getGarmentSource().isPresent());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniqueGarmentList.asUnmodifiableObservableList().remove(0));
     }
+
+    /**
+     * A source of the given garments that counts how many garments it has created.
+     */
+    private static class CountingGarmentSource implements GarmentSource {
+        private final List<Garment> garments;
+        private int createdCount;
+
+        CountingGarmentSource(Garment... garments) {
+            this.garments = Arrays.asList(garments);
+        }
+
+        @Override
+        public int size() {
+            return garments.size();
+        }
+
+        @Override
+        public Garment getGarment(int position) {
+            createdCount++;
+            return garments.get(position);
+        }
+    }
 }
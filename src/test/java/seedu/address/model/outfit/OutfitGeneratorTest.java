@@ -0,0 +1,115 @@
+package seedu.address.model.outfit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.garment.Colour;
+import seedu.address.model.garment.DressCode;
+import seedu.address.model.garment.Garment;
+import seedu.address.model.garment.LastUse;
+import seedu.address.model.garment.Type;
+import seedu.address.testutil.GarmentBuilder;
+
+public class OutfitGeneratorTest {
+
+    private static final Garment RED_SHIRT = new GarmentBuilder().withName("Red Shirt").withColour("red")
+            .withDressCode("casual").withType("upper").withLastUse("2021-03-01").build();
+    private static final Garment BLUE_JEANS = new GarmentBuilder().withName("Blue Jeans").withColour("blue")
+            .withDressCode("casual").withType("lower").withLastUse("2021-03-10").build();
+    private static final Garment GREEN_PANTS = new GarmentBuilder().withName("Green Pants").withColour("green")
+            .withDressCode("casual").withType("lower").build();
+    private static final Garment WHITE_SNEAKERS = new GarmentBuilder().withName("White Sneakers")
+            .withColour("white").withDressCode("CASUAL").withType("footwear").withLastUse("2021-02-01").build();
+    private static final Garment BLACK_SNEAKERS = new GarmentBuilder().withName("Black Sneakers")
+            .withColour("black").withDressCode("casual").withType("footwear").withLastUse("2021-03-20").build();
+    private static final Garment BLACK_BOOTS = new GarmentBuilder().withName("Black Boots").withColour("black")
+            .withDressCode("formal").withType("footwear").build();
+
+    @Test
+    public void generate_nonPositiveCount_throwsIllegalArgumentException() {
+        OutfitGenerator generator = new OutfitGenerator(Collections.emptyList());
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(0));
+    }
+
+    @Test
+    public void generate_missingType_returnsEmptyList() {
+        OutfitGenerator generator = new OutfitGenerator(Arrays.asList(RED_SHIRT, BLUE_JEANS));
+        assertTrue(generator.generate(5).isEmpty());
+    }
+
+    @Test
+    public void generate_compatibleGarments_returnsRankedOutfits() {
+        OutfitGenerator generator = new OutfitGenerator(Arrays.asList(RED_SHIRT, BLUE_JEANS, GREEN_PANTS,
+                WHITE_SNEAKERS, BLACK_SNEAKERS, BLACK_BOOTS));
+
+        // green does not match red, and the boots are formal
+        List<Outfit> expectedOutfits = Arrays.asList(new Outfit(RED_SHIRT, BLUE_JEANS, WHITE_SNEAKERS),
+                new Outfit(RED_SHIRT, BLUE_JEANS, BLACK_SNEAKERS));
+        assertEquals(expectedOutfits, generator.generate(5));
+        assertEquals(expectedOutfits.subList(0, 1), generator.generate(1));
+    }
+
+    @Test
+    public void generate_randomWardrobe_returnsSameOutfitsAsExhaustiveSearch() {
+        Random random = new Random(42);
+        List<Garment> garments = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            String lastUse = random.nextInt(5) == 0
+                    ? LastUse.NEVER
+                    : LocalDate.of(2021, 1, 1).plusDays(random.nextInt(20)).toString();
+            garments.add(new GarmentBuilder().withName("Garment " + i)
+                    .withColour(Colour.COLOURARRAY[random.nextInt(Colour.COLOURARRAY.length)])
+                    .withDressCode(DressCode.DRESSCODES.get(random.nextInt(DressCode.DRESSCODES.size())))
+                    .withType(Type.TYPES.get(random.nextInt(Type.TYPES.size())))
+                    .withLastUse(lastUse).build());
+        }
+
+        List<Outfit> allOutfits = getAllOutfits(garments);
+        allOutfits.sort(OutfitGenerator.RANKING);
+        for (int parallelism : new int[] {1, 4}) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            OutfitGenerator generator = new OutfitGenerator(garments, pool);
+            for (int count : new int[] {1, 7, 50, allOutfits.size() + 1}) {
+                assertEquals(allOutfits.subList(0, Math.min(count, allOutfits.size())), generator.generate(count));
+            }
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Returns every outfit that can be made of {@code garments}, found by trying every combination.
+     */
+    private static List<Outfit> getAllOutfits(List<Garment> garments) {
+        List<Outfit> outfits = new ArrayList<>();
+        for (Garment upper : garments) {
+            for (Garment lower : garments) {
+                for (Garment footwear : garments) {
+                    if (upper.getType().value.equals("upper") && lower.getType().value.equals("lower")
+                            && footwear.getType().value.equals("footwear")
+                            && areCompatible(upper, lower) && areCompatible(upper, footwear)
+                            && areCompatible(lower, footwear)) {
+                        outfits.add(new Outfit(upper, lower, footwear));
+                    }
+                }
+            }
+        }
+        return outfits;
+    }
+
+    private static boolean areCompatible(Garment first, Garment second) {
+        return first.getDressCode().matches(second.getDressCode())
+                && first.getColour().getMatches().contains(second.getColour().colour)
+                && second.getColour().getMatches().contains(first.getColour().colour);
+    }
+}
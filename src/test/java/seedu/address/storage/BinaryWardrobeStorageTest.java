@@ -0,0 +1,179 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalGarments.ALICE;
+import static seedu.address.testutil.TypicalGarments.HOON;
+import static seedu.address.testutil.TypicalGarments.getTypicalWardrobe;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyWardrobe;
+import seedu.address.model.Wardrobe;
+import seedu.address.testutil.GarmentBuilder;
+
+public class BinaryWardrobeStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readWardrobe_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryWardrobeStorage(testFolder.resolve("wardrobe.bin")).readWardrobe(null));
+    }
+
+    @Test
+    public void readWardrobe_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryWardrobeStorage(testFolder.resolve("wardrobe.bin")).readWardrobe().isPresent());
+    }
+
+    @Test
+    public void readAndSaveWardrobe_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("wardrobe.bin");
+        BinaryWardrobeStorage storage = new BinaryWardrobeStorage(filePath);
+        Wardrobe original = getTypicalWardrobe();
+
+        storage.saveWardrobe(original);
+        assertEquals(original, new Wardrobe(storage.readWardrobe().get()));
+
+        // Modify data, including dates on either side of 1970 and a garment never used, and read back
+        original.addGarment(HOON);
+        original.removeGarment(ALICE);
+        original.addGarment(new GarmentBuilder().withName("Never Worn").withLastUse("Never").build());
+        original.addGarment(new GarmentBuilder().withName("Old Coat").withLastUse("1969-12-31").build());
+        storage.saveWardrobe(original);
+        ReadOnlyWardrobe readBack = storage.readWardrobe().get();
+        assertEquals(original, new Wardrobe(readBack));
+    }
+
+    @Test
+    public void saveWardrobe_typicalWardrobe_smallerThanJson() throws Exception {
+        Path binaryPath = testFolder.resolve("wardrobe.bin");
+        Path jsonPath = testFolder.resolve("wardrobe.json");
+        new BinaryWardrobeStorage(binaryPath).saveWardrobe(getTypicalWardrobe());
+        new JsonWardrobeStorage(jsonPath).saveWardrobe(getTypicalWardrobe());
+        assertTrue(Files.size(binaryPath) * 4 < Files.size(jsonPath));
+    }
+
+    @Test
+    public void readWardrobe_corruptedPayload_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("wardrobe.bin");
+        new BinaryWardrobeStorage(filePath).saveWardrobe(getTypicalWardrobe());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, () -> new BinaryWardrobeStorage(filePath).readWardrobe());
+    }
+
+    @Test
+    public void readWardrobe_unsupportedVersion_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("wardrobe.bin");
+        new BinaryWardrobeStorage(filePath).saveWardrobe(getTypicalWardrobe());
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES, BinaryWardrobeStorage.SCHEMA_VERSION + 1);
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, () -> new BinaryWardrobeStorage(filePath).readWardrobe());
+    }
+
+    @Test
+    public void readWardrobe_mapped_success() throws Exception {
+        Path filePath = testFolder.resolve("wardrobe.bin");
+        BinaryWardrobeStorage storage = new BinaryWardrobeStorage(filePath, true);
+        Wardrobe original = getTypicalWardrobe();
+        storage.saveWardrobe(original);
+        ReadOnlyWardrobe mapped = storage.readWardrobe().get();
+
+        // saving replaces the file, so the mapped wardrobe keeps reading what it was read from
+        Wardrobe changed = getTypicalWardrobe();
+        changed.removeGarment(ALICE);
+        storage.saveWardrobe(changed);
+        assertEquals(original, new Wardrobe(mapped));
+        assertEquals(changed, new Wardrobe(storage.readWardrobe().get()));
+    }
+
+    @Test
+    public void readWardrobe_mappedFromCopy_keepsReadingCopyAfterFileReplaced() throws Exception {
+        Path filePath = testFolder.resolve("wardrobe.bin");
+        // as on Windows, where a mapped file cannot be replaced
+        BinaryWardrobeStorage storage = new BinaryWardrobeStorage(filePath, true, false);
+        Wardrobe original = getTypicalWardrobe();
+        storage.saveWardrobe(original);
+        ReadOnlyWardrobe copied = storage.readWardrobe().get();
+
+        Files.write(filePath, new byte[] {1, 2, 3});
+        assertEquals(original, new Wardrobe(copied));
+    }
+
+    @Test
+    public void readWardrobe_mappedWithoutOffsetTable_readInFull() throws Exception {
+        Path filePath = testFolder.resolve("wardrobe.bin");
+        new BinaryWardrobeStorage(filePath).saveWardrobe(getTypicalWardrobe());
+
+        // rewrite the file as schema version 1, which has no offset table
+        byte[] bytes = Files.readAllBytes(filePath);
+        int headerLength = bytes.length - (int) ByteBuffer.wrap(bytes).getLong(2 * Integer.BYTES);
+        int payloadLength = bytes.length - headerLength - getTypicalWardrobe().getGarmentList().size() * Integer.BYTES;
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes, headerLength, payloadLength);
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES, 1).putLong(2 * Integer.BYTES, payloadLength)
+                .putInt(headerLength - Integer.BYTES, (int) checksum.getValue());
+        Files.write(filePath, Arrays.copyOf(bytes, headerLength + payloadLength));
+
+        BinaryWardrobeStorage storage = new BinaryWardrobeStorage(filePath, true);
+        assertEquals(getTypicalWardrobe(), new Wardrobe(storage.readWardrobe().get()));
+    }
+
+    @Test
+    public void readWardrobe_mappedCorruptedPayload_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("wardrobe.bin");
+        new BinaryWardrobeStorage(filePath).saveWardrobe(getTypicalWardrobe());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, () -> new BinaryWardrobeStorage(filePath, true).readWardrobe());
+    }
+
+    @Test
+    public void readWardrobe_mappedDuplicateNames_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("wardrobe.bin");
+        Wardrobe wardrobe = new Wardrobe();
+        wardrobe.addGarment(new GarmentBuilder().withName("Coat A").build());
+        wardrobe.addGarment(new GarmentBuilder().withName("Coat B").build());
+        new BinaryWardrobeStorage(filePath).saveWardrobe(wardrobe);
+
+        // rename the second coat after the first, keeping the checksum valid
+        byte[] bytes = Files.readAllBytes(filePath);
+        int headerLength = bytes.length - (int) ByteBuffer.wrap(bytes).getLong(2 * Integer.BYTES);
+        int renamed = new String(bytes, UTF_8).indexOf("Coat B");
+        bytes[renamed + "Coat ".length()] = 'A';
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes, headerLength, bytes.length - headerLength);
+        ByteBuffer.wrap(bytes).putInt(headerLength - Integer.BYTES, (int) checksum.getValue());
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, () -> new BinaryWardrobeStorage(filePath, true).readWardrobe());
+    }
+
+    @Test
+    public void readWardrobe_jsonFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("wardrobe.bin");
+        new JsonWardrobeStorage(filePath).saveWardrobe(getTypicalWardrobe());
+
+        assertThrows(DataConversionException.class, () -> new BinaryWardrobeStorage(filePath).readWardrobe());
+    }
+}
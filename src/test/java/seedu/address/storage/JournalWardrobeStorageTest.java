@@ -0,0 +1,247 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalGarments.ALICE;
+import static seedu.address.testutil.TypicalGarments.BENSON;
+import static seedu.address.testutil.TypicalGarments.CARL;
+import static seedu.address.testutil.TypicalGarments.DANIEL;
+import static seedu.address.testutil.TypicalGarments.HOON;
+import static seedu.address.testutil.TypicalGarments.IDA;
+import static seedu.address.testutil.TypicalGarments.getTypicalWardrobe;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.GarmentChange;
+import seedu.address.model.Wardrobe;
+import seedu.address.testutil.GarmentBuilder;
+
+public class JournalWardrobeStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+    private Path compactingJournalPath;
+    private final List<Runnable> scheduledCompactions = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("wardrobe.json");
+        journalPath = JournalWardrobeStorage.getJournalFilePath(filePath);
+        compactingJournalPath = JournalWardrobeStorage.getCompactingJournalFilePath(filePath);
+    }
+
+    @Test
+    public void readWardrobe_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournalWardrobeStorage(filePath).readWardrobe(null));
+    }
+
+    @Test
+    public void readWardrobe_missingFiles_emptyResult() throws Exception {
+        JournalWardrobeStorage storage = new JournalWardrobeStorage(filePath);
+        assertFalse(storage.readWardrobe().isPresent());
+        assertFalse(storage.canSaveWardrobeChanges());
+    }
+
+    @Test
+    public void saveWardrobeChanges_notReadOrSaved_throwsUnsupportedOperationException() {
+        JournalWardrobeStorage storage = new JournalWardrobeStorage(filePath);
+        assertThrows(UnsupportedOperationException.class, () ->
+                storage.saveWardrobeChanges(Arrays.asList(GarmentChange.added(HOON))));
+    }
+
+    @Test
+    public void saveWardrobeChanges_afterSave_appendsRecordsAndReadsBack() throws Exception {
+        JournalWardrobeStorage storage = new JournalWardrobeStorage(filePath);
+        Wardrobe wardrobe = getTypicalWardrobe();
+        storage.saveWardrobe(wardrobe);
+        assertTrue(storage.canSaveWardrobeChanges());
+
+        wardrobe.takeChanges();
+        wardrobe.addGarment(HOON);
+        wardrobe.removeGarment(ALICE);
+        wardrobe.setGarment(BENSON, new GarmentBuilder(BENSON).withLastUse("2021-04-01").build());
+        wardrobe.setGarment(CARL, new GarmentBuilder(CARL).withDressCode("casual").build());
+        storage.saveWardrobeChanges(wardrobe.takeChanges().toChanges());
+
+        // the snapshot is left as it was, and each change takes one line of the journal after its header
+        assertEquals(getTypicalWardrobe(), new Wardrobe(new JsonWardrobeStorage(filePath).readWardrobe().get()));
+        List<String> records = Files.readAllLines(journalPath, UTF_8);
+        assertEquals(5, records.size());
+        assertTrue(records.get(0).contains("\"snapshots\""));
+        assertTrue(records.get(1).contains("\"op\":\"add\""));
+        assertTrue(records.get(2).contains("\"op\":\"delete\""));
+        assertTrue(records.get(3).contains("\"op\":\"select\""));
+        assertTrue(records.get(4).contains("\"op\":\"edit\""));
+
+        assertEquals(wardrobe, new Wardrobe(new JournalWardrobeStorage(filePath).readWardrobe().get()));
+    }
+
+    @Test
+    public void saveWardrobeChanges_binarySnapshot_appendsRecordsAndReadsBack() throws Exception {
+        Path binaryFilePath = testFolder.resolve("wardrobe" + BinaryWardrobeStorage.FILE_EXTENSION);
+        JournalWardrobeStorage storage = new JournalWardrobeStorage(binaryFilePath,
+                new BinaryWardrobeStorage(binaryFilePath, true));
+        Wardrobe wardrobe = getTypicalWardrobe();
+        storage.saveWardrobe(wardrobe);
+
+        wardrobe.takeChanges();
+        wardrobe.addGarment(HOON);
+        wardrobe.removeGarment(ALICE);
+        storage.saveWardrobeChanges(wardrobe.takeChanges().toChanges());
+
+        assertEquals(getTypicalWardrobe(), new Wardrobe(new BinaryWardrobeStorage(binaryFilePath)
+                .readWardrobe().get()));
+        assertEquals(3, Files.readAllLines(JournalWardrobeStorage.getJournalFilePath(binaryFilePath), UTF_8).size());
+        assertEquals(wardrobe, new Wardrobe(new JournalWardrobeStorage(binaryFilePath,
+                new BinaryWardrobeStorage(binaryFilePath, true)).readWardrobe().get()));
+    }
+
+    @Test
+    public void readWardrobe_mappedSnapshotWithJournal_replaysOverUncreatedGarments() throws Exception {
+        Path binaryFilePath = testFolder.resolve("wardrobe" + BinaryWardrobeStorage.FILE_EXTENSION);
+        JournalWardrobeStorage storage = new JournalWardrobeStorage(binaryFilePath,
+                new BinaryWardrobeStorage(binaryFilePath, true));
+        Wardrobe wardrobe = getTypicalWardrobe();
+        storage.saveWardrobe(wardrobe);
+
+        wardrobe.takeChanges();
+        wardrobe.addGarment(HOON);
+        wardrobe.removeGarment(ALICE);
+        wardrobe.setGarment(BENSON, new GarmentBuilder(BENSON).withLastUse("2021-04-01").build());
+        wardrobe.setGarment(CARL, new GarmentBuilder(CARL).withDressCode("casual").build());
+        wardrobe.removeGarment(DANIEL);
+        storage.saveWardrobeChanges(wardrobe.takeChanges().toChanges());
+        wardrobe.addGarment(DANIEL);
+        storage.saveWardrobeChanges(wardrobe.takeChanges().toChanges());
+
+        Wardrobe readBack = (Wardrobe) new JournalWardrobeStorage(binaryFilePath,
+                new BinaryWardrobeStorage(binaryFilePath, true)).readWardrobe().get();
+        assertTrue(readBack.getGarmentSource().isPresent());
+        // garments are in the same order as in the wardrobe the changes were made to
+        assertEquals(wardrobe.getGarmentList(), readBack.getGarmentList());
+    }
+
+    @Test
+    public void saveWardrobe_afterChanges_replacesSnapshotAndDiscardsJournal() throws Exception {
+        JournalWardrobeStorage storage = new JournalWardrobeStorage(filePath);
+        Wardrobe wardrobe = getTypicalWardrobe();
+        storage.saveWardrobe(wardrobe);
+        storage.saveWardrobeChanges(Arrays.asList(GarmentChange.added(HOON)));
+
+        storage.saveWardrobe(wardrobe);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(wardrobe, new Wardrobe(new JournalWardrobeStorage(filePath).readWardrobe().get()));
+    }
+
+    @Test
+    public void saveWardrobeChanges_pastThreshold_compactsInBackground() throws Exception {
+        JournalWardrobeStorage storage = new JournalWardrobeStorage(filePath, 1, scheduledCompactions::add);
+        Wardrobe wardrobe = getTypicalWardrobe();
+        storage.saveWardrobe(wardrobe);
+
+        wardrobe.takeChanges();
+        wardrobe.addGarment(HOON);
+        storage.saveWardrobeChanges(wardrobe.takeChanges().toChanges());
+        assertEquals(1, scheduledCompactions.size());
+        assertTrue(Files.exists(compactingJournalPath));
+        assertFalse(Files.exists(journalPath));
+
+        // changes made while compacting go to a new journal
+        wardrobe.addGarment(IDA);
+        storage.saveWardrobeChanges(wardrobe.takeChanges().toChanges());
+        assertEquals(1, scheduledCompactions.size());
+        assertEquals(wardrobe, new Wardrobe(new JournalWardrobeStorage(filePath).readWardrobe().get()));
+
+        scheduledCompactions.get(0).run();
+        assertFalse(Files.exists(compactingJournalPath));
+        Wardrobe expectedSnapshot = getTypicalWardrobe();
+        expectedSnapshot.addGarment(HOON);
+        assertEquals(expectedSnapshot, new Wardrobe(new JsonWardrobeStorage(filePath).readWardrobe().get()));
+        assertEquals(wardrobe, new Wardrobe(new JournalWardrobeStorage(filePath).readWardrobe().get()));
+    }
+
+    @Test
+    public void saveWardrobe_duringCompaction_compactionDiscarded() throws Exception {
+        JournalWardrobeStorage storage = new JournalWardrobeStorage(filePath, 1, scheduledCompactions::add);
+        storage.saveWardrobe(getTypicalWardrobe());
+        storage.saveWardrobeChanges(Arrays.asList(GarmentChange.added(HOON)));
+
+        Wardrobe wardrobe = new Wardrobe();
+        wardrobe.addGarment(IDA);
+        storage.saveWardrobe(wardrobe);
+        scheduledCompactions.get(0).run();
+        assertEquals(wardrobe, new Wardrobe(new JournalWardrobeStorage(filePath).readWardrobe().get()));
+    }
+
+    @Test
+    public void readWardrobe_partlyWrittenLastRecord_skipsRecordAndRewritesOnNextSave() throws Exception {
+        JournalWardrobeStorage storage = new JournalWardrobeStorage(filePath);
+        storage.saveWardrobe(getTypicalWardrobe());
+        storage.saveWardrobeChanges(Arrays.asList(GarmentChange.added(HOON)));
+        Files.write(journalPath, "{\"op\":\"add\",\"gar".getBytes(UTF_8), StandardOpenOption.APPEND);
+
+        JournalWardrobeStorage reopened = new JournalWardrobeStorage(filePath);
+        Wardrobe expected = getTypicalWardrobe();
+        expected.addGarment(HOON);
+        assertEquals(expected, new Wardrobe(reopened.readWardrobe().get()));
+        assertFalse(reopened.canSaveWardrobeChanges());
+    }
+
+    @Test
+    public void readWardrobe_snapshotReplacedByAnotherProgram_discardsJournal() throws Exception {
+        JournalWardrobeStorage storage = new JournalWardrobeStorage(filePath);
+        storage.saveWardrobe(getTypicalWardrobe());
+        storage.saveWardrobeChanges(Arrays.asList(GarmentChange.added(HOON)));
+
+        Wardrobe replaced = new Wardrobe();
+        replaced.addGarment(IDA);
+        new JsonWardrobeStorage(filePath).saveWardrobe(replaced);
+
+        JournalWardrobeStorage reopened = new JournalWardrobeStorage(filePath);
+        assertEquals(replaced, new Wardrobe(reopened.readWardrobe().get()));
+        // the journal left behind is replaced by the next save
+        assertFalse(reopened.canSaveWardrobeChanges());
+    }
+
+    @Test
+    public void readWardrobe_compactedWithJournal_replaysJournalOverCompactedSnapshot() throws Exception {
+        JournalWardrobeStorage storage = new JournalWardrobeStorage(filePath, 1, scheduledCompactions::add);
+        storage.saveWardrobe(getTypicalWardrobe());
+        storage.saveWardrobeChanges(Arrays.asList(GarmentChange.added(HOON)));
+        storage.saveWardrobeChanges(Arrays.asList(GarmentChange.added(IDA)));
+        scheduledCompactions.get(0).run();
+
+        Wardrobe expected = getTypicalWardrobe();
+        expected.addGarment(HOON);
+        expected.addGarment(IDA);
+        JournalWardrobeStorage reopened = new JournalWardrobeStorage(filePath);
+        assertEquals(expected, new Wardrobe(reopened.readWardrobe().get()));
+        assertTrue(reopened.canSaveWardrobeChanges());
+    }
+
+    @Test
+    public void readWardrobe_invalidRecord_throwsDataConversionException() throws Exception {
+        JournalWardrobeStorage storage = new JournalWardrobeStorage(filePath);
+        storage.saveWardrobe(getTypicalWardrobe());
+        Files.write(journalPath, Arrays.asList("{\"op\":\"wear\",\"name\":\"Alice Pauline\"}",
+                "{\"op\":\"delete\",\"name\":\"Alice Pauline\"}"), UTF_8);
+
+        assertThrows(DataConversionException.class, () -> new JournalWardrobeStorage(filePath).readWardrobe());
+    }
+}
@@ -3,12 +3,20 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.Wardrobe;
 import seedu.address.testutil.TypicalGarments;
@@ -19,6 +27,13 @@ public class JsonSerializableWardrobeTest {
     private static final Path TYPICAL_GARMENTS_FILE = TEST_DATA_FOLDER.resolve("typicalGarmentsWardrobe.json");
     private static final Path INVALID_GARMENT_FILE = TEST_DATA_FOLDER.resolve("invalidGarmentWardrobe.json");
     private static final Path DUPLICATE_GARMENT_FILE = TEST_DATA_FOLDER.resolve("duplicateGarmentWardrobe.json");
+    private static final String DUPLICATE_GARMENT_MESSAGE = String.format(
+            ParallelGarmentConverter.MESSAGE_INVALID_GARMENTS, 1,
+            String.format(ParallelGarmentConverter.MESSAGE_INVALID_GARMENT, 2,
+                    String.format(ParallelGarmentConverter.MESSAGE_DUPLICATE_NAME, "Alice Pauline")));
+
+    @TempDir
+    public Path testFolder;
 
     @Test
     public void toModelType_typicalGarmentsFile_success() throws Exception {
@@ -40,8 +55,49 @@ public class JsonSerializableWardrobeTest {
     public void toModelType_duplicateGarments_throwsIllegalValueException() throws Exception {
         JsonSerializableWardrobe dataFromFile = JsonUtil.readJsonFile(DUPLICATE_GARMENT_FILE,
                 JsonSerializableWardrobe.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableWardrobe.MESSAGE_DUPLICATE_GARMENT,
-                dataFromFile::toModelType);
+        assertThrows(IllegalValueException.class, DUPLICATE_GARMENT_MESSAGE, dataFromFile::toModelType);
+    }
+
+    @Test
+    public void readWardrobe_typicalGarmentsFile_success() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(TYPICAL_GARMENTS_FILE)) {
+            assertEquals(TypicalGarments.getTypicalWardrobe(), JsonSerializableWardrobe.readWardrobe(parser));
+        }
+    }
+
+    @Test
+    public void readWardrobe_invalidGarmentFile_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(INVALID_GARMENT_FILE)) {
+            assertThrows(IllegalValueException.class, () -> JsonSerializableWardrobe.readWardrobe(parser));
+        }
+    }
+
+    @Test
+    public void readWardrobe_duplicateGarments_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(DUPLICATE_GARMENT_FILE)) {
+            assertThrows(IllegalValueException.class, DUPLICATE_GARMENT_MESSAGE, () ->
+                    JsonSerializableWardrobe.readWardrobe(parser));
+        }
+    }
+
+    @Test
+    public void readWardrobe_notWardrobeObject_throwsJsonParseException() throws Exception {
+        Path notWardrobeFile = testFolder.resolve("notWardrobe.json");
+        FileUtil.writeToFile(notWardrobeFile, "{ \"garments\" : { \"name\" : \"Alice Pauline\" } }");
+        try (JsonParser parser = JsonUtil.createParser(notWardrobeFile)) {
+            assertThrows(JsonParseException.class, () -> JsonSerializableWardrobe.readWardrobe(parser));
+        }
+    }
+
+    @Test
+    public void writeWardrobe_typicalGarments_readableAsSerializableWardrobe() throws Exception {
+        Path filePath = testFolder.resolve("wardrobe.json");
+        try (OutputStream output = Files.newOutputStream(filePath);
+                JsonGenerator generator = JsonUtil.createGenerator(output)) {
+            JsonSerializableWardrobe.writeWardrobe(TypicalGarments.getTypicalWardrobe(), generator);
+        }
+        JsonSerializableWardrobe dataFromFile = JsonUtil.readJsonFile(filePath, JsonSerializableWardrobe.class).get();
+        assertEquals(TypicalGarments.getTypicalWardrobe(), dataFromFile.toModelType());
     }
 
 }
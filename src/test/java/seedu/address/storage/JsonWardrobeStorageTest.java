@@ -9,6 +9,7 @@ import static seedu.address.testutil.TypicalGarments.IDA;
 import static seedu.address.testutil.TypicalGarments.getTypicalWardrobe;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.ReadOnlyWardrobe;
 import seedu.address.model.Wardrobe;
 
@@ -86,6 +88,22 @@ public class JsonWardrobeStorageTest {
 
     }
 
+    @Test
+    public void saveWardrobe_existingFile_keepsBackupAndNoTempFile() throws Exception {
+        Path filePath = testFolder.resolve("TempWardrobe.json");
+        JsonWardrobeStorage jsonWardrobeStorage = new JsonWardrobeStorage(filePath);
+        Wardrobe original = getTypicalWardrobe();
+        jsonWardrobeStorage.saveWardrobe(original);
+
+        Wardrobe changed = getTypicalWardrobe();
+        changed.removeGarment(ALICE);
+        jsonWardrobeStorage.saveWardrobe(changed);
+        assertEquals(changed, new Wardrobe(jsonWardrobeStorage.readWardrobe().get()));
+        assertEquals(original, new Wardrobe(jsonWardrobeStorage.readWardrobe(
+                FileUtil.getBackupFilePath(filePath)).get()));
+        assertFalse(Files.exists(FileUtil.getTempFilePath(filePath)));
+    }
+
     @Test
     public void saveWardrobe_nullWardrobe_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveWardrobe(null, "SomeFile.json"));
@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalGarments.ALICE;
+import static seedu.address.testutil.TypicalGarments.BENSON;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.garment.Garment;
+import seedu.address.model.garment.Name;
+import seedu.address.testutil.GarmentBuilder;
+
+public class ParallelGarmentConverterTest {
+
+    @Test
+    public void getGarments_manyChunks_returnsGarmentsInOrder() throws Exception {
+        List<Garment> expectedGarments = new ArrayList<>();
+        ParallelGarmentConverter converter = new ParallelGarmentConverter();
+        for (int i = 0; i < 2 * ParallelGarmentConverter.CHUNK_SIZE + 1; i++) {
+            Garment garment = new GarmentBuilder(ALICE).withName("Garment " + i).build();
+            expectedGarments.add(garment);
+            converter.add(new JsonAdaptedGarment(garment));
+        }
+        assertEquals(expectedGarments, converter.getGarments());
+    }
+
+    @Test
+    public void getGarments_noGarments_returnsEmptyList() throws Exception {
+        assertEquals(Collections.emptyList(), new ParallelGarmentConverter().getGarments());
+    }
+
+    @Test
+    public void getGarments_invalidAndDuplicateGarments_reportsEveryProblem() {
+        JsonAdaptedGarment invalidGarment = new JsonAdaptedGarment("R@chel", "24", "blue", "FORMAL", "upper",
+                new ArrayList<>(), "2021-03-22");
+        ParallelGarmentConverter converter = new ParallelGarmentConverter();
+        converter.add(new JsonAdaptedGarment(ALICE));
+        converter.add(invalidGarment);
+        converter.add(new JsonAdaptedGarment(BENSON));
+        converter.add(new JsonAdaptedGarment(ALICE));
+        converter.add(invalidGarment);
+
+        String expectedMessage = String.format(ParallelGarmentConverter.MESSAGE_INVALID_GARMENTS, 3,
+                String.format(ParallelGarmentConverter.MESSAGE_INVALID_GARMENT, 2, Name.MESSAGE_CONSTRAINTS)
+                + String.format(ParallelGarmentConverter.MESSAGE_INVALID_GARMENT, 4,
+                        String.format(ParallelGarmentConverter.MESSAGE_DUPLICATE_NAME, ALICE.getName()))
+                + String.format(ParallelGarmentConverter.MESSAGE_INVALID_GARMENT, 5, Name.MESSAGE_CONSTRAINTS));
+        assertThrows(IllegalValueException.class, expectedMessage, converter::getGarments);
+    }
+
+    @Test
+    public void getGarments_manyInvalidGarments_reportsFirstProblemsOnly() {
+        JsonAdaptedGarment invalidGarment = new JsonAdaptedGarment("R@chel", "24", "blue", "FORMAL", "upper",
+                new ArrayList<>(), "2021-03-22");
+        int invalidCount = ParallelGarmentConverter.MAX_REPORTED_PROBLEMS + 5;
+        ParallelGarmentConverter converter = new ParallelGarmentConverter();
+        StringBuilder expectedProblems = new StringBuilder();
+        for (int i = 1; i <= invalidCount; i++) {
+            converter.add(invalidGarment);
+            if (i <= ParallelGarmentConverter.MAX_REPORTED_PROBLEMS) {
+                expectedProblems.append(String.format(ParallelGarmentConverter.MESSAGE_INVALID_GARMENT, i,
+                        Name.MESSAGE_CONSTRAINTS));
+            }
+        }
+        expectedProblems.append(String.format(ParallelGarmentConverter.MESSAGE_MORE_PROBLEMS, 5));
+
+        String expectedMessage = String.format(ParallelGarmentConverter.MESSAGE_INVALID_GARMENTS, invalidCount,
+                expectedProblems);
+        assertThrows(IllegalValueException.class, expectedMessage, converter::getGarments);
+    }
+}
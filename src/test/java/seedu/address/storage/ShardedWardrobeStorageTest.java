@@ -0,0 +1,202 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalGarments.ALICE;
+import static seedu.address.testutil.TypicalGarments.HOON;
+import static seedu.address.testutil.TypicalGarments.getTypicalWardrobe;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyWardrobe;
+import seedu.address.model.Wardrobe;
+import seedu.address.testutil.GarmentBuilder;
+
+public class ShardedWardrobeStorageTest {
+
+    private static final int SHARD_COUNT = 4;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private final AtomicInteger saveCount = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("wardrobe.json");
+    }
+
+    @Test
+    public void constructor_invalidShardCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, ShardedWardrobeStorage.MESSAGE_INVALID_SHARD_COUNT, () ->
+                new ShardedWardrobeStorage(filePath, 0, JsonWardrobeStorage::new));
+    }
+
+    @Test
+    public void getShardFilePath_keepsExtension() {
+        assertEquals(Paths.get("data", "wardrobe.shard-1-of-4.json"),
+                ShardedWardrobeStorage.getShardFilePath(Paths.get("data", "wardrobe.json"), 1, 4));
+        assertEquals(Paths.get("wardrobe.shard-0-of-2"),
+                ShardedWardrobeStorage.getShardFilePath(Paths.get("wardrobe"), 0, 2));
+        assertEquals(Paths.get("wardrobe.json"),
+                ShardedWardrobeStorage.getShardFilePath(Paths.get("wardrobe.json"), 0, 1));
+    }
+
+    @Test
+    public void readWardrobe_missingFiles_emptyResult() throws Exception {
+        assertFalse(new ShardedWardrobeStorage(filePath, SHARD_COUNT, JsonWardrobeStorage::new)
+                .readWardrobe().isPresent());
+    }
+
+    @Test
+    public void saveWardrobe_readBack_success() throws Exception {
+        ShardedWardrobeStorage storage = new ShardedWardrobeStorage(filePath, SHARD_COUNT, JsonWardrobeStorage::new);
+        Wardrobe original = getTypicalWardrobe();
+        storage.saveWardrobe(original);
+
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            assertTrue(Files.exists(ShardedWardrobeStorage.getShardFilePath(filePath, i, SHARD_COUNT)));
+        }
+        assertFalse(Files.exists(filePath));
+        assertSameGarments(original, new ShardedWardrobeStorage(filePath, SHARD_COUNT,
+                JsonWardrobeStorage::new).readWardrobe().get());
+    }
+
+    @Test
+    public void saveWardrobe_oneGarmentEdited_rewritesItsShardOnly() throws Exception {
+        ShardedWardrobeStorage storage = new ShardedWardrobeStorage(filePath, SHARD_COUNT, this::createCountingStorage);
+        Wardrobe wardrobe = getTypicalWardrobe();
+        storage.saveWardrobe(wardrobe);
+        assertEquals(SHARD_COUNT, saveCount.get());
+
+        storage.saveWardrobe(wardrobe);
+        assertEquals(SHARD_COUNT, saveCount.get());
+
+        wardrobe.setGarment(ALICE, new GarmentBuilder(ALICE).withDressCode("casual").build());
+        storage.saveWardrobe(wardrobe);
+        assertEquals(SHARD_COUNT + 1, saveCount.get());
+        assertSameGarments(wardrobe, new ShardedWardrobeStorage(filePath, SHARD_COUNT,
+                JsonWardrobeStorage::new).readWardrobe().get());
+    }
+
+    @Test
+    public void saveWardrobeChanges_journaledShards_appendsToShardOfGarment() throws Exception {
+        ShardedWardrobeStorage storage = new ShardedWardrobeStorage(filePath, SHARD_COUNT,
+                JournalWardrobeStorage::new);
+        Wardrobe wardrobe = getTypicalWardrobe();
+        assertFalse(storage.canSaveWardrobeChanges());
+        storage.saveWardrobe(wardrobe);
+        assertTrue(storage.canSaveWardrobeChanges());
+
+        wardrobe.takeChanges();
+        wardrobe.addGarment(HOON);
+        storage.saveWardrobeChanges(wardrobe.takeChanges().toChanges());
+
+        Path hoonShardPath = ShardedWardrobeStorage.getShardFilePath(filePath, storage.getShard(HOON.getName()),
+                SHARD_COUNT);
+        // the journal's header and one record
+        assertEquals(2, Files.readAllLines(JournalWardrobeStorage.getJournalFilePath(hoonShardPath), UTF_8).size());
+        assertSameGarments(wardrobe, new ShardedWardrobeStorage(filePath, SHARD_COUNT,
+                JournalWardrobeStorage::new).readWardrobe().get());
+    }
+
+    @Test
+    public void readWardrobe_corruptedShard_readsShardBackup() throws Exception {
+        ShardedWardrobeStorage storage = new ShardedWardrobeStorage(filePath, SHARD_COUNT, JsonWardrobeStorage::new);
+        storage.saveWardrobe(getTypicalWardrobe());
+        Wardrobe edited = getTypicalWardrobe();
+        edited.setGarment(ALICE, new GarmentBuilder(ALICE).withDressCode("casual").build());
+        storage.saveWardrobe(edited);
+
+        Path aliceShardPath = ShardedWardrobeStorage.getShardFilePath(filePath, storage.getShard(ALICE.getName()),
+                SHARD_COUNT);
+        Files.write(aliceShardPath, "not json".getBytes(UTF_8));
+
+        // only the edit kept in the corrupted shard is lost
+        assertSameGarments(getTypicalWardrobe(), new ShardedWardrobeStorage(filePath, SHARD_COUNT,
+                JsonWardrobeStorage::new).readWardrobe().get());
+    }
+
+    @Test
+    public void readWardrobe_unshardedFileOnly_readsUnshardedFile() throws Exception {
+        new JsonWardrobeStorage(filePath).saveWardrobe(getTypicalWardrobe());
+        ShardedWardrobeStorage storage = new ShardedWardrobeStorage(filePath, SHARD_COUNT, JsonWardrobeStorage::new);
+        ReadOnlyWardrobe wardrobe = storage.readWardrobe().get();
+        assertSameGarments(getTypicalWardrobe(), wardrobe);
+
+        storage.saveWardrobe(wardrobe);
+        assertFalse(Files.exists(filePath));
+        assertSameGarments(getTypicalWardrobe(), new ShardedWardrobeStorage(filePath, SHARD_COUNT,
+                JsonWardrobeStorage::new).readWardrobe().get());
+    }
+
+    @Test
+    public void readWardrobe_shardsOfOtherCountOnly_splitsAgainAndDeletesThem() throws Exception {
+        new ShardedWardrobeStorage(filePath, 2, JournalWardrobeStorage::new).saveWardrobe(getTypicalWardrobe());
+        ShardedWardrobeStorage storage = new ShardedWardrobeStorage(filePath, SHARD_COUNT,
+                JournalWardrobeStorage::new);
+        ReadOnlyWardrobe wardrobe = storage.readWardrobe().get();
+        assertSameGarments(getTypicalWardrobe(), wardrobe);
+
+        storage.saveWardrobe(wardrobe);
+        for (int i = 0; i < 2; i++) {
+            assertFalse(Files.exists(ShardedWardrobeStorage.getShardFilePath(filePath, i, 2)));
+        }
+        assertEquals(new HashSet<>(Arrays.asList(SHARD_COUNT)),
+                ShardedWardrobeStorage.getExistingShardCounts(filePath));
+        assertSameGarments(getTypicalWardrobe(), new ShardedWardrobeStorage(filePath, SHARD_COUNT,
+                JournalWardrobeStorage::new).readWardrobe().get());
+    }
+
+    @Test
+    public void readWardrobe_shardsOfSeveralOtherCounts_throwsDataConversionException() throws Exception {
+        new ShardedWardrobeStorage(filePath, 2, JsonWardrobeStorage::new).saveWardrobe(getTypicalWardrobe());
+        new JsonWardrobeStorage(filePath).saveWardrobe(getTypicalWardrobe());
+        assertThrows(DataConversionException.class, () ->
+                new ShardedWardrobeStorage(filePath, SHARD_COUNT, JsonWardrobeStorage::new).readWardrobe());
+    }
+
+    @Test
+    public void readWardrobe_missingShard_throwsDataConversionException() throws Exception {
+        ShardedWardrobeStorage storage = new ShardedWardrobeStorage(filePath, SHARD_COUNT, JsonWardrobeStorage::new);
+        storage.saveWardrobe(getTypicalWardrobe());
+        Files.delete(ShardedWardrobeStorage.getShardFilePath(filePath, 0, SHARD_COUNT));
+
+        assertThrows(DataConversionException.class, () ->
+                new ShardedWardrobeStorage(filePath, SHARD_COUNT, JsonWardrobeStorage::new).readWardrobe());
+    }
+
+    /**
+     * Asserts that {@code actual} holds the same garments as {@code expected}, in any order, as garments that tie in
+     * the wardrobe's order are not kept in the same order across shards.
+     */
+    private static void assertSameGarments(ReadOnlyWardrobe expected, ReadOnlyWardrobe actual) {
+        assertEquals(new HashSet<>(expected.getGarmentList()), new HashSet<>(actual.getGarmentList()));
+        assertEquals(expected.getGarmentList().size(), actual.getGarmentList().size());
+    }
+
+    private WardrobeStorage createCountingStorage(Path shardPath) {
+        return new JsonWardrobeStorage(shardPath) {
+            @Override
+            public void saveWardrobe(ReadOnlyWardrobe wardrobe, Path filePath) throws IOException {
+                super.saveWardrobe(wardrobe, filePath);
+                saveCount.incrementAndGet();
+            }
+        };
+    }
+}
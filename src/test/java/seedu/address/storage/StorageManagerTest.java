@@ -1,10 +1,14 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalGarments.getTypicalWardrobe;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashSet;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -65,4 +69,37 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getWardrobeFilePath());
     }
 
+    @Test
+    public void createWardrobeStorage_fileExtension_picksSnapshotFormat() throws Exception {
+        Wardrobe original = getTypicalWardrobe();
+
+        WardrobeStorage jsonStorage = StorageManager.createWardrobeStorage(getTempFilePath("wardrobe.json"));
+        assertTrue(jsonStorage instanceof JournalWardrobeStorage);
+        jsonStorage.saveWardrobe(original);
+        assertEquals(original, new Wardrobe(new JsonWardrobeStorage(jsonStorage.getWardrobeFilePath())
+                .readWardrobe().get()));
+
+        WardrobeStorage binaryStorage = StorageManager.createWardrobeStorage(getTempFilePath("wardrobe.bin"));
+        assertTrue(binaryStorage instanceof JournalWardrobeStorage);
+        binaryStorage.saveWardrobe(original);
+        assertEquals(original, new Wardrobe(new BinaryWardrobeStorage(binaryStorage.getWardrobeFilePath())
+                .readWardrobe().get()));
+    }
+
+    @Test
+    public void createWardrobeStorage_singleShardOfSplitWardrobe_putsShardsBackTogether() throws Exception {
+        Path filePath = getTempFilePath("wardrobe.json");
+        Wardrobe original = getTypicalWardrobe();
+        StorageManager.createWardrobeStorage(filePath, 2).saveWardrobe(original);
+
+        WardrobeStorage storage = StorageManager.createWardrobeStorage(filePath, 1);
+        ReadOnlyWardrobe wardrobe = storage.readWardrobe().get();
+        assertEquals(new HashSet<>(original.getGarmentList()), new HashSet<>(wardrobe.getGarmentList()));
+        storage.saveWardrobe(wardrobe);
+
+        assertFalse(Files.exists(ShardedWardrobeStorage.getShardFilePath(filePath, 0, 2)));
+        assertTrue(StorageManager.createWardrobeStorage(filePath, 1) instanceof JournalWardrobeStorage);
+        assertEquals(new Wardrobe(wardrobe), new Wardrobe(new JsonWardrobeStorage(filePath).readWardrobe().get()));
+    }
+
 }
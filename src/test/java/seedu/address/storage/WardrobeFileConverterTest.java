@@ -0,0 +1,40 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalGarments.getTypicalWardrobe;
+
+import java.io.FileNotFoundException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Wardrobe;
+
+public class WardrobeFileConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convert_missingSource_throwsFileNotFoundException() {
+        assertThrows(FileNotFoundException.class, () -> WardrobeFileConverter.convert(
+                testFolder.resolve("missing.json"), testFolder.resolve("wardrobe.bin")));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameWardrobe() throws Exception {
+        Path jsonPath = testFolder.resolve("wardrobe.json");
+        Path binaryPath = testFolder.resolve("wardrobe.bin");
+        Path convertedJsonPath = testFolder.resolve("converted.json");
+        new JsonWardrobeStorage(jsonPath).saveWardrobe(getTypicalWardrobe());
+
+        WardrobeFileConverter.convert(jsonPath, binaryPath);
+        assertEquals(getTypicalWardrobe(), new Wardrobe(new BinaryWardrobeStorage(binaryPath).readWardrobe().get()));
+
+        WardrobeFileConverter.convert(binaryPath, convertedJsonPath);
+        assertEquals(getTypicalWardrobe(),
+                new Wardrobe(new JsonWardrobeStorage(convertedJsonPath).readWardrobe().get()));
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.TypicalGarments.HOON;
+import static seedu.address.testutil.TypicalGarments.IDA;
+import static seedu.address.testutil.TypicalGarments.getTypicalWardrobe;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.ReadOnlyWardrobe;
+import seedu.address.model.Wardrobe;
+
+public class WardrobeFileWatcherTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private final List<Runnable> scheduledFlushes = new ArrayList<>();
+    private final BlockingQueue<ReadOnlyWardrobe> reloadedWardrobes = new LinkedBlockingQueue<>();
+    private WardrobeFileWatcher watcher;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("wardrobe.json");
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        if (watcher != null) {
+            watcher.close();
+        }
+    }
+
+    @Test
+    public void start_fileChangedByAnotherProgram_reloadsWardrobe() throws Exception {
+        JournalWardrobeStorage storage = new JournalWardrobeStorage(filePath);
+        WriteBehindWardrobeSaver saver = new WriteBehindWardrobeSaver(storage, Runnable::run);
+        watcher = new WardrobeFileWatcher(storage, saver, reloadedWardrobes::add, Runnable::run);
+        watcher.start();
+
+        Wardrobe changed = getTypicalWardrobe();
+        changed.addGarment(HOON);
+        new JsonWardrobeStorage(filePath).saveWardrobe(changed);
+
+        ReadOnlyWardrobe reloaded = reloadedWardrobes.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals(changed, new Wardrobe(reloaded));
+    }
+
+    @Test
+    public void start_fileChangedWhileSaving_reloadsOnceSaved() throws Exception {
+        JournalWardrobeStorage storage = new JournalWardrobeStorage(filePath);
+        WriteBehindWardrobeSaver saver = new WriteBehindWardrobeSaver(storage, scheduledFlushes::add);
+        watcher = new WardrobeFileWatcher(storage, saver, reloadedWardrobes::add, Runnable::run);
+        watcher.start();
+
+        saver.requestSave(getTypicalWardrobe());
+        Wardrobe changed = getTypicalWardrobe();
+        changed.addGarment(HOON);
+        new JsonWardrobeStorage(filePath).saveWardrobe(changed);
+
+        // the files are not read while a save is still to be written
+        assertNull(reloadedWardrobes.poll(WardrobeFileWatcher.SETTLE_DELAY_MILLIS * 4, TimeUnit.MILLISECONDS));
+
+        // once the save is written, the change is read even though the save recorded the files as its own
+        scheduledFlushes.get(0).run();
+        ReadOnlyWardrobe reloaded = reloadedWardrobes.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals(getTypicalWardrobe(), new Wardrobe(reloaded));
+    }
+
+    @Test
+    public void start_changesSavedBeforeReloadRuns_keepsFilesAndReloadedWardrobeTheSame() throws Exception {
+        JournalWardrobeStorage storage = new JournalWardrobeStorage(filePath);
+        WriteBehindWardrobeSaver saver = new WriteBehindWardrobeSaver(storage, Runnable::run);
+        BlockingQueue<Runnable> commandTasks = new LinkedBlockingQueue<>();
+        watcher = new WardrobeFileWatcher(storage, saver, reloadedWardrobes::add, commandTasks::add);
+        Wardrobe wardrobe = getTypicalWardrobe();
+        saver.requestSave(wardrobe);
+        wardrobe.takeChanges();
+        watcher.start();
+
+        Wardrobe changed = getTypicalWardrobe();
+        changed.addGarment(HOON);
+        new JsonWardrobeStorage(filePath).saveWardrobe(changed);
+        Runnable reload = commandTasks.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        // a command saves its changes after the change is noticed, and before the reload runs
+        wardrobe.addGarment(IDA);
+        saver.requestSave(wardrobe, wardrobe.takeChanges());
+        reload.run();
+
+        ReadOnlyWardrobe reloaded = reloadedWardrobes.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals(new Wardrobe(reloaded), new Wardrobe(storage.readWardrobe().get()));
+        assertEquals(new Wardrobe(reloaded), new Wardrobe(new JournalWardrobeStorage(filePath).readWardrobe().get()));
+    }
+
+    @Test
+    public void start_fileChangedByOwnSaves_doesNotReload() throws Exception {
+        // a threshold of one byte compacts the journal on every save of changes
+        JournalWardrobeStorage storage = new JournalWardrobeStorage(filePath, 1, Runnable::run);
+        WriteBehindWardrobeSaver saver = new WriteBehindWardrobeSaver(storage, Runnable::run);
+        watcher = new WardrobeFileWatcher(storage, saver, reloadedWardrobes::add, Runnable::run);
+        watcher.start();
+
+        Wardrobe wardrobe = getTypicalWardrobe();
+        saver.requestSave(wardrobe);
+        wardrobe.takeChanges();
+        wardrobe.addGarment(HOON);
+        saver.requestSave(wardrobe, wardrobe.takeChanges());
+
+        assertNull(reloadedWardrobes.poll(WardrobeFileWatcher.SETTLE_DELAY_MILLIS * 4, TimeUnit.MILLISECONDS));
+    }
+}
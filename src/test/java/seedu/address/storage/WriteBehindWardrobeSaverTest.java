@@ -0,0 +1,202 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalGarments.HOON;
+import static seedu.address.testutil.TypicalGarments.IDA;
+import static seedu.address.testutil.TypicalGarments.getTypicalWardrobe;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.ReadOnlyWardrobe;
+import seedu.address.model.Wardrobe;
+import seedu.address.model.garment.Garment;
+import seedu.address.testutil.GarmentBuilder;
+
+public class WriteBehindWardrobeSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final List<Runnable> scheduledFlushes = new ArrayList<>();
+
+    @Test
+    public void requestSave_burstOfChanges_savesLatestWardrobeOnce() throws Exception {
+        CountingWardrobeStorage storage = new CountingWardrobeStorage(testFolder.resolve("wardrobe.json"));
+        WriteBehindWardrobeSaver saver = new WriteBehindWardrobeSaver(storage, scheduledFlushes::add);
+        Wardrobe wardrobe = getTypicalWardrobe();
+
+        saver.requestSave(wardrobe);
+        wardrobe.addGarment(HOON);
+        saver.requestSave(wardrobe);
+        wardrobe.addGarment(IDA);
+        saver.requestSave(wardrobe);
+
+        assertEquals(1, scheduledFlushes.size());
+        assertEquals(0, storage.saveCount);
+        scheduledFlushes.get(0).run();
+        assertEquals(1, storage.saveCount);
+        assertEquals(wardrobe, new Wardrobe(storage.readWardrobe().get()));
+    }
+
+    @Test
+    public void requestSave_wardrobeChangedBeforeFlush_savesWardrobeAsRequested() throws Exception {
+        CountingWardrobeStorage storage = new CountingWardrobeStorage(testFolder.resolve("wardrobe.json"));
+        WriteBehindWardrobeSaver saver = new WriteBehindWardrobeSaver(storage, scheduledFlushes::add);
+        Wardrobe wardrobe = getTypicalWardrobe();
+
+        saver.requestSave(wardrobe);
+        wardrobe.addGarment(HOON);
+        scheduledFlushes.get(0).run();
+        assertEquals(getTypicalWardrobe(), new Wardrobe(storage.readWardrobe().get()));
+    }
+
+    @Test
+    public void flush_pendingSave_savesOnCallingThread() throws Exception {
+        CountingWardrobeStorage storage = new CountingWardrobeStorage(testFolder.resolve("wardrobe.json"));
+        WriteBehindWardrobeSaver saver = new WriteBehindWardrobeSaver(storage, scheduledFlushes::add);
+
+        saver.requestSave(getTypicalWardrobe());
+        saver.flush();
+        assertEquals(1, storage.saveCount);
+        assertEquals(getTypicalWardrobe(), new Wardrobe(storage.readWardrobe().get()));
+
+        // nothing is left for the scheduled flush to save
+        scheduledFlushes.get(0).run();
+        assertEquals(1, storage.saveCount);
+    }
+
+    @Test
+    public void flush_failedBackgroundSave_reportsFailureAndRetries() throws Exception {
+        CountingWardrobeStorage storage = new CountingWardrobeStorage(testFolder.resolve("wardrobe.json"));
+        storage.isFailing = true;
+        WriteBehindWardrobeSaver saver = new WriteBehindWardrobeSaver(storage, Runnable::run);
+
+        saver.requestSave(getTypicalWardrobe());
+        assertTrue(saver.getFailure().isPresent());
+        assertFalse(saver.getFailure().isPresent());
+        assertThrows(IOException.class, saver::flush);
+
+        storage.isFailing = false;
+        saver.close();
+        assertEquals(getTypicalWardrobe(), new Wardrobe(storage.readWardrobe().get()));
+    }
+
+    @Test
+    public void requestSave_backgroundSaveFails_retriesWithBackoffUntilSaved() throws Exception {
+        CountingWardrobeStorage storage = new CountingWardrobeStorage(testFolder.resolve("wardrobe.json"));
+        storage.isFailing = true;
+        List<Runnable> retries = new ArrayList<>();
+        List<Long> retryDelays = new ArrayList<>();
+        WriteBehindWardrobeSaver saver = new WriteBehindWardrobeSaver(storage, Runnable::run, (task, delay) -> {
+            retries.add(task);
+            retryDelays.add(delay);
+        });
+
+        saver.requestSave(getTypicalWardrobe());
+        retries.remove(0).run();
+        assertEquals(Arrays.asList(WriteBehindWardrobeSaver.INITIAL_RETRY_DELAY_MILLIS,
+                2 * WriteBehindWardrobeSaver.INITIAL_RETRY_DELAY_MILLIS), retryDelays);
+        assertFalse(saver.isIdle());
+
+        storage.isFailing = false;
+        retries.remove(0).run();
+        assertTrue(saver.isIdle());
+        assertTrue(retries.isEmpty());
+        assertEquals(getTypicalWardrobe(), new Wardrobe(storage.readWardrobe().get()));
+    }
+
+    @Test
+    public void requestSave_failedSaveWrittenBeforeRetry_retryDoesNothing() throws Exception {
+        CountingWardrobeStorage storage = new CountingWardrobeStorage(testFolder.resolve("wardrobe.json"));
+        storage.isFailing = true;
+        List<Runnable> retries = new ArrayList<>();
+        WriteBehindWardrobeSaver saver = new WriteBehindWardrobeSaver(storage, Runnable::run, (task, delay) ->
+                retries.add(task));
+
+        saver.requestSave(getTypicalWardrobe());
+        storage.isFailing = false;
+        saver.flush();
+        retries.remove(0).run();
+        assertEquals(1, storage.saveCount);
+        assertTrue(retries.isEmpty());
+    }
+
+    @Test
+    public void requestSave_storageSavesChanges_appendsCoalescedChangesWithoutSavingWardrobe() throws Exception {
+        JournalWardrobeStorage storage = new JournalWardrobeStorage(testFolder.resolve("wardrobe.json"));
+        WriteBehindWardrobeSaver saver = new WriteBehindWardrobeSaver(storage, scheduledFlushes::add);
+        Wardrobe wardrobe = getTypicalWardrobe();
+
+        // the first save is in full, as the storage does not yet hold the wardrobe
+        saver.requestSave(wardrobe, wardrobe.takeChanges());
+        saver.flush();
+
+        wardrobe.addGarment(HOON);
+        saver.requestSave(wardrobe, wardrobe.takeChanges());
+        Garment editedHoon = new GarmentBuilder(HOON).withLastUse("2021-04-01").build();
+        wardrobe.setGarment(HOON, editedHoon);
+        saver.requestSave(wardrobe, wardrobe.takeChanges());
+        wardrobe.addGarment(IDA);
+        saver.requestSave(wardrobe, wardrobe.takeChanges());
+        saver.flush();
+
+        // the garment added and then edited is appended once, as it was when flushed, after the journal's header
+        assertEquals(3, Files.readAllLines(JournalWardrobeStorage.getJournalFilePath(storage.getWardrobeFilePath()),
+                UTF_8).size());
+        assertEquals(getTypicalWardrobe(), new Wardrobe(new JsonWardrobeStorage(storage.getWardrobeFilePath())
+                .readWardrobe().get()));
+        assertEquals(wardrobe, new Wardrobe(new JournalWardrobeStorage(storage.getWardrobeFilePath())
+                .readWardrobe().get()));
+    }
+
+    @Test
+    public void requestSave_garmentsReplaced_savesWardrobeInFull() throws Exception {
+        JournalWardrobeStorage storage = new JournalWardrobeStorage(testFolder.resolve("wardrobe.json"));
+        WriteBehindWardrobeSaver saver = new WriteBehindWardrobeSaver(storage, scheduledFlushes::add);
+        Wardrobe wardrobe = getTypicalWardrobe();
+        saver.requestSave(wardrobe, wardrobe.takeChanges());
+        saver.flush();
+
+        wardrobe.setGarments(Collections.singletonList(HOON));
+        saver.requestSave(wardrobe, wardrobe.takeChanges());
+        saver.flush();
+
+        assertFalse(Files.exists(JournalWardrobeStorage.getJournalFilePath(storage.getWardrobeFilePath())));
+        assertEquals(wardrobe, new Wardrobe(new JsonWardrobeStorage(storage.getWardrobeFilePath())
+                .readWardrobe().get()));
+    }
+
+    /**
+     * A {@code JsonWardrobeStorage} that counts the saves it completes and can be made to fail them.
+     */
+    private static class CountingWardrobeStorage extends JsonWardrobeStorage {
+        private int saveCount;
+        private boolean isFailing;
+
+        private CountingWardrobeStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveWardrobe(ReadOnlyWardrobe wardrobe, Path filePath) throws IOException {
+            if (isFailing) {
+                throw new IOException("dummy exception");
+            }
+            super.saveWardrobe(wardrobe, filePath);
+            saveCount++;
+        }
+    }
+}
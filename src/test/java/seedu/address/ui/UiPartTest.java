@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.net.URL;
@@ -75,6 +76,17 @@ public class UiPartTest {
         assertThrows(AssertionError.class, () -> new TestUiPart<Object>(INVALID_FILE_PATH, new Object()));
     }
 
+    @Test
+    public void constructor_nullRoot_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TestUiPart<TestFxmlObject>((TestFxmlObject) null));
+    }
+
+    @Test
+    public void constructor_root_usesRootWithoutFile() {
+        TestFxmlObject root = new TestFxmlObject("Built in code");
+        assertSame(root, new TestUiPart<TestFxmlObject>(root).getRoot());
+    }
+
     private URL getTestFileUrl(String testFilePath) {
         String testFilePathInView = "/view/" + testFilePath;
         URL testFileUrl = MainApp.class.getResource(testFilePathInView);
@@ -109,6 +121,10 @@ public class UiPartTest {
             assertEquals(VALID_FILE_ROOT, validFileRoot);
         }
 
+        TestUiPart(T root) {
+            super(root);
+        }
+
     }
 
 }